@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.benchmarks;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.graphql.common.SyntheticSchemaGenerator;
+import io.ballerina.graphql.generator.client.DocumentStore;
+import io.ballerina.graphql.generator.client.generator.ballerina.ClientTypesGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the GraphQL schema and query documents a benchmark runs against. A fixture is either one of the SDLs of
+ * the CLI test resources along with its queries, or a synthetic schema of the given number of object types.
+ */
+@State(Scope.Benchmark)
+public class SchemaFixture {
+    private static final String SPECS_DIRECTORY_PROPERTY = "graphql.specs.dir";
+    private static final String SYNTHETIC_FIXTURE_PREFIX = "synthetic-";
+    private static final String SYNTHETIC_DOCUMENT_NAME = "queries.graphql";
+
+    @Param({"country", "fragments", "scalar", "synthetic-100", "synthetic-1000"})
+    public String fixture;
+
+    private GraphQLSchema schema;
+    private List<String> documents;
+    private DocumentStore documentStore;
+    private List<ExtendedOperationDefinition> operationDefinitions;
+    private List<String> objectTypeNames;
+    private List<String> inputObjectTypeNames;
+    private List<String> identifiers;
+    private SyntaxTree typesSyntaxTree;
+    private String typesSource;
+    private Path tempDirectory;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, FormatterException {
+        String sdl;
+        Path document;
+        if (fixture.startsWith(SYNTHETIC_FIXTURE_PREFIX)) {
+            int typeCount = Integer.parseInt(fixture.substring(SYNTHETIC_FIXTURE_PREFIX.length()));
+            tempDirectory = Files.createTempDirectory("graphql-benchmarks");
+            sdl = SyntheticSchemaGenerator.getSdl(typeCount);
+            document = tempDirectory.resolve(SYNTHETIC_DOCUMENT_NAME);
+            Files.writeString(document, SyntheticSchemaGenerator.getDocument(typeCount));
+        } else {
+            Path specsDirectory = Paths.get(System.getProperty(SPECS_DIRECTORY_PROPERTY));
+            sdl = Files.readString(specsDirectory.resolve(getSchemaFileName(fixture)));
+            document = specsDirectory.resolve(getDocumentFileName(fixture));
+        }
+        schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(sdl),
+                RuntimeWiring.MOCKED_WIRING);
+        documents = List.of(document.toString());
+        documentStore = new DocumentStore();
+        operationDefinitions = documentStore.getQueryReader(document.toString()).getExtendedOperationDefinitions();
+        objectTypeNames = SpecReader.getObjectTypeNames(schema);
+        inputObjectTypeNames = SpecReader.getInputObjectTypeNames(schema);
+        identifiers = new ArrayList<>();
+        for (String objectTypeName : objectTypeNames) {
+            identifiers.add(objectTypeName);
+            identifiers.addAll(SpecReader.getObjectTypeFieldsMap(schema, objectTypeName).keySet());
+        }
+        typesSyntaxTree = ClientTypesGenerator.getInstance().generateSyntaxTree(schema, documents, documentStore);
+        typesSource = Formatter.format(typesSyntaxTree).toSourceCode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (tempDirectory != null) {
+            Files.deleteIfExists(tempDirectory.resolve(SYNTHETIC_DOCUMENT_NAME));
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+
+    public GraphQLSchema getSchema() {
+        return schema;
+    }
+
+    public List<String> getDocuments() {
+        return documents;
+    }
+
+    public DocumentStore getDocumentStore() {
+        return documentStore;
+    }
+
+    public List<ExtendedOperationDefinition> getOperationDefinitions() {
+        return operationDefinitions;
+    }
+
+    public List<String> getObjectTypeNames() {
+        return objectTypeNames;
+    }
+
+    public List<String> getInputObjectTypeNames() {
+        return inputObjectTypeNames;
+    }
+
+    public List<String> getIdentifiers() {
+        return identifiers;
+    }
+
+    public SyntaxTree getTypesSyntaxTree() {
+        return typesSyntaxTree;
+    }
+
+    public String getTypesSource() {
+        return typesSource;
+    }
+
+    private static String getSchemaFileName(String fixture) {
+        switch (fixture) {
+            case "country":
+                return "schema.graphql";
+            case "fragments":
+                return "typesGenTests/country.graphql";
+            case "scalar":
+                return "schema-with-scalar.graphql";
+            default:
+                throw new IllegalArgumentException("Unknown benchmark fixture: " + fixture);
+        }
+    }
+
+    private static String getDocumentFileName(String fixture) {
+        switch (fixture) {
+            case "country":
+                return "queries/country-queries.graphql";
+            case "fragments":
+                return "queries/typesGenTests/fragment-examples.graphql";
+            case "scalar":
+                return "queries/scalar-queries.graphql";
+            default:
+                throw new IllegalArgumentException("Unknown benchmark fixture: " + fixture);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.benchmarks;
+
+import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the schema lookups of the `SpecReader` the client generators rely on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecReaderBenchmark {
+
+    @Benchmark
+    public void getObjectTypeFieldsMaps(SchemaFixture fixture, Blackhole blackhole) {
+        for (String objectTypeName : fixture.getObjectTypeNames()) {
+            blackhole.consume(SpecReader.getObjectTypeFieldsMap(fixture.getSchema(), objectTypeName));
+        }
+    }
+
+    @Benchmark
+    public void getInputTypeFieldsMaps(SchemaFixture fixture, Blackhole blackhole) {
+        for (String inputObjectTypeName : fixture.getInputObjectTypeNames()) {
+            blackhole.consume(SpecReader.getInputTypeFieldsMap(fixture.getSchema(), inputObjectTypeName));
+        }
+    }
+
+    @Benchmark
+    public void getTypeNames(SchemaFixture fixture, Blackhole blackhole) {
+        blackhole.consume(SpecReader.getObjectTypeNames(fixture.getSchema()));
+        blackhole.consume(SpecReader.getInputObjectTypeNames(fixture.getSchema()));
+        blackhole.consume(SpecReader.getEnumTypeNames(fixture.getSchema()));
+        blackhole.consume(SpecReader.getCustomScalarTypeNames(fixture.getSchema()));
+    }
+}
@@ -55,12 +55,43 @@ public class Constants {
             "project is configured with a file path for queries file location which does not exist. " +
             "\nPlease provide a valid file path for the schema section under each project in the YAML file. " +
             "\nInvalid file path ";
+    public static final String MESSAGE_FOR_INVALID_QUERY_METHOD = "The GraphQL configuration YAML file " +
+            "project is configured with an unsupported query method in the extensions section. " +
+            "\nPlease provide either GET or POST as the queryMethod under the extensions section of each project " +
+            "in the YAML file. \nInvalid query method ";
+    public static final String MESSAGE_FOR_INVALID_CACHE_CONFIG = "The GraphQL configuration YAML file " +
+            "project is configured with an invalid response cache in the extensions section. " +
+            "\nPlease provide a positive maxEntries and non-negative time-to-live values in seconds under the " +
+            "cache section of the extensions of each project in the YAML file. \nInvalid value of ";
     public static final String MESSAGE_MISSING_SCHEMA_FILE = "Provided Schema file \"%s\" does not exist.";
     public static final String MESSAGE_CAN_NOT_READ_SCHEMA_FILE =
             "Provided Schema file \"%s\" is not allowed to be read";
     public static final String MESSAGE_FOR_INVALID_MODE =
             "\"%s\" is not a supported argument for mode flag. The mode flag argument should be one of " +
                     "these \"client\", \"service\" or \"schema\"";
+    public static final String MESSAGE_FOR_PARALLEL_FLAG_MISUSE = "The parallel flag is only allowed to be used " +
+            "with a GraphQL configuration file with .yaml/.yml extension. Provided input file: \"%s\"";
+    public static final String MESSAGE_FOR_INVALID_PARALLELISM =
+            "\"%s\" is not a supported argument for parallel flag. The parallel flag argument should be a " +
+                    "positive number of worker threads";
+    public static final String MESSAGE_FOR_INVALID_CACHE_TTL =
+            "\"%s\" is not a supported argument for cache-ttl flag. The cache-ttl flag argument should be a " +
+                    "non-negative number of seconds";
+    public static final String MESSAGE_FOR_INVALID_CONCURRENCY =
+            "\"%s\" is not a supported argument for concurrency flag. The concurrency flag argument should be a " +
+                    "positive number of introspection requests";
+    public static final String MESSAGE_FOR_INVALID_TIMEOUT =
+            "\"%s\" is not a supported argument for %s flag. The %s flag argument should be a positive " +
+                    "number of seconds";
+    public static final String MESSAGE_FOR_INTROSPECTION_CACHE_SUMMARY =
+            "Introspection cache: %d hit(s), %d miss(es), %d revalidated";
+    public static final String MESSAGE_FOR_UNCHANGED_PROJECTS =
+            "Skipped %d unchanged project(s). Use the --force flag to regenerate them";
+    public static final String MESSAGE_FOR_GENERATED_FILES_SUMMARY =
+            "Generated files: %d written, %d unchanged";
+    public static final String MESSAGE_FOR_QUERY_SIZE_REPORT_HEADER =
+            "Query sizes in bytes, with all the fragments of the document -> with the used fragments only:";
+    public static final String MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY = "  %s/%s: %d -> %d";
 
     // GraphQL config file extensions supported
     public static final String YAML_EXTENSION = ".yaml";
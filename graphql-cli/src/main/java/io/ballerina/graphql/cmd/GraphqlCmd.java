@@ -24,8 +24,14 @@ import io.ballerina.graphql.cmd.pojo.Project;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
-import io.ballerina.graphql.generator.GraphqlProject;
+import io.ballerina.graphql.generator.CodeGenerator;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.GenerationManifest;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
+import io.ballerina.graphql.generator.client.IntrospectionHttpClient;
+import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.OperationQuerySize;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
 import io.ballerina.graphql.generator.client.pojo.Extension;
@@ -54,17 +60,31 @@ import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.graphql.cmd.Constants.BAL_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.GRAPHQL_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_CONFIGURATION_FILE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_GENERATED_FILES_SUMMARY;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INTROSPECTION_CACHE_SUMMARY;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CACHE_TTL;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONCURRENCY;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONFIGURATION_FILE_CONTENT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_FILE_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_MODE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_PARALLELISM;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_TIMEOUT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISMATCH_MODE_AND_FILE_EXTENSION;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_PARALLEL_FLAG_MISUSE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_QUERY_SIZE_REPORT_HEADER;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_UNCHANGED_PROJECTS;
 import static io.ballerina.graphql.cmd.Constants.YAML_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.YML_EXTENSION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODE_CLIENT;
@@ -86,6 +106,9 @@ public class GraphqlCmd implements BLauncherCmd {
     private static final int EXIT_CODE_1 = 1;
     private static final int EXIT_CODE_2 = 2;
     private static final String CMD_NAME = "graphql";
+    private static final String SCHEMA_CACHE_DIRECTORY = "schemas";
+    private static final String CONNECT_TIMEOUT_FLAG = "connect-timeout";
+    private static final String REQUEST_TIMEOUT_FLAG = "request-timeout";
     private static final ExitHandler DEFAULT_EXIT_HANDLER = code -> Runtime.getRuntime().exit(code);
 
     private final PrintStream outStream;
@@ -117,6 +140,78 @@ public class GraphqlCmd implements BLauncherCmd {
             description = "Inform the generator to generate records types where ever possible")
     private boolean useRecordsForObjectsFlag;
 
+    @CommandLine.Option(names = {"--parallel"}, arity = "0..1", fallbackValue = "",
+            description = "Generate the clients of the projects in the GraphQL configuration file in parallel " +
+                    "using the given number of worker threads. If the number is not provided, the number of " +
+                    "available processors is used.")
+    private String parallelism;
+
+    @CommandLine.Option(names = {"--cache-ttl"},
+            description = "Time in seconds for which the cached introspection result of a GraphQL endpoint is " +
+                    "reused. If this is not provided, the introspection results are not cached.")
+    private Long cacheTtl;
+
+    @CommandLine.Option(names = {"--cache-dir"},
+            description = "Directory to store the cached introspection results and schemas. If this is not " +
+                    "provided, they are stored in the .ballerina/graphql/introspection-cache directory of the user " +
+                    "home.")
+    private String cacheDir;
+
+    @CommandLine.Option(names = {"--offline"},
+            description = "Use the cached introspection results without contacting the GraphQL endpoints.")
+    private boolean offlineFlag;
+
+    @CommandLine.Option(names = {"--schema-cache"},
+            description = "Store the parsed GraphQL schemas in the schema cache, so that later runs skip parsing " +
+                    "unchanged schemas.")
+    private boolean schemaCacheFlag;
+
+    @CommandLine.Option(names = {"--concurrency"},
+            description = "Maximum number of GraphQL endpoints introspected at once. If this is not provided, the " +
+                    "number of concurrent introspection requests is not limited.")
+    private Integer concurrency;
+
+    @CommandLine.Option(names = {"--connect-timeout"},
+            description = "Time in seconds to wait for a connection to a GraphQL endpoint. The default is 30 seconds.")
+    private Long connectTimeout;
+
+    @CommandLine.Option(names = {"--request-timeout"},
+            description = "Time in seconds to wait for the introspection response of a GraphQL endpoint. The " +
+                    "default is 120 seconds.")
+    private Long requestTimeout;
+
+    @CommandLine.Option(names = {"--force"},
+            description = "Regenerate the client sources of all the projects, even if their inputs are unchanged " +
+                    "since the last generation.")
+    private boolean forceFlag;
+
+    @CommandLine.Option(names = {"--all-input-types"},
+            description = "Generate records for all the input object types of the GraphQL schema, instead of only " +
+                    "the ones used by the variables of the operations in the documents of each project.")
+    private boolean allInputTypesFlag;
+
+    @CommandLine.Option(names = {"--persisted-queries"},
+            description = "Execute the operations with the Automatic Persisted Queries protocol, which sends the " +
+                    "SHA-256 hash of the query document instead of the document, and generate a " +
+                    "persisted-queries.json manifest of the operations of each project.")
+    private boolean persistedQueriesFlag;
+
+    @CommandLine.Option(names = {"--batch-operations"},
+            description = "Generate an executeBatch remote function in the clients, which executes several " +
+                    "operations with a single batched request, along with a function per operation creating the " +
+                    "operation of a batched request.")
+    private boolean batchOperationsFlag;
+
+    @CommandLine.Option(names = {"--coalesce-requests"},
+            description = "Coalesce the concurrent executions of a query with equal variables in the clients, so " +
+                    "that they share a single request and its response. Mutations are never coalesced.")
+    private boolean coalesceRequestsFlag;
+
+    @CommandLine.Option(names = {"--query-size-report"},
+            description = "Print the size of the query document of each generated operation, with and without the " +
+                    "fragments of its document file which are not used by the operation.")
+    private boolean querySizeReportFlag;
+
     private ClientCodeGenerator clientCodeGenerator;
     private ServiceCodeGenerator serviceCodeGenerator;
 
@@ -208,6 +303,32 @@ public class GraphqlCmd implements BLauncherCmd {
         if (useRecordsForObjectsFlag && !(inputPath.endsWith(GRAPHQL_EXTENSION))) {
             throw new CmdException(String.format(Constants.MESSAGE_FOR_USE_RECORDS_FOR_OBJECTS_FLAG_MISUSE, mode));
         }
+
+        if (parallelism != null && !(inputPath.endsWith(YAML_EXTENSION) || inputPath.endsWith(YML_EXTENSION))) {
+            throw new CmdException(String.format(MESSAGE_FOR_PARALLEL_FLAG_MISUSE, inputPath));
+        }
+
+        if (parallelism != null && !parallelism.isEmpty() && !isPositiveNumber(parallelism)) {
+            throw new CmdException(String.format(MESSAGE_FOR_INVALID_PARALLELISM, parallelism));
+        }
+
+        if (cacheTtl != null && cacheTtl < 0) {
+            throw new CmdException(String.format(MESSAGE_FOR_INVALID_CACHE_TTL, cacheTtl));
+        }
+
+        if (concurrency != null && concurrency <= 0) {
+            throw new CmdException(String.format(MESSAGE_FOR_INVALID_CONCURRENCY, concurrency));
+        }
+
+        if (connectTimeout != null && connectTimeout <= 0) {
+            throw new CmdException(String.format(MESSAGE_FOR_INVALID_TIMEOUT, connectTimeout, CONNECT_TIMEOUT_FLAG,
+                    CONNECT_TIMEOUT_FLAG));
+        }
+
+        if (requestTimeout != null && requestTimeout <= 0) {
+            throw new CmdException(String.format(MESSAGE_FOR_INVALID_TIMEOUT, requestTimeout, REQUEST_TIMEOUT_FLAG,
+                    REQUEST_TIMEOUT_FLAG));
+        }
     }
 
     private boolean validInputFileExtension(String filePath) {
@@ -269,12 +390,132 @@ public class GraphqlCmd implements BLauncherCmd {
         Config config = readConfig(filePath);
         ConfigValidator.getInstance().validate(config);
         List<GraphqlClientProject> projects = populateProjects(config);
-        for (GraphqlClientProject project : projects) {
-            Utils.validateGraphqlProject(project);
+        IntrospectionCache introspectionCache = getIntrospectionCache();
+        GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(introspectionCache,
+                schemaCacheFlag ? getCacheDirectory().resolve(SCHEMA_CACHE_DIRECTORY) : null);
+        Introspector.getInstance().setHttpClient(getIntrospectionHttpClient());
+        ClientGenerationOptions generationOptions = new ClientGenerationOptions();
+        generationOptions.setAllInputTypes(allInputTypesFlag);
+        generationOptions.setPersistedQueries(persistedQueriesFlag);
+        generationOptions.setBatchOperations(batchOperationsFlag);
+        generationOptions.setCoalesceRequests(coalesceRequestsFlag);
+        Set<String> generatedFileNames = GenerationManifest.getGeneratedFileNames(generationOptions);
+        this.clientCodeGenerator.setGenerationOptions(generationOptions);
+        if (querySizeReportFlag) {
+            this.clientCodeGenerator.enableQuerySizeRecording();
+        }
+        GenerationManifest generationManifest = GenerationManifest.read(getTargetOutputPath());
+        generationManifest.retainProjects(projects);
+        Map<String, Map<String, String>> inputHashes = new ConcurrentHashMap<>();
+        Map<String, Set<String>> outdatedFiles = new ConcurrentHashMap<>();
+        ProjectExecutor projectExecutor = new ProjectExecutor(getParallelism());
+        projectExecutor.<ValidationException>execute(projects, project -> {
+            Map<String, String> projectInputHashes = GenerationManifest.getInputHashes(project,
+                    Utils.getSchemaHash(project, schemaLoader), generationOptions);
+            Set<String> projectOutdatedFiles = forceFlag ? generatedFileNames :
+                    generationManifest.getOutdatedFiles(project, projectInputHashes, generatedFileNames);
+            if (projectOutdatedFiles.isEmpty()) {
+                return;
+            }
+            inputHashes.put(project.getName(), projectInputHashes);
+            outdatedFiles.put(project.getName(), projectOutdatedFiles);
+            Utils.validateGraphqlProject(project, schemaLoader);
             QueryValidator.getInstance().validate(project);
+        });
+        List<GraphqlClientProject> outdatedProjects = new ArrayList<>();
+        for (GraphqlClientProject project : projects) {
+            if (outdatedFiles.containsKey(project.getName())) {
+                outdatedProjects.add(project);
+            }
+        }
+        try {
+            projectExecutor.<ClientCodeGenerationException>execute(outdatedProjects, project -> {
+                this.clientCodeGenerator.generate(project, outdatedFiles.get(project.getName()));
+                generationManifest.update(project, inputHashes.get(project.getName()));
+            });
+        } finally {
+            generationManifest.write();
+        }
+        if (outdatedProjects.size() < projects.size()) {
+            outStream.println(String.format(MESSAGE_FOR_UNCHANGED_PROJECTS,
+                    projects.size() - outdatedProjects.size()));
         }
-        for (GraphqlProject project : projects) {
-            this.clientCodeGenerator.generate(project);
+        printGeneratedFilesSummary(this.clientCodeGenerator);
+        if (querySizeReportFlag) {
+            printQuerySizeReport();
+        }
+        if (introspectionCache != null) {
+            outStream.println(String.format(MESSAGE_FOR_INTROSPECTION_CACHE_SUMMARY,
+                    introspectionCache.getHitCount(), introspectionCache.getMissCount(),
+                    introspectionCache.getRevalidationCount()));
+        }
+    }
+
+    /**
+     * Gets the introspection cache for the client generation.
+     *
+     * @return the introspection cache, {@code null} if neither a cache TTL nor the offline mode is provided
+     */
+    private IntrospectionCache getIntrospectionCache() {
+        if (cacheTtl == null && !offlineFlag) {
+            return null;
+        }
+        Duration timeToLive = Duration.ofSeconds(cacheTtl != null ? cacheTtl : 0);
+        return new IntrospectionCache(getCacheDirectory(), timeToLive, offlineFlag);
+    }
+
+    /**
+     * Gets the directory of the introspection cache. The serialized schemas are stored in a subdirectory of it.
+     *
+     * @return the given cache directory resolved against the execution path, or the default cache directory
+     */
+    private Path getCacheDirectory() {
+        if (cacheDir == null) {
+            return IntrospectionCache.getDefaultCacheDirectory();
+        }
+        return Paths.get(cacheDir).isAbsolute() ? Paths.get(cacheDir) : executionPath.resolve(cacheDir);
+    }
+
+    /**
+     * Gets the HTTP client shared by all the introspection requests of the client generation.
+     *
+     * @return the HTTP client configured with the given timeouts and concurrency limit
+     */
+    private IntrospectionHttpClient getIntrospectionHttpClient() {
+        Duration connectTimeoutDuration = connectTimeout != null ? Duration.ofSeconds(connectTimeout) :
+                IntrospectionHttpClient.DEFAULT_CONNECT_TIMEOUT;
+        Duration requestTimeoutDuration = requestTimeout != null ? Duration.ofSeconds(requestTimeout) :
+                IntrospectionHttpClient.DEFAULT_REQUEST_TIMEOUT;
+        return new IntrospectionHttpClient(connectTimeoutDuration, requestTimeoutDuration,
+                concurrency != null ? concurrency : 0);
+    }
+
+    /**
+     * Gets the number of projects which are processed at once during the client generation.
+     *
+     * @return the number of worker threads, {@code 1} when the projects are processed sequentially
+     */
+    private int getParallelism() {
+        if (parallelism == null) {
+            return 1;
+        }
+        if (parallelism.isEmpty()) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return Integer.parseInt(parallelism);
+    }
+
+    /**
+     * Checks whether the given argument of a flag is a positive number.
+     *
+     * @param argument      the argument of the flag
+     * @return              whether the argument is a positive number
+     */
+    private static boolean isPositiveNumber(String argument) {
+        try {
+            return Integer.parseInt(argument) > 0;
+        } catch (NumberFormatException e) {
+            return false;
         }
     }
 
@@ -296,6 +537,25 @@ public class GraphqlCmd implements BLauncherCmd {
             this.serviceCodeGenerator.enableToUseRecords();
         }
         this.serviceCodeGenerator.generate(graphqlProject);
+        printGeneratedFilesSummary(this.serviceCodeGenerator);
+    }
+
+    /**
+     * Prints the query sizes of the generated operations, grouped by project name.
+     */
+    private void printQuerySizeReport() {
+        List<OperationQuerySize> querySizes = this.clientCodeGenerator.getQuerySizes();
+        querySizes.sort(Comparator.comparing(OperationQuerySize::getProjectName));
+        outStream.println(MESSAGE_FOR_QUERY_SIZE_REPORT_HEADER);
+        for (OperationQuerySize querySize : querySizes) {
+            outStream.println(String.format(MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY, querySize.getProjectName(),
+                    querySize.getOperationName(), querySize.getSizeWithAllFragments(), querySize.getSize()));
+        }
+    }
+
+    private void printGeneratedFilesSummary(CodeGenerator codeGenerator) {
+        outStream.println(String.format(MESSAGE_FOR_GENERATED_FILES_SUMMARY, codeGenerator.getWrittenFileCount(),
+                codeGenerator.getSkippedFileCount()));
     }
 
     /**
@@ -0,0 +1,307 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.errors.SchemaProblem;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
+import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+import io.ballerina.graphql.generator.client.pojo.Extension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
+
+/**
+ * This class is used to load the `GraphQLSchema` instances of the GraphQL projects of a tool run.
+ * <p>
+ * Schemas are memoised by the SHA-256 hash of their SDL, which is either the content of a schema file or the SDL
+ * derived from the introspection result of a schema URL. Projects sharing the same SDL therefore share a single,
+ * read-only `GraphQLSchema` instance which is built once, even when the projects are processed in parallel.
+ * The SDL hash of a project can be obtained ahead of loading its schema, e.g. to find out whether the project
+ * changed since the last run, without reading or introspecting the schema twice.
+ * Optionally, the `TypeDefinitionRegistry` parsed from each SDL is serialized into a schema cache directory, so
+ * that later runs skip parsing the SDL and only build the executable schema.
+ */
+public class GraphqlSchemaLoader {
+    private static final String SHA_256 = "SHA-256";
+    private static final String SERIALIZED_SCHEMA_FILE_EXTENSION = ".ser";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    // Allows only the GraphQL Java classes and the JDK classes a serialized `TypeDefinitionRegistry` holds, i.e. its
+    // collections and the values of the numeric literals, within bounds well above those of a large schema.
+    static final ObjectInputFilter SERIALIZED_SCHEMA_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=100;maxarray=65536;graphql.**;java.lang.Number;java.lang.Object;java.math.BigDecimal;" +
+                    "java.math.BigInteger;java.util.ArrayList;java.util.HashMap;java.util.LinkedHashMap;" +
+                    "java.util.Map$Entry;!*");
+
+    private final IntrospectionCache introspectionCache;
+    private final Path schemaCacheDirectory;
+    private final Map<String, FutureTask<GraphQLSchema>> schemas = new ConcurrentHashMap<>();
+    private final Map<SchemaSource, Sdl> pendingSdls = new ConcurrentHashMap<>();
+    private final AtomicInteger buildCount = new AtomicInteger();
+    private final AtomicInteger serializedSchemaHitCount = new AtomicInteger();
+
+    /**
+     * Constructs a schema loader which keeps the built schemas in memory only.
+     *
+     * @param introspectionCache        the introspection cache, {@code null} if caching is disabled
+     */
+    public GraphqlSchemaLoader(IntrospectionCache introspectionCache) {
+        this(introspectionCache, null);
+    }
+
+    /**
+     * Constructs a schema loader.
+     *
+     * @param introspectionCache        the introspection cache, {@code null} if caching is disabled
+     * @param schemaCacheDirectory      the directory in which the parsed schemas are serialized, {@code null} to
+     *                                  keep them in memory only
+     */
+    public GraphqlSchemaLoader(IntrospectionCache introspectionCache, Path schemaCacheDirectory) {
+        this.introspectionCache = introspectionCache;
+        this.schemaCacheDirectory = schemaCacheDirectory;
+    }
+
+    /**
+     * Gets the number of executable schemas built by this loader.
+     *
+     * @return                          the number of schemas built
+     */
+    public int getBuildCount() {
+        return buildCount.get();
+    }
+
+    /**
+     * Gets the number of schemas of which the parsed form was read from the schema cache directory.
+     *
+     * @return                          the number of serialized schemas reused
+     */
+    public int getSerializedSchemaHitCount() {
+        return serializedSchemaHitCount.get();
+    }
+
+    /**
+     * Gets the SHA-256 hash of the SDL of a given GraphQL schema file or schema URL. The SDL is kept until the
+     * schema is loaded with the same schema and extensions values.
+     *
+     * @param schema                    the schema value of the Graphql config file
+     * @param extensions                the extensions value of the Graphql config file
+     * @return                          the SHA-256 hash of the SDL
+     * @throws IntospectionException    If an error occurs during introspection of the GraphQL API
+     * @throws IOException              If an I/O error occurs
+     */
+    public String getSchemaHash(String schema, Extension extensions) throws IntospectionException, IOException {
+        SchemaSource schemaSource = new SchemaSource(schema, extensions);
+        Sdl sdl = pendingSdls.get(schemaSource);
+        if (sdl == null) {
+            sdl = readSdl(schema, extensions);
+            pendingSdls.put(schemaSource, sdl);
+        }
+        return sdl.hash;
+    }
+
+    /**
+     * Returns the `GraphQLSchema` instance for a given GraphQL schema file or schema URL. The returned instance may
+     * be shared with other projects having the same SDL and must not be modified.
+     *
+     * @param schema                    the schema value of the Graphql config file
+     * @param extensions                the extensions value of the Graphql config file
+     * @return                          the `GraphQLSchema` instance
+     * @throws IntospectionException    If an error occurs during introspection of the GraphQL API
+     * @throws SchemaProblem            If a GraphQL schema related error occurs
+     * @throws IOException              If an I/O error occurs
+     */
+    public GraphQLSchema load(String schema, Extension extensions)
+            throws IntospectionException, SchemaProblem, IOException {
+        Sdl sdl = pendingSdls.remove(new SchemaSource(schema, extensions));
+        if (sdl == null) {
+            sdl = readSdl(schema, extensions);
+        }
+        String key = sdl.hash;
+        String content = sdl.content;
+        FutureTask<GraphQLSchema> buildTask = new FutureTask<>(() -> buildSchema(key, content));
+        FutureTask<GraphQLSchema> existingBuildTask = schemas.putIfAbsent(key, buildTask);
+        if (existingBuildTask == null) {
+            buildTask.run();
+        } else {
+            buildTask = existingBuildTask;
+        }
+        return awaitSchema(buildTask);
+    }
+
+    private Sdl readSdl(String schema, Extension extensions) throws IntospectionException, IOException {
+        String sdl;
+        if (schema.startsWith(URL_RECOGNIZER)) {
+            sdl = Introspector.getInstance().getIntrospectedSchemaSdl(schema, extensions, introspectionCache);
+        } else {
+            sdl = Utils.extractSchemaContent(schema);
+        }
+        return new Sdl(sdl, getHash(sdl));
+    }
+
+    private GraphQLSchema buildSchema(String key, String sdl) throws IOException {
+        TypeDefinitionRegistry typeRegistry = readSerializedSchema(key);
+        boolean isSerialized = typeRegistry != null;
+        if (!isSerialized) {
+            typeRegistry = new SchemaParser().parse(sdl);
+        }
+        GraphQLSchema graphQLSchema = new SchemaGenerator().makeExecutableSchema(typeRegistry,
+                RuntimeWiring.MOCKED_WIRING);
+        buildCount.incrementAndGet();
+        if (!isSerialized) {
+            writeSerializedSchema(key, typeRegistry);
+        }
+        return graphQLSchema;
+    }
+
+    private GraphQLSchema awaitSchema(FutureTask<GraphQLSchema> buildTask) throws IOException {
+        try {
+            return buildTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the GraphQL schema to be built.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Reads the serialized `TypeDefinitionRegistry` of the given SDL hash from the schema cache directory.
+     *
+     * @param key                       the SHA-256 hash of the SDL
+     * @return                          the type definition registry, {@code null} if it is not available or can
+     *                                  not be read, e.g. after a GraphQL Java upgrade
+     */
+    private TypeDefinitionRegistry readSerializedSchema(String key) {
+        if (schemaCacheDirectory == null) {
+            return null;
+        }
+        Path serializedSchemaFile = schemaCacheDirectory.resolve(key + SERIALIZED_SCHEMA_FILE_EXTENSION);
+        if (!Files.exists(serializedSchemaFile)) {
+            return null;
+        }
+        try (InputStream inputStream = Files.newInputStream(serializedSchemaFile);
+             ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)) {
+            objectInputStream.setObjectInputFilter(SERIALIZED_SCHEMA_FILTER);
+            TypeDefinitionRegistry typeRegistry = (TypeDefinitionRegistry) objectInputStream.readObject();
+            serializedSchemaHitCount.incrementAndGet();
+            return typeRegistry;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private void writeSerializedSchema(String key, TypeDefinitionRegistry typeRegistry) throws IOException {
+        if (schemaCacheDirectory == null) {
+            return;
+        }
+        Files.createDirectories(schemaCacheDirectory);
+        Path tempFile = Files.createTempFile(schemaCacheDirectory, key, TEMP_FILE_EXTENSION);
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile);
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(typeRegistry);
+            }
+            Files.move(tempFile, schemaCacheDirectory.resolve(key + SERIALIZED_SCHEMA_FILE_EXTENSION),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static String getHash(String sdl) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256)
+                    .digest(sdl.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Represents the SDL of a schema along with its SHA-256 hash.
+     */
+    private static class Sdl {
+        private final String content;
+        private final String hash;
+
+        Sdl(String content, String hash) {
+            this.content = content;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Identifies the schema of a project by its schema value and the extensions instance of the project.
+     */
+    private static class SchemaSource {
+        private final String schema;
+        private final Extension extensions;
+
+        SchemaSource(String schema, Extension extensions) {
+            this.schema = schema;
+            this.extensions = extensions;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof SchemaSource)) {
+                return false;
+            }
+            SchemaSource schemaSource = (SchemaSource) other;
+            return schema.equals(schemaSource.schema) && extensions == schemaSource.extensions;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schema, System.identityHashCode(extensions));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is used to run a task for each GraphQL project of a config file, either one after another or on a
+ * bounded pool of worker threads. Failures are always reported in the declared order of the projects.
+ */
+public class ProjectExecutor {
+    private static final String WORKER_THREAD_NAME_PREFIX = "graphql-project-worker-";
+
+    private final int parallelism;
+
+    /**
+     * Task executed for a single GraphQL project.
+     *
+     * @param <E> the checked exception type thrown by the task
+     */
+    @FunctionalInterface
+    public interface ProjectTask<E extends Exception> {
+        void run(GraphqlClientProject project) throws E, IOException;
+    }
+
+    /**
+     * Constructs a project executor.
+     *
+     * @param parallelism       the maximum number of projects processed at once, {@code 1} runs them sequentially
+     */
+    public ProjectExecutor(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Runs the given task for each of the given projects. When a task fails, the failure of the first project in
+     * the declared order is thrown, regardless of the order in which the workers completed.
+     *
+     * @param projects          the list of instances of the GraphQL projects
+     * @param task              the task to run for each project
+     * @param <E>               the checked exception type thrown by the task
+     * @throws E                when the task fails for a project
+     * @throws IOException      If an I/O error occurs
+     */
+    public <E extends Exception> void execute(List<GraphqlClientProject> projects, ProjectTask<E> task)
+            throws E, IOException {
+        if (parallelism == 1 || projects.size() <= 1) {
+            for (GraphqlClientProject project : projects) {
+                task.run(project);
+            }
+            return;
+        }
+
+        ExecutorService executorService =
+                Executors.newFixedThreadPool(Math.min(parallelism, projects.size()), new WorkerThreadFactory());
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (GraphqlClientProject project : projects) {
+                futures.add(executorService.submit(() -> {
+                    task.run(project);
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                this.<E>awaitTask(future);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> void awaitTask(Future<Void> future) throws E, IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the project generation to complete.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // The task can only throw the declared exception type apart from the ones handled above.
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * Creates the daemon worker threads used for the project generation.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,20 +18,14 @@
 
 package io.ballerina.graphql.cmd;
 
-import graphql.introspection.IntrospectionResultToSchema;
-import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
-import graphql.schema.idl.RuntimeWiring;
-import graphql.schema.idl.SchemaGenerator;
-import graphql.schema.idl.SchemaParser;
-import graphql.schema.idl.TypeDefinitionRegistry;
 import graphql.schema.idl.errors.SchemaProblem;
 import io.ballerina.graphql.cmd.pojo.Config;
 import io.ballerina.graphql.exception.SDLValidationException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.GraphqlProject;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
-import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Default;
 import io.ballerina.graphql.generator.client.pojo.Endpoints;
@@ -56,9 +50,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.Map;
-
-import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
 
 /**
  * Utility class for GraphQL code generation command line tool.
@@ -93,26 +84,25 @@ public class Utils {
      */
     public static GraphQLSchema getGraphQLSchemaDocument(String schema, Extension extensions)
             throws IntospectionException, SchemaProblem, IOException {
-        Document introspectSchema = null;
-        if (schema.startsWith(URL_RECOGNIZER)) {
-            Map<String, Object> introspectionResult =
-                    Introspector.getInstance().getIntrospectionResult(schema, extensions);
-            IntrospectionResultToSchema introspectionResultToSchema = new IntrospectionResultToSchema();
-            introspectSchema = introspectionResultToSchema.createSchemaDefinition(introspectionResult);
-        }
+        return getGraphQLSchemaDocument(schema, extensions, null);
+    }
 
-        SchemaParser schemaParser = new SchemaParser();
-        SchemaGenerator schemaGenerator = new SchemaGenerator();
-        TypeDefinitionRegistry typeRegistry;
-        if (introspectSchema != null) {
-            typeRegistry = schemaParser.buildRegistry(introspectSchema);
-        } else {
-            String sdlInput = extractSchemaContent(schema);
-            typeRegistry = schemaParser.parse(sdlInput);
-        }
-        GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeRegistry,
-                RuntimeWiring.MOCKED_WIRING);
-        return graphQLSchema;
+    /**
+     * Returns the `GraphQLSchema` instance for a given GraphQL schema file or schema URL, serving the introspection
+     * result of a schema URL from the given introspection cache when possible.
+     *
+     * @param schema                                the schema value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, {@code null} if caching is disabled
+     * @return                                      the `GraphQLSchema` instance
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     * @throws SchemaProblem                        If a GraphQL schema related error occurs
+     * @throws IOException                          If an I/O error occurs
+     */
+    public static GraphQLSchema getGraphQLSchemaDocument(String schema, Extension extensions,
+                                                         IntrospectionCache introspectionCache)
+            throws IntospectionException, SchemaProblem, IOException {
+        return new GraphqlSchemaLoader(introspectionCache).load(schema, extensions);
     }
 
     /**
@@ -178,6 +168,38 @@ public class Utils {
      * @throws IOException         If an I/O error occurs
      */
     public static void validateGraphqlProject(GraphqlProject project) throws ValidationException, IOException {
+        validateGraphqlProject(project, new GraphqlSchemaLoader(null));
+    }
+
+    /**
+     * Gets the SHA-256 hash of the schema SDL of a given GraphQL client project.
+     *
+     * @param project                the instance of the Graphql client project
+     * @param schemaLoader           the schema loader of the tool run
+     * @return                       the SHA-256 hash of the SDL
+     * @throws ValidationException   when the introspection of the GraphQL API fails
+     * @throws IOException           If an I/O error occurs
+     */
+    public static String getSchemaHash(GraphqlClientProject project, GraphqlSchemaLoader schemaLoader)
+            throws ValidationException, IOException {
+        try {
+            return schemaLoader.getSchemaHash(project.getSchema(), project.getExtensions());
+        } catch (IntospectionException e) {
+            throw new ValidationException(e.getMessage(), project.getName());
+        }
+    }
+
+    /**
+     * Validates the GraphQL schema (SDL) of the given project, loading the schema with the given schema loader so
+     * that projects sharing the same SDL share the same `GraphQLSchema` instance.
+     *
+     * @param project                   the instance of the Graphql project
+     * @param schemaLoader              the schema loader of the tool run
+     * @throws ValidationException      when a validation error occurs
+     * @throws IOException              If an I/O error occurs
+     */
+    public static void validateGraphqlProject(GraphqlProject project, GraphqlSchemaLoader schemaLoader)
+            throws ValidationException, IOException {
         String schema = project.getSchema();
 
         Extension extensions = null;
@@ -187,7 +209,7 @@ public class Utils {
         }
 
         try {
-            GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(schema, extensions);
+            GraphQLSchema graphQLSchema = schemaLoader.load(schema, extensions);
             project.setGraphQLSchema(graphQLSchema);
         } catch (IntospectionException e) {
             throw new ValidationException(e.getMessage(), project.getName());
@@ -25,6 +25,7 @@ import io.ballerina.graphql.exception.SchemaPathValidationException;
 import io.ballerina.graphql.exception.SchemaUrlValidationException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.pojo.Cache;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 
 import java.io.File;
@@ -37,12 +38,16 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_PROJECT;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CACHE_CONFIG;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_DOCUMENT_PATH;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_QUERY_METHOD;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_SCHEMA_PATH;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_SCHEMA_URL;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISSING_SCHEMA_OR_DOCUMENTS;
 import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
 import static io.ballerina.graphql.cmd.Utils.isValidURL;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_GET_METHOD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_POST_METHOD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT_NAME;
 
 /**
@@ -50,9 +55,8 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT
  */
 public class ConfigValidator {
     private static ConfigValidator configValidator = null;
-    private List<GraphqlClientProject> projects = new ArrayList<>();
 
-    public static ConfigValidator getInstance() {
+    public static synchronized ConfigValidator getInstance() {
         if (configValidator == null) {
             configValidator = new ConfigValidator();
         }
@@ -67,8 +71,8 @@ public class ConfigValidator {
      * @throws IOException                          If an I/O error occurs
      */
     public void validate(Config config) throws ValidationException, IOException {
-        populateProjects(config);
-        for (GraphqlClientProject project : this.projects) {
+        List<GraphqlClientProject> graphqlClientProjects = populateProjects(config);
+        for (GraphqlClientProject project : graphqlClientProjects) {
             validateProject(project);
         }
     }
@@ -77,16 +81,18 @@ public class ConfigValidator {
      * Populate the projects with information given in the GraphQL config file.
      *
      * @param config                                the instance of the Graphql config file
+     * @return                                      the list of instances of the GraphQL projects
      * @throws ValidationException                  when a validation error occurs
      */
-    private void populateProjects(Config config) throws ValidationException {
+    private List<GraphqlClientProject> populateProjects(Config config) throws ValidationException {
+        List<GraphqlClientProject> graphqlClientProjects = new ArrayList<>();
         String schema = config.getSchema();
         List<String> documents = config.getDocuments();
         Extension extensions = config.getExtensions();
         Map<String, Project> projects = config.getProjects();
 
         if (schema != null || documents != null || extensions != null) {
-            this.projects.add(new GraphqlClientProject(ROOT_PROJECT_NAME, schema, documents, extensions));
+            graphqlClientProjects.add(new GraphqlClientProject(ROOT_PROJECT_NAME, schema, documents, extensions));
         }
 
         if (projects != null) {
@@ -94,12 +100,13 @@ public class ConfigValidator {
                 if (projects.get(projectName) == null) {
                     throw new ValidationException(MESSAGE_FOR_EMPTY_PROJECT, projectName);
                 }
-                this.projects.add(new GraphqlClientProject(projectName,
+                graphqlClientProjects.add(new GraphqlClientProject(projectName,
                         projects.get(projectName).getSchema(),
                         projects.get(projectName).getDocuments(),
                         projects.get(projectName).getExtensions()));
             }
         }
+        return graphqlClientProjects;
     }
 
     /**
@@ -123,6 +130,56 @@ public class ConfigValidator {
         } catch (DocumentPathValidationException | SchemaPathValidationException | SchemaUrlValidationException e) {
             throw new ValidationException(e.getMessage(), project.getName());
         }
+        validateQueryMethod(project);
+        validateCache(project);
+    }
+
+    /**
+     * Validates the query method configured in the extensions of a project in the GraphQL config file.
+     *
+     * @param project                               the instance of the Graphql project
+     * @throws ValidationException                  when the query method is neither GET nor POST
+     */
+    private void validateQueryMethod(GraphqlClientProject project) throws ValidationException {
+        Extension extensions = project.getExtensions();
+        if (extensions == null || extensions.getQueryMethod() == null) {
+            return;
+        }
+        String queryMethod = extensions.getQueryMethod();
+        if (!HTTP_GET_METHOD.equalsIgnoreCase(queryMethod) && !HTTP_POST_METHOD.equalsIgnoreCase(queryMethod)) {
+            throw new ValidationException(MESSAGE_FOR_INVALID_QUERY_METHOD + queryMethod, project.getName());
+        }
+    }
+
+    /**
+     * Validates the response cache configured in the extensions of a project in the GraphQL config file.
+     *
+     * @param project                               the instance of the Graphql project
+     * @throws ValidationException                  when the maximum number of entries is not positive or a
+     *                                              time-to-live is negative
+     */
+    private void validateCache(GraphqlClientProject project) throws ValidationException {
+        Extension extensions = project.getExtensions();
+        if (extensions == null || extensions.getCache() == null) {
+            return;
+        }
+        Cache cache = extensions.getCache();
+        if (cache.getMaxEntries() != null && cache.getMaxEntries() <= 0) {
+            throw new ValidationException(MESSAGE_FOR_INVALID_CACHE_CONFIG + "maxEntries: " + cache.getMaxEntries(),
+                    project.getName());
+        }
+        if (cache.getDefaultTtl() != null && cache.getDefaultTtl() < 0) {
+            throw new ValidationException(MESSAGE_FOR_INVALID_CACHE_CONFIG + "defaultTtl: " + cache.getDefaultTtl(),
+                    project.getName());
+        }
+        if (cache.getOperations() != null) {
+            for (Map.Entry<String, Integer> operation : cache.getOperations().entrySet()) {
+                if (operation.getValue() == null || operation.getValue() < 0) {
+                    throw new ValidationException(MESSAGE_FOR_INVALID_CACHE_CONFIG + operation.getKey() + ": " +
+                            operation.getValue(), project.getName());
+                }
+            }
+        }
     }
 
     /**
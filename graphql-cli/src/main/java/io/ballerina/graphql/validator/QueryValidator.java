@@ -18,26 +18,49 @@
 
 package io.ballerina.graphql.validator;
 
+import graphql.language.Directive;
 import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
 import graphql.validation.ValidationError;
+import graphql.validation.ValidationErrorType;
 import graphql.validation.Validator;
 import io.ballerina.graphql.exception.QueryValidationException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.DocumentStore;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.generator.graphql.Utils;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.LAZY_DIRECTIVE_NAME;
+
 /**
  * This class is used to validate the GraphQL query files.
  */
 public class QueryValidator {
+    private static final String MESSAGE_FOR_MISPLACED_LAZY_DIRECTIVE =
+            "The @lazy directive can be used only on the fields of an operation, not on the nested fields or the " +
+                    "fields of a fragment.";
+    private static final String MESSAGE_FOR_LAZY_DIRECTIVE_ON_NON_LIST_FIELD =
+            "The @lazy directive can be used only on list fields, but the field '%s' is not a list.";
     private static QueryValidator queryValidator = null;
 
-    public static QueryValidator getInstance() {
+    public static synchronized QueryValidator getInstance() {
         if (queryValidator == null) {
             queryValidator = new QueryValidator();
         }
@@ -53,12 +76,14 @@ public class QueryValidator {
      */
     public void validate(GraphqlClientProject project) throws ValidationException, IOException {
         List<String> documents = project.getDocuments();
+        DocumentStore documentStore = project.getDocumentStore();
         GraphQLSchema graphQLSchema = project.getGraphQLSchema();
         String projectName = project.getName();
 
+        GraphQLSchema schemaWithClientDirectives = Utils.getSchemaWithClientDirectives(graphQLSchema);
         for (String document : documents) {
             try {
-                validateDocument(graphQLSchema, document, projectName);
+                validateDocument(schemaWithClientDirectives, documentStore.getDocument(document), projectName);
             } catch (QueryValidationException e) {
                 throw new ValidationException(e.getMessage());
             }
@@ -66,23 +91,94 @@ public class QueryValidator {
     }
 
     /**
-     * Validates a GraphQL query file (document) with the given GraphQL schema (SDL).
+     * Validates a GraphQL query file (document) with the given GraphQL schema (SDL), along with the usages of the
+     * client directives.
      *
      * @param graphQLSchema                         the GraphQL schema instance
-     * @param document                              the GraphQL query document value
+     * @param parsedDocument                        the parsed GraphQL query document
      * @param projectName                           the name of the project
      * @throws QueryValidationException             If a GraphQL queries related error occurs
-     * @throws IOException                          If an I/O error occurs
      */
-    private void validateDocument(GraphQLSchema graphQLSchema, String document, String projectName)
-            throws QueryValidationException, IOException {
-        Document parsedDocument = Utils.getGraphQLQueryDocument(document);
-
+    private void validateDocument(GraphQLSchema graphQLSchema, Document parsedDocument, String projectName)
+            throws QueryValidationException {
         Validator validator = new Validator();
         List<ValidationError> validationErrors = validator.validateDocument(graphQLSchema, parsedDocument,
                 Locale.getDefault());
+        if (validationErrors.isEmpty()) {
+            validationErrors = validateLazyDirectives(graphQLSchema, parsedDocument);
+        }
         if (validationErrors.size() > 0) {
             throw new QueryValidationException("Graph query validation failed.", validationErrors, projectName);
         }
     }
+
+    /**
+     * Validates the usages of the `@lazy` client directive, which is allowed only on the list fields of the
+     * operations, as the generated clients bind only these fields lazily.
+     *
+     * @param graphQLSchema                         the GraphQL schema instance
+     * @param parsedDocument                        the parsed GraphQL query document, which is valid otherwise
+     * @return                                      the validation errors of the misplaced directives
+     */
+    private List<ValidationError> validateLazyDirectives(GraphQLSchema graphQLSchema, Document parsedDocument) {
+        List<ValidationError> validationErrors = new ArrayList<>();
+        Deque<SelectionSet> nestedSelectionSets = new ArrayDeque<>();
+        for (OperationDefinition operationDefinition :
+                parsedDocument.getDefinitionsOfType(OperationDefinition.class)) {
+            GraphQLObjectType rootType = getRootType(graphQLSchema, operationDefinition.getOperation());
+            for (Selection<?> selection : operationDefinition.getSelectionSet().getSelections()) {
+                if (selection instanceof Field) {
+                    Field field = (Field) selection;
+                    GraphQLFieldDefinition fieldDefinition = rootType.getFieldDefinition(field.getName());
+                    if (field.hasDirective(LAZY_DIRECTIVE_NAME) && fieldDefinition != null &&
+                            !(GraphQLTypeUtil.unwrapNonNull(fieldDefinition.getType()) instanceof GraphQLList)) {
+                        validationErrors.add(getLazyDirectiveError(field,
+                                String.format(MESSAGE_FOR_LAZY_DIRECTIVE_ON_NON_LIST_FIELD, field.getName())));
+                    }
+                    if (field.getSelectionSet() != null) {
+                        nestedSelectionSets.push(field.getSelectionSet());
+                    }
+                } else if (selection instanceof InlineFragment) {
+                    nestedSelectionSets.push(((InlineFragment) selection).getSelectionSet());
+                }
+            }
+        }
+        for (FragmentDefinition fragmentDefinition : parsedDocument.getDefinitionsOfType(FragmentDefinition.class)) {
+            nestedSelectionSets.push(fragmentDefinition.getSelectionSet());
+        }
+        while (!nestedSelectionSets.isEmpty()) {
+            for (Selection<?> selection : nestedSelectionSets.pop().getSelections()) {
+                if (selection instanceof Field) {
+                    Field field = (Field) selection;
+                    if (field.hasDirective(LAZY_DIRECTIVE_NAME)) {
+                        validationErrors.add(getLazyDirectiveError(field, MESSAGE_FOR_MISPLACED_LAZY_DIRECTIVE));
+                    }
+                    if (field.getSelectionSet() != null) {
+                        nestedSelectionSets.push(field.getSelectionSet());
+                    }
+                } else if (selection instanceof InlineFragment) {
+                    nestedSelectionSets.push(((InlineFragment) selection).getSelectionSet());
+                }
+            }
+        }
+        return validationErrors;
+    }
+
+    private static GraphQLObjectType getRootType(GraphQLSchema graphQLSchema, OperationDefinition.Operation operation) {
+        if (operation == OperationDefinition.Operation.MUTATION) {
+            return graphQLSchema.getMutationType();
+        } else if (operation == OperationDefinition.Operation.SUBSCRIPTION) {
+            return graphQLSchema.getSubscriptionType();
+        }
+        return graphQLSchema.getQueryType();
+    }
+
+    private static ValidationError getLazyDirectiveError(Field field, String description) {
+        Directive directive = field.getDirectives(LAZY_DIRECTIVE_NAME).get(0);
+        return ValidationError.newValidationError()
+                .validationErrorType(ValidationErrorType.MisplacedDirective)
+                .sourceLocation(directive.getSourceLocation())
+                .description(description)
+                .build();
+    }
 }
@@ -0,0 +1,83 @@
+# Iterates over the nodes of a Relay-style connection, fetching its pages one after another with the `endCursor` of
+# the previous page as the `after` argument. The next page is prefetched while the nodes of the current page are
+# consumed, so that at most one page is fetched ahead of the consumer.
+class ConnectionIterator {
+    private final graphql:Client graphqlClient;
+    private final string document;
+    private final map<anydata> & readonly variables;
+    private final string connectionField;
+    private final string afterVariableName;
+    private final map<string|string[]>? & readonly headers;
+    private json[] nodes = [];
+    private future<json|graphql:ClientError>? nextPage;
+
+    # Starts fetching the first page of the connection.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + document - Query document selecting the connection
+    # + variables - Variables of the query, other than the `after` cursor
+    # + connectionField - Key of the connection in the data of the response
+    # + afterVariableName - Name of the variable passed to the `after` argument of the connection
+    # + headers - HTTP headers of the requests
+    isolated function init(graphql:Client graphqlClient, string document, map<anydata> & readonly variables,
+                           string connectionField, string afterVariableName,
+                           map<string|string[]>? & readonly headers = ()) {
+        self.graphqlClient = graphqlClient;
+        self.document = document;
+        self.variables = variables;
+        self.connectionField = connectionField;
+        self.afterVariableName = afterVariableName;
+        self.headers = headers;
+        self.nextPage = start fetchConnectionPage(graphqlClient, document, variables, headers);
+    }
+
+    # Returns the next node of the connection, waiting for the next page if the nodes of the current page are
+    # consumed.
+    #
+    # + return - Returns the next node, `()` after the last node, or an error at failure of fetching a page
+    public isolated function next() returns record {|json value;|}|error? {
+        while self.nodes.length() == 0 {
+            future<json|graphql:ClientError>? nextPage = self.nextPage;
+            if nextPage is () {
+                return;
+            }
+            self.nextPage = ();
+            json page = check wait nextPage;
+            check self.readPage(page);
+        }
+        return {value: self.nodes.shift()};
+    }
+
+    isolated function readPage(json page) returns error? {
+        map<json> response = check page.ensureType();
+        json errors = response["errors"];
+        if errors is json[] && errors.length() > 0 {
+            graphql:ErrorDetail[] errorDetails = check errors.cloneWithType();
+            return error graphql:ServerError("GraphQL Server Error", errors = errorDetails, data = response["data"],
+                                             extensions = <map<json>?>response["extensions"]);
+        }
+        map<json> data = check response["data"].ensureType();
+        map<json>? connection = check data[self.connectionField].ensureType();
+        if connection is () {
+            return;
+        }
+        json[]? edges = check connection["edges"].ensureType();
+        foreach json edge in edges ?: [] {
+            if edge is map<json> && edge["node"] !is () {
+                self.nodes.push(edge["node"]);
+            }
+        }
+        map<json> pageInfo = check connection["pageInfo"].ensureType();
+        string? endCursor = check pageInfo["endCursor"].ensureType();
+        if pageInfo["hasNextPage"] == true && endCursor is string {
+            map<anydata> & readonly variables = {...self.variables, [self.afterVariableName]: endCursor};
+            self.nextPage = start fetchConnectionPage(self.graphqlClient, self.document, variables, self.headers);
+        }
+    }
+}
+
+isolated function fetchConnectionPage(graphql:Client graphqlClient, string document,
+                                      map<anydata> & readonly variables, map<string|string[]>? & readonly headers)
+                                      returns json|graphql:ClientError {
+    return graphqlClient->executeWithType(document, variables, headers = headers);
+}
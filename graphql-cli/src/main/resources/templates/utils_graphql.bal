@@ -22,19 +22,394 @@ isolated function getMapForHeaders(map<any> headerParam) returns map<string|stri
     return headerMap;
 }
 
-isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
-                                     returns DataResponse|graphql:RequestError {
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
     do {
-        map<json> responseMap = <map<json>> graphqlResponse;
+        map<json> responseMap = check graphqlResponse.ensureType();
         json responseData = responseMap.get("data");
-        if (responseMap.hasKey("extensions")) {
-            responseData = check responseData.mergeJson({ "__extensions" : responseMap.get("extensions") });
+        if bindExtensions && responseMap.hasKey("extensions") {
+            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
         }
-        DataResponse response = check responseData.cloneWithType(targetType);
-        return response;
+        return check responseData.cloneWithType(targetType);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Executes a GraphQL operation with the Automatic Persisted Queries protocol. Only the hash of the query document
+# is sent at first, and the query document is sent along with it if the server has not persisted it yet.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + document - Query document of the operation
+# + documentHash - SHA-256 hash of the query document
+# + variables - Variables of the operation
+# + headers - HTTP headers of the request
+# + useGet - Whether the request is sent with the HTTP GET method, which carries the request in the URL
+# + return - Returns the GraphQL response or an error at failure of the request
+isolated function executePersistedQuery(http:Client httpClient, string document, string documentHash,
+                                        map<anydata> variables, map<string|string[]>? headers = (),
+                                        boolean useGet = false) returns json|graphql:ClientError {
+    map<json> request = {
+        variables: variables.toJson(),
+        extensions: {persistedQuery: {version: 1, sha256Hash: documentHash}}
+    };
+    map<json> response = check sendGraphqlRequest(httpClient, request, headers, useGet);
+    if isPersistedQueryNotFound(response) {
+        request["query"] = document;
+        response = check sendGraphqlRequest(httpClient, request, headers, useGet);
+    }
+    return getGraphqlResponse(response);
+}
+
+# Executes a GraphQL query with the HTTP GET method. The query document and the variables are sent as the query
+# parameters of the URL, so that the response can be cached by the HTTP caches.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + headers - HTTP headers of the request
+# + return - Returns the GraphQL response or an error at failure of the request
+isolated function executeWithGet(http:Client httpClient, string document, map<anydata> variables,
+                                 map<string|string[]>? headers = ()) returns json|graphql:ClientError {
+    map<json> request = {query: document, variables: variables.toJson()};
+    map<json> response = check sendGraphqlRequest(httpClient, request, headers, true);
+    return getGraphqlResponse(response);
+}
+
+isolated function sendGraphqlRequest(http:Client httpClient, map<json> request, map<string|string[]>? headers,
+                                     boolean useGet = false) returns map<json>|graphql:ClientError {
+    do {
+        json response;
+        if useGet {
+            response = check httpClient->get(check getRequestPath(request), headers);
+        } else {
+            response = check httpClient->post("", request, headers);
+        }
+        return check response.ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function getRequestPath(map<json> request) returns string|error {
+    string[] parameters = [];
+    foreach [string, json] [name, value] in request.entries() {
+        if value is () || (value is map<json> && value.length() == 0) {
+            continue;
+        }
+        string parameter = value is string ? value : value.toJsonString();
+        parameters.push(string `${name}=${check url:encode(parameter, "UTF-8")}`);
+    }
+    return "?" + string:'join("&", ...parameters);
+}
+
+isolated function getGraphqlResponse(map<json> response) returns json|graphql:ClientError {
+    json errors = response["errors"];
+    if errors is json[] && errors.length() > 0 {
+        graphql:ErrorDetail[]|error errorDetails = errors.cloneWithType();
+        if errorDetails is error {
+            return error graphql:RequestError("GraphQL Client Error", errorDetails);
+        }
+        return error graphql:ServerError("GraphQL Server Error", errors = errorDetails, data = response["data"],
+                                         extensions = <map<json>?>response["extensions"]);
+    }
+    return response;
+}
+
+isolated function isPersistedQueryNotFound(map<json> response) returns boolean {
+    json errors = response["errors"];
+    if errors !is json[] {
+        return false;
+    }
+    foreach json errorDetail in errors {
+        if errorDetail is map<json> {
+            json extensions = errorDetail["extensions"];
+            if errorDetail["message"] == "PersistedQueryNotFound" ||
+                    (extensions is map<json> && extensions["code"] == "PERSISTED_QUERY_NOT_FOUND") {
+                return true;
+            }
+        }
+    }
+    return false;
+}
+
+# Represents an operation of a batched request, which is created with the function named after the operation, e.g.
+# `countryOperation` for the `country` operation.
+#
+# + query - Query document of the operation
+# + variables - Variables of the operation
+# + targetType - Response type of the operation
+public type BatchOperation record {|
+    string query;
+    map<anydata> variables;
+    typedesc<anydata> targetType;
+|};
+
+# Executes the given operations with a single batched request, i.e. a JSON array of GraphQL requests, and binds the
+# response of each operation to its response type. The GraphQL server must support batched requests.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + operations - Operations of the batched request
+# + headers - HTTP headers of the request
+# + bindExtensions - Whether the `extensions` of the responses are bound to the `__extensions` field
+# + return - Returns the response or the error of each operation in the order of the operations, or an error at
+# failure of the request
+isolated function executeBatchedOperations(http:Client httpClient, BatchOperation[] operations,
+                                           map<string|string[]>? headers = (), boolean bindExtensions = false)
+                                           returns (record {|anydata...;|}|graphql:ClientError)[]|graphql:ClientError {
+    if operations.length() == 0 {
+        return [];
+    }
+    json[] requests = from BatchOperation operation in operations
+        select {query: operation.query, variables: operation.variables.toJson()};
+    json[] responses;
+    do {
+        json response = check httpClient->post("", requests, headers);
+        responses = check response.ensureType();
     } on fail var e {
         return error graphql:RequestError("GraphQL Client Error", e);
     }
+    if responses.length() != operations.length() {
+        return error graphql:RequestError("GraphQL Client Error: The batched response does not have a response " +
+                                          "for each operation");
+    }
+    (record {|anydata...;|}|graphql:ClientError)[] results = [];
+    foreach int i in 0 ..< operations.length() {
+        results.push(bindBatchedResponse(responses[i], operations[i].targetType, bindExtensions));
+    }
+    return results;
+}
+
+isolated function bindBatchedResponse(json response, typedesc<anydata> targetType, boolean bindExtensions)
+                                      returns record {|anydata...;|}|graphql:ClientError {
+    if response !is map<json> {
+        return error graphql:RequestError("GraphQL Client Error: Invalid response of a batched operation");
+    }
+    if targetType !is typedesc<DataResponse> {
+        return error graphql:RequestError("GraphQL Client Error: Invalid response type of a batched operation");
+    }
+    json graphqlResponse = check getGraphqlResponse(response);
+    return performDataBinding(graphqlResponse, targetType, bindExtensions);
+}
+
+# Deduplicates the concurrent executions of identical queries, i.e. the queries with the same document and equal
+# variables, so that they share a single request and its response. The shared response is immutable.
+isolated class RequestCoalescer {
+    private final map<InflightRequest> inflightRequests = {};
+    private final decimal timeout;
+
+    # Initializes the request coalescer.
+    #
+    # + timeout - Maximum time to wait for the response of a query in seconds
+    isolated function init(decimal timeout) {
+        self.timeout = timeout;
+    }
+
+    # Executes a query, or waits for the response of an identical query being executed already. The request is sent
+    # without holding the lock of the coalescer, so that the queries with different keys are executed concurrently.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + document - Query document of the operation
+    # + variables - Variables of the operation
+    # + headers - HTTP headers of the request
+    # + return - Returns the GraphQL response or an error at failure of the request
+    isolated function execute(graphql:Client graphqlClient, string document, map<anydata> & readonly variables,
+                              map<string|string[]>? & readonly headers = ()) returns json|graphql:ClientError {
+        string key = getRequestKey(document, variables);
+        InflightRequest newRequest = new (graphqlClient, document, variables, headers, self.timeout);
+        InflightRequest request;
+        lock {
+            InflightRequest? existingRequest = self.inflightRequests[key];
+            if existingRequest is () {
+                self.inflightRequests[key] = newRequest;
+                request = newRequest;
+            } else {
+                request = existingRequest;
+            }
+        }
+        // Never panics, so that the request is always removed once it is completed
+        json|graphql:ClientError response = request.waitForResponse();
+        lock {
+            if self.inflightRequests[key] === request {
+                _ = self.inflightRequests.remove(key);
+            }
+        }
+        return response;
+    }
+}
+
+# Represents the result of a coalesced query, i.e. its GraphQL response or the error at failure of the request.
+type QueryResult readonly & record {|
+    json|graphql:ClientError response;
+|};
+
+# Represents a query being executed, whose response is shared by the identical queries executed concurrently.
+isolated class InflightRequest {
+    private final graphql:Client graphqlClient;
+    private final string document;
+    private final map<anydata> & readonly variables;
+    private final map<string|string[]>? & readonly headers;
+    private final decimal timeout;
+    private QueryResult? result = ();
+
+    isolated function init(graphql:Client graphqlClient, string document, map<anydata> & readonly variables,
+                           map<string|string[]>? & readonly headers, decimal timeout) {
+        self.graphqlClient = graphqlClient;
+        self.document = document;
+        self.variables = variables;
+        self.headers = headers;
+        self.timeout = timeout;
+    }
+
+    # Waits for the response of the query. The first caller sends the request and waits for its future while
+    # holding the lock of the request, so that the other callers wait for the lock and get the same result.
+    #
+    # + return - Returns the GraphQL response or an error at failure of the request
+    isolated function waitForResponse() returns json|graphql:ClientError {
+        lock {
+            QueryResult? result = self.result;
+            if result !is () {
+                return result.response;
+            }
+            QueryResult newResult = sendCoalescedQuery(self.graphqlClient, self.document, self.variables,
+                                                       self.headers, self.timeout);
+            self.result = newResult;
+            return newResult.response;
+        }
+    }
+}
+
+# Sends a coalesced query, and waits for its response for the given timeout at most.
+#
+# + graphqlClient - GraphQL client of the GraphQL API
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + headers - HTTP headers of the request
+# + timeout - Maximum time to wait for the response in seconds
+# + return - Returns the GraphQL response, or an error at failure of the request or at the timeout
+isolated function sendCoalescedQuery(graphql:Client graphqlClient, string document,
+                                     map<anydata> & readonly variables, map<string|string[]>? & readonly headers,
+                                     decimal timeout) returns QueryResult {
+    future<QueryResult> response = start executeCoalescedQuery(graphqlClient, document, variables, headers);
+    future<QueryResult> timeoutResult = start getTimeoutResult(timeout);
+    // The results are not errors, so that the first result is returned even if it holds an error
+    QueryResult result = wait response | timeoutResult;
+    timeoutResult.cancel();
+    return result;
+}
+
+isolated function executeCoalescedQuery(graphql:Client graphqlClient, string document,
+                                        map<anydata> & readonly variables, map<string|string[]>? & readonly headers)
+                                        returns QueryResult {
+    json|error response = trap graphqlClient->executeWithType(document, variables, headers = headers,
+                                                              targetType = json);
+    if response is graphql:ClientError {
+        return {response};
+    }
+    if response is error {
+        return {response: error graphql:RequestError("GraphQL Client Error", response)};
+    }
+    return {response: response.cloneReadOnly()};
+}
+
+isolated function getTimeoutResult(decimal timeout) returns QueryResult {
+    runtime:sleep(timeout);
+    return {
+        response: error graphql:RequestError(
+                string `GraphQL Client Error: The response of the query is not received in ${timeout} seconds`)
+    };
+}
+
+# Gets the key identifying the queries with the same document and equal variables, regardless of the order of the
+# fields of the variables.
+#
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + return - Returns the key of the query
+isolated function getRequestKey(string document, map<anydata> variables) returns string {
+    return document + "\n" + getCanonicalJsonString(variables.toJson());
+}
+
+isolated function getCanonicalJsonString(json value) returns string {
+    if value is map<json> {
+        string[] members = from string key in value.keys()
+            order by key ascending
+            select key.toJsonString() + ":" + getCanonicalJsonString(value.get(key));
+        return "{" + string:'join(",", ...members) + "}";
+    }
+    if value is json[] {
+        string[] items = from json item in value
+            select getCanonicalJsonString(item);
+        return "[" + string:'join(",", ...items) + "]";
+    }
+    return value.toJsonString();
+}
+
+# Represents a response in the response cache, which expires at the given monotonic time.
+type CachedResponse readonly & record {|
+    string key;
+    DataResponse response;
+    decimal expiryTime;
+|};
+
+# Caches the responses of the queries for their time-to-live, evicting the least recently used response when the
+# cache is full. The responses are cached as immutable values, so that the cache hits are returned without cloning.
+isolated class ResponseCache {
+    private final int maxEntries;
+    # The cached responses, in the order of their last use
+    private final map<CachedResponse> entries = {};
+
+    isolated function init(int maxEntries) {
+        self.maxEntries = maxEntries;
+    }
+
+    # Gets the cached response of a query, if it is not expired.
+    #
+    # + key - Key of the query
+    # + return - Returns the cached response, or `()` if the response is not cached or expired
+    isolated function get(string key) returns DataResponse & readonly? {
+        lock {
+            CachedResponse? cachedResponse = self.entries[key];
+            if cachedResponse is () {
+                return;
+            }
+            _ = self.entries.remove(key);
+            if cachedResponse.expiryTime <= time:monotonicNow() {
+                return;
+            }
+            self.entries[key] = cachedResponse;
+            return cachedResponse.response;
+        }
+    }
+
+    # Caches the response of a query for the given time-to-live.
+    #
+    # + key - Key of the query
+    # + response - Response of the query
+    # + ttl - Time-to-live of the response in seconds
+    isolated function put(string key, DataResponse & readonly response, decimal ttl) {
+        CachedResponse cachedResponse = {key, response, expiryTime: time:monotonicNow() + ttl};
+        lock {
+            _ = self.entries.removeIfHasKey(key);
+            if self.entries.length() >= self.maxEntries {
+                string? leastRecentlyUsedKey = ();
+                foreach CachedResponse entry in self.entries {
+                    leastRecentlyUsedKey = entry.key;
+                    break;
+                }
+                if leastRecentlyUsedKey is string {
+                    _ = self.entries.remove(leastRecentlyUsedKey);
+                }
+            }
+            self.entries[key] = cachedResponse;
+        }
+    }
 }
 
 # Represents return types of a GraphQL operation.
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.SyntheticSchemaGenerator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class is used to detect superlinear growth of the client, service and SDL generations.
+ * <p>
+ * Each generation is run end to end on synthetic inputs of increasing size, recording the wall time and the peak
+ * heap usage of every run. The growth exponent, i.e. the slope between the two largest sizes on a log-log scale,
+ * must not exceed the configured threshold. As the larger sizes take minutes to generate, these tests belong to the
+ * `scaling` group, which is only run by the `scalingTest` Gradle task.
+ * <p>
+ * The sizes and the threshold can be overridden with the `scaling.sizes` and `scaling.maxExponent` system
+ * properties.
+ */
+public class GenerationScalingTest extends GraphqlTest {
+    private static final String SCALING_GROUP = "scaling";
+    private static final String CLIENT_WORKLOAD = "client";
+    private static final String SERVICE_WORKLOAD = "service";
+    private static final String SDL_WORKLOAD = "sdl";
+    private static final String DEFAULT_SIZES = "100,1000,10000,50000";
+    private static final String DEFAULT_MAX_EXPONENT = "1.5";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    @DataProvider(name = "workloads")
+    public Object[][] getWorkloads() {
+        return new Object[][]{{CLIENT_WORKLOAD}, {SERVICE_WORKLOAD}, {SDL_WORKLOAD}};
+    }
+
+    @Test(description = "Test the generation time and peak heap usage grow at most by the configured exponent",
+            dataProvider = "workloads", groups = SCALING_GROUP)
+    public void testGenerationScaling(String workload) throws IOException {
+        int[] sizes = getSizes();
+        double maxExponent = Double.parseDouble(System.getProperty("scaling.maxExponent", DEFAULT_MAX_EXPONENT));
+        Assert.assertTrue(sizes.length >= 2, "At least two sizes are required to compute the growth exponent");
+
+        // Warms up the JIT and loads the bundled templates, so that they are not accounted to the smallest size.
+        generate(workload, sizes[0]);
+        List<Measurement> measurements = new ArrayList<>();
+        for (int size : sizes) {
+            measurements.add(generate(workload, size));
+        }
+        writeReport(workload, measurements);
+
+        Measurement smaller = measurements.get(measurements.size() - 2);
+        Measurement larger = measurements.get(measurements.size() - 1);
+        double timeExponent = getGrowthExponent(smaller.size, smaller.wallTime, larger.size, larger.wallTime);
+        double heapExponent = getGrowthExponent(smaller.size, smaller.peakHeap, larger.size, larger.peakHeap);
+        Assert.assertTrue(timeExponent <= maxExponent, String.format("The %s generation time grows with an " +
+                "exponent of %.2f between %d and %d types, exceeding %.2f", workload, timeExponent, smaller.size,
+                larger.size, maxExponent));
+        Assert.assertTrue(heapExponent <= maxExponent, String.format("The %s generation peak heap usage grows " +
+                "with an exponent of %.2f between %d and %d types, exceeding %.2f", workload, heapExponent,
+                smaller.size, larger.size, maxExponent));
+    }
+
+    private Measurement generate(String workload, int size) throws IOException {
+        Path workDir = Files.createTempDirectory(this.tmpDir, workload + "-" + size);
+        Path outputPath = Files.createDirectories(workDir.resolve("output"));
+        String[] args = {"-i", writeInput(workload, workDir, size).toString(), "-o", outputPath.toString()};
+        if (SERVICE_WORKLOAD.equals(workload)) {
+            args = new String[]{args[0], args[1], args[2], args[3], "-m", SERVICE_WORKLOAD};
+        }
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, workDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        resetPeakHeapUsage();
+        long startTime = System.nanoTime();
+        graphqlCmd.execute();
+        long wallTime = System.nanoTime() - startTime;
+        long peakHeap = getPeakHeapUsage();
+
+        String output = readOutput(true);
+        Assert.assertEquals(exitCaptor.getExitCode(), 0,
+                "The " + workload + " generation of " + size + " types failed: " + output);
+        return new Measurement(size, wallTime, peakHeap);
+    }
+
+    private static Path writeInput(String workload, Path workDir, int size) throws IOException {
+        switch (workload) {
+            case CLIENT_WORKLOAD:
+                Path schema = Files.writeString(workDir.resolve("schema.graphql"),
+                        SyntheticSchemaGenerator.getSdl(size));
+                Path document = Files.writeString(workDir.resolve("queries.graphql"),
+                        SyntheticSchemaGenerator.getDocument(size));
+                return Files.writeString(workDir.resolve("graphql.config.yaml"),
+                        "schema: " + schema + "\ndocuments:\n  - " + document + "\n");
+            case SERVICE_WORKLOAD:
+                return Files.writeString(workDir.resolve("schema.graphql"), SyntheticSchemaGenerator.getSdl(size));
+            case SDL_WORKLOAD:
+                return Files.writeString(workDir.resolve("service.bal"),
+                        SyntheticSchemaGenerator.getBallerinaService(size));
+            default:
+                throw new IllegalArgumentException("Unknown workload: " + workload);
+        }
+    }
+
+    private static void writeReport(String workload, List<Measurement> measurements) throws IOException {
+        PrintStream out = System.out;
+        StringBuilder report = new StringBuilder("types,wallTimeMs,peakHeapMb\n");
+        for (Measurement measurement : measurements) {
+            String row = String.format("%d,%.1f,%.1f", measurement.size, measurement.wallTime / NANOS_PER_MILLI,
+                    measurement.peakHeap / BYTES_PER_MEGABYTE);
+            report.append(row).append("\n");
+            out.println("[" + workload + "] " + row);
+        }
+        Path reportDir = Paths.get(System.getProperty("target.dir", "build"), "reports", "scaling");
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve(workload + ".csv"), report.toString());
+    }
+
+    private static int[] getSizes() {
+        return Arrays.stream(System.getProperty("scaling.sizes", DEFAULT_SIZES).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Computes the exponent k of the growth f(n) ~ n^k between two sizes.
+     */
+    private static double getGrowthExponent(int smallerSize, double smallerValue, int largerSize,
+                                            double largerValue) {
+        return Math.log(largerValue / smallerValue) / Math.log((double) largerSize / smallerSize);
+    }
+
+    private static void resetPeakHeapUsage() {
+        System.gc();
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Gets the sum of the peak usages of the heap memory pools since the last reset, which is an upper bound of the
+     * peak heap usage.
+     */
+    private static long getPeakHeapUsage() {
+        long peakHeap = 0;
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                peakHeap += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+        return peakHeap;
+    }
+
+    /**
+     * Represents the wall time and the peak heap usage of a generation of a given size.
+     */
+    private static class Measurement {
+        private final int size;
+        private final long wallTime;
+        private final long peakHeap;
+
+        Measurement(int size, long wallTime, long peakHeap) {
+            this.size = size;
+            this.wallTime = wallTime;
+            this.peakHeap = peakHeap;
+        }
+    }
+}
@@ -33,12 +33,25 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_CONFIGURATION_FILE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CACHE_CONFIG;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONCURRENCY;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONFIGURATION_FILE_CONTENT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_FILE_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_MODE;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_PARALLELISM;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_QUERY_METHOD;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_QUERY_SIZE_REPORT_HEADER;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_UNCHANGED_PROJECTS;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_MISSING_SCHEMA_FILE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.PERSISTED_QUERIES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERIES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.UTILS_FILE_NAME;
 
 /**
  * This class is used to test the functionality of the GraphQL command.
@@ -70,15 +83,20 @@ public class GraphqlCmdTest extends GraphqlTest {
         try {
             graphqlCmd.execute();
             Assert.assertTrue(Files.exists(this.tmpDir.resolve("client.bal")));
+            Assert.assertTrue(Files.exists(this.tmpDir.resolve("queries.bal")));
             Assert.assertTrue(Files.exists(this.tmpDir.resolve("types.bal")));
             String generatedClientContent = readContent(this.tmpDir.resolve("client.bal"));
+            String generatedQueriesContent = readContent(this.tmpDir.resolve("queries.bal"));
             String generatedTypesContent = readContent(this.tmpDir.resolve("types.bal"));
 
             Path expectedClientFile = resourceDir.resolve(Paths.get("expectedGenCode", "client.bal"));
+            Path expectedQueriesFile = resourceDir.resolve(Paths.get("expectedGenCode", "queries.bal"));
             Path expectedTypesFile = resourceDir.resolve(Paths.get("expectedGenCode", "types.bal"));
             String expectedClientContent = readContent(expectedClientFile);
+            String expectedQueriesContent = readContent(expectedQueriesFile);
             String expectedTypesContent = readContent(expectedTypesFile);
             Assert.assertEquals(generatedClientContent, expectedClientContent);
+            Assert.assertEquals(generatedQueriesContent, expectedQueriesContent);
             Assert.assertEquals(generatedTypesContent, expectedTypesContent);
             Assert.assertEquals(exitCaptor.getExitCode(), 0, "Successful execution should exit with code 0");
         } catch (BLauncherException | IOException e) {
@@ -359,6 +377,39 @@ public class GraphqlCmdTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test graphql command execution with an invalid response cache in config file")
+    public void testExecuteWithInvalidCache() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-cache.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains(MESSAGE_FOR_INVALID_CACHE_CONFIG + "maxEntries: 0"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with an unsupported query method in config file")
+    public void testExecuteWithInvalidQueryMethod() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-query-method.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains(MESSAGE_FOR_INVALID_QUERY_METHOD + "PUT"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
     @Test(description = "Test successful graphql command execution with projects in config file")
     public void testExecuteWithProjects() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml"));
@@ -388,6 +439,196 @@ public class GraphqlCmdTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test successful graphql command execution with parallel flag and projects in config file")
+    public void testExecuteWithParallelFlag() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-multiple-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--parallel=3"};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            Assert.assertEquals(exitCaptor.getExitCode(), 0, "Successful execution should exit with code 0");
+
+            Path expectedClientFile = resourceDir.resolve(Paths.get("expectedGenCode", "client.bal"));
+            Path expectedTypesFile = resourceDir.resolve(Paths.get("expectedGenCode", "types.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+            String expectedTypesContent = readContent(expectedTypesFile);
+            for (String projectName : new String[]{"country", "countries", "continents"}) {
+                Path modulePath = this.tmpDir.resolve("modules").resolve(projectName);
+                Assert.assertTrue(Files.exists(modulePath.resolve("client.bal")));
+                Assert.assertTrue(Files.exists(modulePath.resolve("types.bal")));
+                Assert.assertEquals(readContent(modulePath.resolve("client.bal")), expectedClientContent);
+                Assert.assertEquals(readContent(modulePath.resolve("types.bal")), expectedTypesContent);
+            }
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution skips the projects unchanged since the last generation")
+    public void testExecuteWithUnchangedProjects() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-multiple-projects.yaml"));
+        try {
+            Path outputPath = Files.createTempDirectory(this.tmpDir, "incremental");
+            String[] args = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString()};
+            executeGraphqlCmd(args);
+            readOutput(true);
+            Path clientFile = outputPath.resolve("modules").resolve("country").resolve("client.bal");
+            FileTime lastModifiedTime = Files.getLastModifiedTime(clientFile);
+
+            Assert.assertEquals(executeGraphqlCmd(args), 0, "Successful execution should exit with code 0");
+            Assert.assertTrue(readOutput(true).contains(String.format(MESSAGE_FOR_UNCHANGED_PROJECTS, 3)));
+            Assert.assertEquals(Files.getLastModifiedTime(clientFile), lastModifiedTime);
+
+            Files.delete(clientFile);
+            Assert.assertEquals(executeGraphqlCmd(args), 0, "Successful execution should exit with code 0");
+            Assert.assertTrue(readOutput(true).contains(String.format(MESSAGE_FOR_UNCHANGED_PROJECTS, 2)));
+            Assert.assertEquals(readContent(clientFile),
+                    readContent(resourceDir.resolve(Paths.get("expectedGenCode", "client.bal"))));
+
+            String[] argsWithForceFlag = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--force"};
+            Assert.assertEquals(executeGraphqlCmd(argsWithForceFlag), 0);
+            Assert.assertFalse(readOutput(true).contains("unchanged project(s)"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with query size report flag")
+    public void testExecuteWithQuerySizeReportFlag() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-fragments.yaml"));
+        try {
+            Path outputPath = Files.createTempDirectory(this.tmpDir, "query-size-report");
+            String[] args = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--query-size-report"};
+            Assert.assertEquals(executeGraphqlCmd(args), 0, "Successful execution should exit with code 0");
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains(MESSAGE_FOR_QUERY_SIZE_REPORT_HEADER));
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY, ROOT_PROJECT_NAME,
+                    "countryWithNestedFragments", 268, 220)));
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY, ROOT_PROJECT_NAME,
+                    "languagesWithFragment", 242, 105)));
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_QUERY_SIZE_REPORT_ENTRY, ROOT_PROJECT_NAME,
+                    "continentsWithoutFragments", 235, 50)));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with the persisted queries flag")
+    public void testExecuteWithPersistedQueriesFlag() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql.config.yaml"));
+        try {
+            Path outputPath = Files.createTempDirectory(this.tmpDir, "persisted-queries");
+            String[] args = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--persisted-queries"};
+            Assert.assertEquals(executeGraphqlCmd(args), 0, "Successful execution should exit with code 0");
+            Assert.assertTrue(Files.exists(outputPath.resolve(PERSISTED_QUERIES_FILE_NAME)));
+            Assert.assertTrue(Files.readString(outputPath.resolve(CLIENT_FILE_NAME))
+                    .contains("executePersistedQuery(self.httpClient, query, COUNTRY_DOCUMENT_HASH, variables)"));
+            Assert.assertTrue(Files.readString(outputPath.resolve(QUERIES_FILE_NAME))
+                    .contains("COUNTRY_DOCUMENT_HASH"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with the batch operations flag")
+    public void testExecuteWithBatchOperationsFlag() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql.config.yaml"));
+        try {
+            Path outputPath = Files.createTempDirectory(this.tmpDir, "batch-operations");
+            String[] args = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--batch-operations"};
+            Assert.assertEquals(executeGraphqlCmd(args), 0, "Successful execution should exit with code 0");
+            Assert.assertTrue(Files.readString(outputPath.resolve(CLIENT_FILE_NAME))
+                    .contains("public isolated function countryOperation(string code) returns BatchOperation"));
+            Assert.assertTrue(Files.readString(outputPath.resolve(UTILS_FILE_NAME))
+                    .contains("isolated function executeBatchedOperations"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with the coalesce requests flag")
+    public void testExecuteWithCoalesceRequestsFlag() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql.config.yaml"));
+        try {
+            Path outputPath = Files.createTempDirectory(this.tmpDir, "coalesce-requests");
+            String[] args = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--coalesce-requests"};
+            Assert.assertEquals(executeGraphqlCmd(args), 0, "Successful execution should exit with code 0");
+            Assert.assertTrue(Files.readString(outputPath.resolve(CLIENT_FILE_NAME))
+                    .contains("self.requestCoalescer.execute("));
+            Assert.assertTrue(Files.readString(outputPath.resolve(UTILS_FILE_NAME))
+                    .contains("isolated class RequestCoalescer"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    private int executeGraphqlCmd(String[] args) {
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        graphqlCmd.execute();
+        return exitCaptor.getExitCode();
+    }
+
+    @Test(description = "Test graphql command execution with parallel flag reports errors in the declared order")
+    public void testExecuteWithParallelFlagAndInvalidProjects() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-multiple-invalid-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--parallel"};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains("invalidQueries"));
+            Assert.assertFalse(output.contains("invalidSchema"));
+            Assert.assertEquals(exitCaptor.getExitCode(), 1, "Failed execution should exit with code 1");
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @DataProvider(name = "invalidParallelFlagArguments")
+    public Object[] createInvalidParallelFlagArgumentData() {
+        return new Object[]{"-1", "0", "two"};
+    }
+
+    @Test(description = "Test graphql command execution with invalid parallel flag argument",
+            dataProvider = "invalidParallelFlagArguments")
+    public void testExecuteWithInvalidParallelFlagArgument(String parallelism) {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--parallel=" + parallelism};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_INVALID_PARALLELISM, parallelism)));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test graphql command execution with an invalid concurrency flag argument")
+    public void testExecuteWithInvalidConcurrencyFlagArgument() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(), "--concurrency", "0"};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_INVALID_CONCURRENCY, "0")));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
     @Test(description = "Test successful graphql command execution with schema URL in config file", enabled = false)
     public void testExecuteWithSchemaUrl() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-schema-url.yaml"));
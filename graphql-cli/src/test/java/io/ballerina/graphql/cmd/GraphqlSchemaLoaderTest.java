@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import graphql.schema.idl.errors.SchemaProblem;
+import io.ballerina.graphql.common.GraphqlStubServer;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to test the memoisation of the GraphQL schemas built for the GraphQL projects.
+ */
+public class GraphqlSchemaLoaderTest extends GraphqlTest {
+
+    @Test(description = "Test projects with the same schema file share a single schema instance")
+    public void testLoadSameSchemaFile() throws IntospectionException, IOException {
+        String schemaPath = getSchemaPath("schema.graphql");
+        GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null);
+        GraphQLSchema firstSchema = schemaLoader.load(schemaPath, null);
+        GraphQLSchema secondSchema = schemaLoader.load(schemaPath, null);
+
+        Assert.assertSame(secondSchema, firstSchema);
+        Assert.assertEquals(schemaLoader.getBuildCount(), 1);
+    }
+
+    @Test(description = "Test schema files with the same content share a single schema instance")
+    public void testLoadSchemaFilesWithSameContent() throws IntospectionException, IOException {
+        Path schemaCopy = Files.createTempFile(this.tmpDir, "schema-copy", ".graphql");
+        Files.copy(Paths.get(getSchemaPath("schema.graphql")), schemaCopy, StandardCopyOption.REPLACE_EXISTING);
+        GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null);
+        GraphQLSchema firstSchema = schemaLoader.load(getSchemaPath("schema.graphql"), null);
+        GraphQLSchema secondSchema = schemaLoader.load(schemaCopy.toString(), null);
+        GraphQLSchema otherSchema = schemaLoader.load(getSchemaPath("schema-with-scalar.graphql"), null);
+
+        Assert.assertSame(secondSchema, firstSchema);
+        Assert.assertNotSame(otherSchema, firstSchema);
+        Assert.assertEquals(schemaLoader.getBuildCount(), 2);
+    }
+
+    @Test(description = "Test a schema shared by projects processed in parallel is built once")
+    public void testLoadSameSchemaInParallel() throws Exception {
+        String schemaPath = getSchemaPath("schema.graphql");
+        GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GraphQLSchema>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> schemaLoader.load(schemaPath, null)));
+            }
+            GraphQLSchema firstSchema = futures.get(0).get();
+            for (Future<GraphQLSchema> future : futures) {
+                Assert.assertSame(future.get(), firstSchema);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(schemaLoader.getBuildCount(), 1);
+    }
+
+    @Test(description = "Test projects with the same schema URL share a single schema instance")
+    public void testLoadSameSchemaUrl() throws IntospectionException, IOException {
+        try (GraphqlStubServer stubServer =
+                     new GraphqlStubServer(resourceDir.resolve(Paths.get("specs", "schema.graphql")))) {
+            GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null);
+            GraphQLSchema firstSchema = schemaLoader.load(stubServer.getUrl(), null);
+            GraphQLSchema secondSchema = schemaLoader.load(stubServer.getUrl(), null);
+
+            Assert.assertSame(secondSchema, firstSchema);
+            Assert.assertEquals(stubServer.getRequestCount(), 2);
+            Assert.assertEquals(schemaLoader.getBuildCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the schema hash is obtained without introspecting the schema URL again on load")
+    public void testGetSchemaHashBeforeLoad() throws IntospectionException, IOException {
+        try (GraphqlStubServer stubServer =
+                     new GraphqlStubServer(resourceDir.resolve(Paths.get("specs", "schema.graphql")))) {
+            GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null);
+            String schemaHash = schemaLoader.getSchemaHash(stubServer.getUrl(), null);
+            GraphQLSchema graphQLSchema = schemaLoader.load(stubServer.getUrl(), null);
+
+            Assert.assertNotNull(graphQLSchema.getQueryType());
+            Assert.assertEquals(stubServer.getRequestCount(), 1);
+            Assert.assertEquals(schemaLoader.getSchemaHash(stubServer.getUrl(), null), schemaHash);
+        }
+    }
+
+    @Test(description = "Test the serialized schema is reused by a later run")
+    public void testLoadSerializedSchema() throws IntospectionException, IOException {
+        Path schemaCacheDirectory = Files.createTempDirectory(this.tmpDir, "schema-cache");
+        String schemaPath = getSchemaPath("schema-with-subscription.graphql");
+        GraphqlSchemaLoader firstRunLoader = new GraphqlSchemaLoader(null, schemaCacheDirectory);
+        GraphQLSchema firstSchema = firstRunLoader.load(schemaPath, null);
+        GraphqlSchemaLoader secondRunLoader = new GraphqlSchemaLoader(null, schemaCacheDirectory);
+        GraphQLSchema secondSchema = secondRunLoader.load(schemaPath, null);
+
+        Assert.assertEquals(getFileCount(schemaCacheDirectory), 1);
+        Assert.assertEquals(firstRunLoader.getSerializedSchemaHitCount(), 0);
+        Assert.assertEquals(secondRunLoader.getSerializedSchemaHitCount(), 1);
+        Assert.assertEquals(new SchemaPrinter().print(secondSchema), new SchemaPrinter().print(firstSchema));
+    }
+
+    @Test(description = "Test an unreadable serialized schema is ignored and the schema is parsed again")
+    public void testLoadCorruptedSerializedSchema() throws IntospectionException, IOException {
+        Path schemaCacheDirectory = Files.createTempDirectory(this.tmpDir, "schema-cache");
+        String schemaPath = getSchemaPath("schema.graphql");
+        new GraphqlSchemaLoader(null, schemaCacheDirectory).load(schemaPath, null);
+        try (Stream<Path> serializedSchemas = Files.list(schemaCacheDirectory)) {
+            for (Path serializedSchema : serializedSchemas.toList()) {
+                Files.writeString(serializedSchema, "corrupted");
+            }
+        }
+        GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null, schemaCacheDirectory);
+        GraphQLSchema graphQLSchema = schemaLoader.load(schemaPath, null);
+
+        Assert.assertNotNull(graphQLSchema.getQueryType());
+        Assert.assertEquals(schemaLoader.getSerializedSchemaHitCount(), 0);
+        Assert.assertEquals(getFileCount(schemaCacheDirectory), 1);
+    }
+
+    @Test(description = "Test a serialized schema holding classes other than those of a schema is ignored")
+    public void testLoadSerializedSchemaWithDisallowedClasses() throws IntospectionException, IOException {
+        Path schemaCacheDirectory = Files.createTempDirectory(this.tmpDir, "schema-cache");
+        String schemaPath = getSchemaPath("schema.graphql");
+        new GraphqlSchemaLoader(null, schemaCacheDirectory).load(schemaPath, null);
+        try (Stream<Path> serializedSchemas = Files.list(schemaCacheDirectory)) {
+            for (Path serializedSchema : serializedSchemas.toList()) {
+                try (ObjectOutputStream objectOutputStream =
+                             new ObjectOutputStream(Files.newOutputStream(serializedSchema))) {
+                    objectOutputStream.writeObject(new TreeMap<>(Map.of("type", "Query")));
+                }
+                try (ObjectInputStream objectInputStream =
+                             new ObjectInputStream(Files.newInputStream(serializedSchema))) {
+                    objectInputStream.setObjectInputFilter(GraphqlSchemaLoader.SERIALIZED_SCHEMA_FILTER);
+                    Assert.assertThrows(InvalidClassException.class, objectInputStream::readObject);
+                }
+            }
+        }
+        GraphqlSchemaLoader schemaLoader = new GraphqlSchemaLoader(null, schemaCacheDirectory);
+        GraphQLSchema graphQLSchema = schemaLoader.load(schemaPath, null);
+
+        Assert.assertNotNull(graphQLSchema.getQueryType());
+        Assert.assertEquals(schemaLoader.getSerializedSchemaHitCount(), 0);
+    }
+
+    @Test(description = "Test an invalid schema fails to load", expectedExceptions = SchemaProblem.class)
+    public void testLoadInvalidSchema() throws IntospectionException, IOException {
+        new GraphqlSchemaLoader(null).load(getSchemaPath("invalid-local-sdl.graphql"), null);
+    }
+
+    private String getSchemaPath(String schemaFileName) {
+        return resourceDir.resolve(Paths.get("specs", schemaFileName)).toString();
+    }
+
+    private static long getFileCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
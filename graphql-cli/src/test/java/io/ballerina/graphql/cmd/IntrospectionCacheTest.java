@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.language.AstPrinter;
+import graphql.language.Document;
+import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.graphql.common.GraphqlStubServer;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
+import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+import io.ballerina.graphql.generator.client.pojo.Default;
+import io.ballerina.graphql.generator.client.pojo.Endpoints;
+import io.ballerina.graphql.generator.client.pojo.Extension;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INTROSPECTION_CACHE_SUMMARY;
+
+/**
+ * This class is used to test the functionality of the introspection cache.
+ */
+public class IntrospectionCacheTest extends GraphqlTest {
+    private GraphqlStubServer stubServer;
+    private Path cacheDirectory;
+
+    @BeforeMethod
+    public void startStubServer() throws IOException {
+        this.stubServer = new GraphqlStubServer(resourceDir.resolve(Paths.get("specs", "schema.graphql")));
+        this.cacheDirectory = Files.createTempDirectory(this.tmpDir, "introspection-cache");
+    }
+
+    @AfterMethod
+    public void stopStubServer() {
+        this.stubServer.close();
+    }
+
+    @Test(description = "Test introspection result is served from the cache within the TTL")
+    public void testCachedIntrospectionResultWithinTtl() throws IntospectionException {
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofHours(1), false);
+        Map<String, Object> firstResult =
+                Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+        Map<String, Object> secondResult =
+                Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+
+        Assert.assertEquals(secondResult, firstResult);
+        Assert.assertEquals(stubServer.getRequestCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test(description = "Test introspection result is fetched again once the TTL is expired")
+    public void testCachedIntrospectionResultWithExpiredTtl() throws IntospectionException {
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofSeconds(-1), false);
+        Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+        Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+
+        Assert.assertEquals(stubServer.getRequestCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 0);
+        Assert.assertEquals(cache.getMissCount(), 2);
+    }
+
+    @Test(description = "Test offline mode serves the cached introspection result without contacting the endpoint")
+    public void testCachedIntrospectionResultInOfflineMode() throws IntospectionException {
+        String url = stubServer.getUrl();
+        IntrospectionCache onlineCache = new IntrospectionCache(cacheDirectory, Duration.ZERO, false);
+        Map<String, Object> onlineResult = Introspector.getInstance().getIntrospectionResult(url, null, onlineCache);
+        stubServer.close();
+
+        IntrospectionCache offlineCache = new IntrospectionCache(cacheDirectory, Duration.ZERO, true);
+        Map<String, Object> offlineResult =
+                Introspector.getInstance().getIntrospectionResult(url, null, offlineCache);
+        Assert.assertEquals(offlineResult, onlineResult);
+        Assert.assertEquals(offlineCache.getHitCount(), 1);
+        Assert.assertEquals(stubServer.getRequestCount(), 1);
+    }
+
+    @Test(description = "Test introspection results are cached separately for different headers")
+    public void testCachedIntrospectionResultWithDifferentHeaders() throws IntospectionException {
+        String url = stubServer.getUrl();
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofHours(1), false);
+        Introspector.getInstance().getIntrospectionResult(url, getExtensions("Bearer token1"), cache);
+        Introspector.getInstance().getIntrospectionResult(url, getExtensions("Bearer token2"), cache);
+        Introspector.getInstance().getIntrospectionResult(url, getExtensions("Bearer token1"), cache);
+
+        Assert.assertEquals(stubServer.getRequestCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 2);
+    }
+
+    @Test(description = "Test offline mode fails when no cached introspection result is available",
+            expectedExceptions = IntospectionException.class,
+            expectedExceptionsMessageRegExp = ".*No cached introspection result is available.*")
+    public void testOfflineModeWithoutCachedIntrospectionResult() throws IntospectionException {
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofHours(1), true);
+        try {
+            Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+        } finally {
+            Assert.assertEquals(stubServer.getRequestCount(), 0);
+        }
+    }
+
+    @Test(description = "Test expired introspection result is revalidated with the ETag")
+    public void testRevalidationWithEtag() throws IntospectionException {
+        stubServer.setValidators("\"v1\"", null);
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofSeconds(-1), false);
+        Document firstDocument =
+                Introspector.getInstance().getIntrospectedSchemaDocument(stubServer.getUrl(), null, cache);
+        Document secondDocument =
+                Introspector.getInstance().getIntrospectedSchemaDocument(stubServer.getUrl(), null, cache);
+
+        Assert.assertEquals(stubServer.getLastRequestHeaders().getFirst("If-None-Match"), "\"v1\"");
+        Assert.assertEquals(stubServer.getRequestCount(), 2);
+        Assert.assertEquals(stubServer.getNotModifiedCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getRevalidationCount(), 1);
+        Assert.assertEquals(AstPrinter.printAst(secondDocument), AstPrinter.printAst(firstDocument));
+    }
+
+    @Test(description = "Test expired introspection result is revalidated with the Last-Modified date")
+    public void testRevalidationWithLastModified() throws IntospectionException {
+        String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+        stubServer.setValidators(null, lastModified);
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofSeconds(-1), false);
+        Map<String, Object> firstResult =
+                Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+        Map<String, Object> secondResult =
+                Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null, cache);
+
+        Assert.assertEquals(stubServer.getLastRequestHeaders().getFirst("If-Modified-Since"), lastModified);
+        Assert.assertEquals(stubServer.getNotModifiedCount(), 1);
+        Assert.assertEquals(cache.getRevalidationCount(), 1);
+        Assert.assertEquals(secondResult, firstResult);
+    }
+
+    @Test(description = "Test expired introspection result is fetched again when the ETag is changed")
+    public void testRevalidationWithChangedEtag() throws IntospectionException {
+        stubServer.setValidators("\"v1\"", null);
+        IntrospectionCache cache = new IntrospectionCache(cacheDirectory, Duration.ofSeconds(-1), false);
+        Introspector.getInstance().getIntrospectedSchemaDocument(stubServer.getUrl(), null, cache);
+        stubServer.setValidators("\"v2\"", null);
+        Introspector.getInstance().getIntrospectedSchemaDocument(stubServer.getUrl(), null, cache);
+        Introspector.getInstance().getIntrospectedSchemaDocument(stubServer.getUrl(), null, cache);
+
+        Assert.assertEquals(stubServer.getRequestCount(), 3);
+        Assert.assertEquals(stubServer.getNotModifiedCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getRevalidationCount(), 1);
+    }
+
+    @Test(description = "Test graphql command reports the introspection cache hits and misses")
+    public void testExecuteWithIntrospectionCache() throws IOException {
+        Path documentPath = resourceDir.resolve(Paths.get("specs", "queries", "country-queries.graphql"));
+        Path graphqlConfigYaml = this.tmpDir.resolve("graphql-config-with-cached-schema-url.yaml");
+        Files.writeString(graphqlConfigYaml, "schema: " + stubServer.getUrl() + "\n" +
+                "documents:\n" +
+                "  - " + documentPath + "\n");
+        Path outputPath = Files.createTempDirectory(this.tmpDir, "output");
+
+        for (int i = 0; i < 2; i++) {
+            String[] args = {"-i", graphqlConfigYaml.toString(), "-o", outputPath.toString(), "--cache-ttl", "3600",
+                    "--cache-dir", cacheDirectory.toString()};
+            ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+            GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+            new CommandLine(graphqlCmd).parseArgs(args);
+            try {
+                graphqlCmd.execute();
+                String output = readOutput(true);
+                int hits = i == 0 ? 0 : 1;
+                int misses = i == 0 ? 1 : 0;
+                Assert.assertTrue(output.contains(String.format(MESSAGE_FOR_INTROSPECTION_CACHE_SUMMARY, hits,
+                        misses, 0)), output);
+                Assert.assertEquals(exitCaptor.getExitCode(), 0, "Successful execution should exit with code 0");
+            } catch (BLauncherException e) {
+                Assert.fail(e.getMessage());
+            }
+        }
+        Assert.assertEquals(stubServer.getRequestCount(), 1);
+        Assert.assertTrue(Files.exists(outputPath.resolve("client.bal")));
+    }
+
+    private Extension getExtensions(String authorization) {
+        Default defaultName = new Default();
+        defaultName.setHeaders(Map.of("Authorization", authorization));
+        Endpoints endpoints = new Endpoints();
+        endpoints.setDefaultName(defaultName);
+        Extension extensions = new Extension();
+        extensions.setEndpoints(endpoints);
+        return extensions;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import io.ballerina.graphql.common.GraphqlStubServer;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.IntrospectionHttpClient;
+import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class is used to test the HTTP client shared by the introspection requests.
+ */
+public class IntrospectionHttpClientTest extends GraphqlTest {
+    private GraphqlStubServer stubServer;
+
+    @BeforeMethod
+    public void startStubServer() throws IOException {
+        this.stubServer = new GraphqlStubServer(resourceDir.resolve(Paths.get("specs", "schema.graphql")));
+    }
+
+    @AfterMethod
+    public void stopStubServer() {
+        this.stubServer.close();
+        Introspector.getInstance().setHttpClient(null);
+    }
+
+    @DataProvider(name = "contentEncodings")
+    public Object[][] getContentEncodings() {
+        return new Object[][]{{"gzip"}, {"deflate"}};
+    }
+
+    @Test(description = "Test compressed introspection responses are decoded transparently",
+            dataProvider = "contentEncodings")
+    public void testCompressedIntrospectionResponse(String contentEncoding) throws IntospectionException {
+        Introspector.getInstance().setHttpClient(new IntrospectionHttpClient());
+        Map<String, Object> uncompressedResult =
+                Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null);
+        stubServer.setContentEncoding(contentEncoding);
+        Map<String, Object> compressedResult =
+                Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null);
+
+        Assert.assertTrue(stubServer.getLastRequestHeaders().getFirst("Accept-Encoding").contains(contentEncoding));
+        Assert.assertEquals(compressedResult, uncompressedResult);
+    }
+
+    @Test(description = "Test introspection requests to the same endpoint reuse the connection")
+    public void testConnectionReuse() throws IntospectionException {
+        Introspector.getInstance().setHttpClient(new IntrospectionHttpClient());
+        for (int i = 0; i < 3; i++) {
+            Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null);
+        }
+
+        Assert.assertEquals(stubServer.getRequestCount(), 3);
+        Assert.assertEquals(stubServer.getConnectionCount(), 1);
+    }
+
+    @Test(description = "Test the number of concurrent introspection requests is limited")
+    public void testConcurrencyLimit() throws Exception {
+        stubServer.setResponseDelay(Duration.ofMillis(200));
+        Introspector.getInstance().setHttpClient(new IntrospectionHttpClient(
+                IntrospectionHttpClient.DEFAULT_CONNECT_TIMEOUT, IntrospectionHttpClient.DEFAULT_REQUEST_TIMEOUT, 1));
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Map<String, Object>>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executorService.submit(() ->
+                        Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null)));
+            }
+            for (Future<Map<String, Object>> future : futures) {
+                Assert.assertNotNull(future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(stubServer.getRequestCount(), 3);
+        Assert.assertEquals(stubServer.getMaxInFlightRequestCount(), 1);
+    }
+
+    @Test(description = "Test introspection fails once the request timeout is exceeded",
+            expectedExceptions = IntospectionException.class,
+            expectedExceptionsMessageRegExp = "(?s)Failed to retrieve SDL.*timed out.*")
+    public void testRequestTimeout() throws IntospectionException {
+        stubServer.setResponseDelay(Duration.ofSeconds(1));
+        Introspector.getInstance().setHttpClient(new IntrospectionHttpClient(
+                IntrospectionHttpClient.DEFAULT_CONNECT_TIMEOUT, Duration.ofMillis(100), 0));
+        Introspector.getInstance().getIntrospectionResult(stubServer.getUrl(), null);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.GraphQL;
+import graphql.introspection.IntrospectionQuery;
+import graphql.introspection.IntrospectionResultToSchema;
+import graphql.language.Document;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.IntrospectionResultReader;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * This class is used to test the streaming decoding of introspection responses.
+ */
+public class IntrospectionResultReaderTest extends GraphqlTest {
+    private static final int MEGABYTE = 1024 * 1024;
+    private static final int MAX_LEGACY_DECODING_SIZE_IN_MB = 10;
+    private static final int FIELDS_PER_TYPE = 20;
+
+    @Test(description = "Test streaming decoding produces the same introspection result as the JSON object tree")
+    public void testReadIntrospectionResult() throws IOException, IntospectionException {
+        String schemaSdl = Files.readString(resourceDir.resolve(Paths.get("specs", "schema.graphql")));
+        String response = new JSONObject(GraphQL.newGraphQL(new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(schemaSdl), RuntimeWiring.MOCKED_WIRING)).build()
+                .execute(IntrospectionQuery.INTROSPECTION_QUERY).toSpecification()).toString();
+
+        Map<String, Object> introspectionResult = IntrospectionResultReader.read(toInputStream(response));
+
+        Assert.assertEquals(introspectionResult, new JSONObject(response).getJSONObject("data").toMap());
+        Document schemaDocument = new IntrospectionResultToSchema().createSchemaDefinition(introspectionResult);
+        Assert.assertFalse(schemaDocument.getDefinitions().isEmpty());
+    }
+
+    @Test(description = "Test streaming decoding of escaped strings, numbers and literals")
+    public void testReadIntrospectionResultWithEscapedValues() throws IOException, IntospectionException {
+        String response = "{ \"extensions\": {\"cost\": [1, 2.5, {\"x\": \"}\"}]}, \"data\": {\"description\": " +
+                "\"Line\\n\\\"quoted\\\" \\u00e9\\/\", \"count\": 42, \"large\": 12345678901, \"ratio\": -1.5e2, " +
+                "\"deprecated\": false, \"reason\": null, \"items\": [true, [], {}]} }";
+
+        Map<String, Object> introspectionResult = IntrospectionResultReader.read(toInputStream(response));
+
+        Assert.assertEquals(introspectionResult, new JSONObject(response).getJSONObject("data").toMap());
+        Assert.assertEquals(introspectionResult.get("description"), "Line\n\"quoted\" \u00e9/");
+    }
+
+    @Test(description = "Test streaming decoding fails for a response with errors",
+            expectedExceptions = IntospectionException.class,
+            expectedExceptionsMessageRegExp = "Failed to retrieve SDL.*")
+    public void testReadIntrospectionResultWithErrors() throws IOException, IntospectionException {
+        IntrospectionResultReader.read(toInputStream("{\"errors\": [{\"message\": \"Unauthorized\"}], \"data\": {}}"));
+    }
+
+    @Test(description = "Test streaming decoding fails for a malformed response",
+            expectedExceptions = IntospectionException.class,
+            expectedExceptionsMessageRegExp = "Failed to retrieve SDL.*")
+    public void testReadMalformedIntrospectionResult() throws IOException, IntospectionException {
+        IntrospectionResultReader.read(toInputStream("{\"data\": {\"__schema\": {\"types\": [}}}"));
+    }
+
+    @DataProvider(name = "introspectionResponseSizes")
+    public Object[][] getIntrospectionResponseSizes() {
+        return new Object[][]{{1}, {10}, {50}};
+    }
+
+    @Test(description = "Benchmark the peak heap usage of decoding large introspection responses",
+            dataProvider = "introspectionResponseSizes")
+    public void testPeakHeapOfIntrospectionResultDecoding(int sizeInMb) throws Exception {
+        Path responseFile = Files.createTempFile(this.tmpDir, "introspection-response", ".json");
+        try {
+            int typeCount = writeSyntheticIntrospectionResponse(responseFile, (long) sizeInMb * MEGABYTE);
+
+            long streamingPeakHeap = getPeakHeapUsage(() -> {
+                try (InputStream inputStream = Files.newInputStream(responseFile)) {
+                    Map<String, Object> introspectionResult = IntrospectionResultReader.read(inputStream);
+                    Assert.assertEquals(getTypes(introspectionResult).size(), typeCount);
+                    return introspectionResult;
+                }
+            });
+            String legacyPeakHeap = "skipped";
+            if (sizeInMb <= MAX_LEGACY_DECODING_SIZE_IN_MB) {
+                legacyPeakHeap = toMegabytes(getPeakHeapUsage(() ->
+                        new JSONObject(Files.readString(responseFile)).getJSONObject("data").toMap()));
+            }
+            System.out.printf("Introspection response of %d MB (%d types): peak heap %s with streaming decoding, " +
+                    "%s with string and JSON object decoding%n", sizeInMb, typeCount,
+                    toMegabytes(streamingPeakHeap), legacyPeakHeap);
+        } finally {
+            Files.deleteIfExists(responseFile);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> getTypes(Map<String, Object> introspectionResult) {
+        return (List<Object>) ((Map<String, Object>) introspectionResult.get("__schema")).get("types");
+    }
+
+    /**
+     * Gets the peak heap usage above the baseline while running the given task. The result of the task is kept
+     * reachable until the peak usage is read.
+     */
+    private static long getPeakHeapUsage(Callable<Object> task) throws Exception {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP).collect(Collectors.toList());
+        System.gc();
+        long baseline = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+            baseline += pool.getUsage().getUsed();
+        }
+        Object result = task.call();
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        Assert.assertNotNull(result);
+        return Math.max(0, peak - baseline);
+    }
+
+    /**
+     * Writes a synthetic introspection response of at least the given size, made of object types with scalar
+     * fields, and returns the number of types in it.
+     */
+    private static int writeSyntheticIntrospectionResponse(Path responseFile, long size) throws IOException {
+        int typeCount = 0;
+        try (Writer writer = Files.newBufferedWriter(responseFile, StandardCharsets.UTF_8)) {
+            long written = write(writer, "{\"data\":{\"__schema\":{\"queryType\":{\"name\":\"Query\"}," +
+                    "\"mutationType\":null,\"subscriptionType\":null,\"types\":[" +
+                    getObjectType("Query", "Type0") + ",{\"kind\":\"SCALAR\",\"name\":\"String\"," +
+                    "\"description\":null,\"fields\":null,\"inputFields\":null,\"interfaces\":null," +
+                    "\"enumValues\":null,\"possibleTypes\":null}");
+            typeCount += 2;
+            while (written < size) {
+                written += write(writer, "," + getObjectType("Type" + (typeCount - 2), null));
+                typeCount++;
+            }
+            write(writer, "],\"directives\":[]}}}");
+        }
+        return typeCount;
+    }
+
+    private static String getObjectType(String name, String referencedType) {
+        StringBuilder objectType = new StringBuilder("{\"kind\":\"OBJECT\",\"name\":\"").append(name)
+                .append("\",\"description\":\"Synthetic type ").append(name).append("\",\"fields\":[");
+        for (int i = 0; i < FIELDS_PER_TYPE; i++) {
+            String fieldType = referencedType != null && i == 0
+                    ? "{\"kind\":\"OBJECT\",\"name\":\"" + referencedType + "\",\"ofType\":null}"
+                    : "{\"kind\":\"SCALAR\",\"name\":\"String\",\"ofType\":null}";
+            objectType.append(i == 0 ? "" : ",").append("{\"name\":\"field").append(i)
+                    .append("\",\"description\":\"Synthetic field ").append(i).append(" of ").append(name)
+                    .append("\",\"args\":[],\"type\":{\"kind\":\"NON_NULL\",\"name\":null,\"ofType\":")
+                    .append(fieldType).append("},\"isDeprecated\":false,\"deprecationReason\":null}");
+        }
+        return objectType.append("],\"inputFields\":null,\"interfaces\":[],\"enumValues\":null,")
+                .append("\"possibleTypes\":null}").toString();
+    }
+
+    private static long write(Writer writer, String content) throws IOException {
+        writer.write(content);
+        return content.length();
+    }
+
+    private static String toMegabytes(long bytes) {
+        return String.format("%.1f MB", (double) bytes / MEGABYTE);
+    }
+
+    private static InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
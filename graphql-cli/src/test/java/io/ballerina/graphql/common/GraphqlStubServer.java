@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.common;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import graphql.GraphQL;
+import graphql.introspection.IntrospectionQuery;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local HTTP stub of a GraphQL API which answers every request with the introspection result of a given SDL file,
+ * or with a given GraphQL response.
+ */
+public class GraphqlStubServer implements AutoCloseable {
+    private static final String HOST = "127.0.0.1";
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    private static final String GZIP = "gzip";
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+    private final byte[] introspectionResponse;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private final AtomicInteger inFlightRequestCount = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequestCount = new AtomicInteger();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private volatile String etag;
+    private volatile String lastModified;
+    private volatile String contentEncoding;
+    private volatile Duration responseDelay = Duration.ZERO;
+    private volatile byte[] graphqlResponse;
+    private volatile Headers lastRequestHeaders;
+    private boolean stopped;
+
+    public GraphqlStubServer(Path schemaFile) throws IOException {
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(Files.readString(schemaFile)), RuntimeWiring.MOCKED_WIRING);
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+        this.introspectionResponse = new JSONObject(graphQL.execute(IntrospectionQuery.INTROSPECTION_QUERY)
+                .toSpecification()).toString().getBytes(StandardCharsets.UTF_8);
+        this.httpServer = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        this.httpServer.createContext(GRAPHQL_PATH, this::handle);
+        this.executorService = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpServer.setExecutor(executorService);
+        this.httpServer.start();
+    }
+
+    public String getUrl() {
+        return "http://" + HOST + ":" + httpServer.getAddress().getPort() + GRAPHQL_PATH;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    public Headers getLastRequestHeaders() {
+        return lastRequestHeaders;
+    }
+
+    public int getConnectionCount() {
+        return clientAddresses.size();
+    }
+
+    public int getMaxInFlightRequestCount() {
+        return maxInFlightRequestCount.get();
+    }
+
+    /**
+     * Sets the compression applied to the introspection response when the request accepts it.
+     *
+     * @param contentEncoding   `gzip` or `deflate`, {@code null} to send the response uncompressed
+     */
+    public void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public void setResponseDelay(Duration responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    /**
+     * Sets the GraphQL response returned instead of the introspection result, e.g. to execute a generated client.
+     *
+     * @param graphqlResponse   the JSON of the GraphQL response, {@code null} to return the introspection result
+     */
+    public void setGraphqlResponse(String graphqlResponse) {
+        this.graphqlResponse = graphqlResponse != null ? graphqlResponse.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Sets the validators returned with the introspection response. Conditional requests matching them are
+     * answered with `304 Not Modified`.
+     *
+     * @param etag          the `ETag` header value, can be {@code null}
+     * @param lastModified  the `Last-Modified` header value, can be {@code null}
+     */
+    public void setValidators(String etag, String lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        maxInFlightRequestCount.accumulateAndGet(inFlightRequestCount.incrementAndGet(), Math::max);
+        try {
+            clientAddresses.add(exchange.getRemoteAddress());
+            lastRequestHeaders = exchange.getRequestHeaders();
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(responseDelay.toMillis());
+            respond(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } finally {
+            inFlightRequestCount.decrementAndGet();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String currentEtag = etag;
+        String currentLastModified = lastModified;
+        if (isNotModified(exchange.getRequestHeaders(), currentEtag, currentLastModified)) {
+            notModifiedCount.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        if (currentEtag != null) {
+            exchange.getResponseHeaders().add("ETag", currentEtag);
+        }
+        if (currentLastModified != null) {
+            exchange.getResponseHeaders().add("Last-Modified", currentLastModified);
+        }
+        byte[] currentGraphqlResponse = graphqlResponse;
+        byte[] responseBody = currentGraphqlResponse != null ? currentGraphqlResponse : introspectionResponse;
+        String currentContentEncoding = contentEncoding;
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (currentContentEncoding != null && acceptEncoding != null &&
+                acceptEncoding.contains(currentContentEncoding)) {
+            responseBody = compress(responseBody, currentContentEncoding);
+            exchange.getResponseHeaders().add("Content-Encoding", currentContentEncoding);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, responseBody.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(responseBody);
+        }
+    }
+
+    private static byte[] compress(byte[] content, String contentEncoding) throws IOException {
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream();
+        try (OutputStream outputStream = GZIP.equals(contentEncoding) ? new GZIPOutputStream(compressedContent)
+                : new DeflaterOutputStream(compressedContent)) {
+            outputStream.write(content);
+        }
+        return compressedContent.toByteArray();
+    }
+
+    private boolean isNotModified(Headers requestHeaders, String currentEtag, String currentLastModified) {
+        String ifNoneMatch = requestHeaders.getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            return ifNoneMatch.equals(currentEtag);
+        }
+        String ifModifiedSince = requestHeaders.getFirst("If-Modified-Since");
+        return ifModifiedSince != null && ifModifiedSince.equals(currentLastModified);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!stopped) {
+            httpServer.stop(0);
+            executorService.shutdownNow();
+            stopped = true;
+        }
+    }
+}
@@ -26,12 +26,17 @@ import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * This class is used to test the functionality of the GraphQL code generator.
@@ -53,4 +58,44 @@ public class ClientCodeGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the generated files with unchanged content are not rewritten")
+    public void testGenerateWithUnchangedSources() throws CmdException, IOException, ParseException,
+            ValidationException, ClientCodeGenerationException {
+        Path outputPath = Files.createTempDirectory(this.tmpDir, "unchanged-sources");
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(), outputPath);
+        ClientCodeGenerator firstRunGenerator = new ClientCodeGenerator();
+        for (GraphqlProject project : projects) {
+            firstRunGenerator.generate(project);
+        }
+        FileTime lastModifiedTime = Files.getLastModifiedTime(outputPath.resolve("client.bal"));
+
+        ClientCodeGenerator secondRunGenerator = new ClientCodeGenerator();
+        for (GraphqlProject project : projects) {
+            secondRunGenerator.generate(project);
+        }
+
+        Assert.assertEquals(firstRunGenerator.getWrittenFileCount(), 5);
+        Assert.assertEquals(secondRunGenerator.getWrittenFileCount(), 0);
+        Assert.assertEquals(secondRunGenerator.getSkippedFileCount(), 5);
+        Assert.assertEquals(Files.getLastModifiedTime(outputPath.resolve("client.bal")), lastModifiedTime);
+    }
+
+    @Test(description = "Test a file is only replaced when its content changes")
+    public void testWriteFileIfChanged() throws IOException {
+        Path outputPath = Files.createTempDirectory(this.tmpDir, "write-if-changed");
+        Path filePath = outputPath.resolve("types.bal");
+
+        Assert.assertTrue(CodeGeneratorUtils.writeFileIfChanged(filePath, "type A record {};"));
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+        Assert.assertFalse(CodeGeneratorUtils.writeFileIfChanged(filePath, "type A record {};"));
+        Assert.assertEquals(Files.getLastModifiedTime(filePath), lastModifiedTime);
+        Assert.assertTrue(CodeGeneratorUtils.writeFileIfChanged(filePath, "type B record {};"));
+        Assert.assertEquals(Files.readString(filePath), "type B record {};");
+        try (Stream<Path> files = Files.list(outputPath)) {
+            Assert.assertEquals(files.count(), 1);
+        }
+    }
 }
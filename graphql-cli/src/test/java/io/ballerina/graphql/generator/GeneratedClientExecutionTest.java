@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.graphql.generator;
+
+import io.ballerina.graphql.common.GraphqlStubServer;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.TestUtils;
+import io.ballerina.graphql.exception.CmdException;
+import io.ballerina.graphql.exception.ParseException;
+import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
+import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is used to test the generated clients bind the responses of a GraphQL API, by running a program calling
+ * a generated client against a local stub of the API.
+ */
+public class GeneratedClientExecutionTest extends GraphqlTest {
+    private static final String COUNTRY_RESPONSE = "{\"data\": {\"country\": {\"capital\": \"Colombo\", " +
+            "\"name\": \"Sri Lanka\"}}, \"extensions\": {\"cost\": 1}}";
+    private static final long PROGRAM_TIMEOUT_MINUTES = 5;
+
+    @Test(description = "Test the operations executed with the GraphQL client bind the data of the response")
+    public void testExecuteWithDirectDataBinding() throws CmdException, IOException, ParseException,
+            ValidationException, ClientCodeGenerationException, InterruptedException {
+        try (GraphqlStubServer graphqlStubServer = getGraphqlStubServer()) {
+            graphqlStubServer.setGraphqlResponse(COUNTRY_RESPONSE);
+            String output = runGeneratedClient("graphql.config.yaml", new ClientGenerationOptions(),
+                    graphqlStubServer,
+                    "CountryResponse response = check graphqlClient->country(\"LK\");\n" +
+                    "io:println(response.country?.name, \",\", response.country?.capital, \",\", " +
+                            "response?.__extensions is ());");
+
+            Assert.assertEquals(output, "Sri Lanka,Colombo,true");
+            Assert.assertEquals(graphqlStubServer.getRequestCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the operations executed with the GraphQL client bind the extensions when enabled")
+    public void testExecuteWithResponseExtensions() throws CmdException, IOException, ParseException,
+            ValidationException, ClientCodeGenerationException, InterruptedException {
+        try (GraphqlStubServer graphqlStubServer = getGraphqlStubServer()) {
+            graphqlStubServer.setGraphqlResponse(COUNTRY_RESPONSE);
+            String output = runGeneratedClient("graphql-config-with-response-extensions.yaml",
+                    new ClientGenerationOptions(), graphqlStubServer,
+                    "CountryResponse response = check graphqlClient->country(\"LK\");\n" +
+                    "io:println(response.country?.name, \",\", response?.__extensions.toString());");
+
+            Assert.assertEquals(output, "Sri Lanka,{\"cost\":1}");
+        }
+    }
+
+    @Test(description = "Test the concurrent identical queries share the response of a single request")
+    public void testExecuteWithCoalescedRequests() throws CmdException, IOException, ParseException,
+            ValidationException, ClientCodeGenerationException, InterruptedException {
+        try (GraphqlStubServer graphqlStubServer = getGraphqlStubServer()) {
+            graphqlStubServer.setGraphqlResponse(COUNTRY_RESPONSE);
+            graphqlStubServer.setResponseDelay(Duration.ofSeconds(2));
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setCoalesceRequests(true);
+            String output = runGeneratedClient("graphql.config.yaml", options, graphqlStubServer,
+                    "var firstResponse = start graphqlClient->country(\"LK\");\n" +
+                    "var secondResponse = start graphqlClient->country(\"LK\");\n" +
+                    "CountryResponse firstCountry = check wait firstResponse;\n" +
+                    "CountryResponse secondCountry = check wait secondResponse;\n" +
+                    "io:println(firstCountry.country?.name, \",\", secondCountry.country?.name);");
+
+            Assert.assertEquals(output, "Sri Lanka,Sri Lanka");
+            Assert.assertEquals(graphqlStubServer.getRequestCount(), 1);
+        }
+    }
+
+    @Test(description = "Test the queries with a time-to-live return the cached responses",
+            dataProvider = "coalesceRequests")
+    public void testExecuteWithResponseCache(boolean coalesceRequests) throws CmdException, IOException,
+            ParseException, ValidationException, ClientCodeGenerationException, InterruptedException {
+        try (GraphqlStubServer graphqlStubServer = getGraphqlStubServer()) {
+            graphqlStubServer.setGraphqlResponse("{\"data\": {\"country\": {\"name\": \"Sri Lanka\"}}}");
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setCoalesceRequests(coalesceRequests);
+            String output = runGeneratedClient("graphql-config-with-response-cache.yaml", options, graphqlStubServer,
+                    "CountryResponse firstResponse = check graphqlClient->country(\"LK\");\n" +
+                    "CountryResponse secondResponse = check graphqlClient->country(\"LK\");\n" +
+                    "io:println(firstResponse.country?.name, \",\", secondResponse.country?.name, \",\", " +
+                            "secondResponse.isReadOnly());");
+
+            Assert.assertEquals(output, "Sri Lanka,Sri Lanka,true");
+            Assert.assertEquals(graphqlStubServer.getRequestCount(), 1);
+        }
+    }
+
+    @DataProvider(name = "coalesceRequests")
+    public Object[] getCoalesceRequests() {
+        return new Object[]{false, true};
+    }
+
+    private GraphqlStubServer getGraphqlStubServer() throws IOException {
+        return new GraphqlStubServer(this.resourceDir.resolve(Paths.get("specs", "schema.graphql")));
+    }
+
+    /**
+     * Generates the client of the given config file in a new Ballerina package, along with a main function which
+     * creates the client for the given stub and runs the given statements, and returns the output of the program.
+     */
+    private String runGeneratedClient(String configFile, ClientGenerationOptions options,
+                                      GraphqlStubServer graphqlStubServer, String statements)
+            throws CmdException, IOException, ParseException, ValidationException, ClientCodeGenerationException,
+            InterruptedException {
+        Path packagePath = Files.createTempDirectory(this.tmpDir, "generated-client");
+        Files.copy(this.resourceDir.resolve(Paths.get("serviceGen", "expectedServices", "Ballerina.toml")),
+                packagePath.resolve("Ballerina.toml"));
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", configFile)).toString(), packagePath);
+        ClientCodeGenerator clientCodeGenerator = new ClientCodeGenerator();
+        clientCodeGenerator.setGenerationOptions(options);
+        clientCodeGenerator.generate(projects.get(0));
+        TestUtils.writeContentTo("import ballerina/io;\n\n" +
+                "public function main(string serviceUrl) returns error? {\n" +
+                "GraphqlClient graphqlClient = check new (serviceUrl);\n" +
+                statements + "\n}\n", packagePath, "main.bal");
+
+        List<String> args = new ArrayList<>(List.of("run", "--offline", "--", graphqlStubServer.getUrl()));
+        Process process = TestUtils.getProcessBuilderResults(TestUtils.DISTRIBUTION_FILE_NAME, packagePath, args);
+        process.getOutputStream().close();
+        CompletableFuture<String> errorOutput = CompletableFuture.supplyAsync(() -> read(process.getErrorStream()));
+        String output = read(process.getInputStream());
+        Assert.assertTrue(process.waitFor(PROGRAM_TIMEOUT_MINUTES, TimeUnit.MINUTES));
+        Assert.assertEquals(process.exitValue(), 0, errorOutput.join());
+        // The output of the program follows the output of the build
+        String[] lines = output.trim().split("\\R");
+        return lines[lines.length - 1].trim();
+    }
+
+    private static String read(InputStream inputStream) {
+        try (inputStream) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator;
+
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.GenerationManifest;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.pojo.Cache;
+import io.ballerina.graphql.generator.client.pojo.Default;
+import io.ballerina.graphql.generator.client.pojo.Endpoints;
+import io.ballerina.graphql.generator.client.pojo.Extension;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONFIG_TYPES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.PERSISTED_QUERIES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERIES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.TYPES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.UTILS_FILE_NAME;
+
+/**
+ * This class is used to test the tracking of the generated client sources with the generation manifest.
+ */
+public class GenerationManifestTest extends GraphqlTest {
+    private static final String PROJECT_NAME = "country";
+    private static final String SCHEMA_HASH = "schema-hash";
+
+    private Path outputPath;
+    private Path document;
+
+    @BeforeMethod
+    public void setupProject() throws IOException {
+        this.outputPath = Files.createTempDirectory(this.tmpDir, "output");
+        this.document = Files.createTempFile(this.tmpDir, "country-queries", ".graphql");
+        Files.copy(resourceDir.resolve(Paths.get("specs", "queries", "country-queries.graphql")),
+                this.document, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Test(description = "Test all the files of a project without a manifest entry are outdated")
+    public void testGetOutdatedFilesOfNewProject() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                GenerationManifest.GENERATED_FILE_NAMES);
+    }
+
+    @Test(description = "Test a project with unchanged inputs is up to date in a later run")
+    public void testGetOutdatedFilesOfUnchangedProject() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertTrue(Files.exists(outputPath.resolve(GenerationManifest.MANIFEST_FILE_NAME)));
+        Assert.assertTrue(generationManifest.getOutdatedFiles(project, getInputHashes(project)).isEmpty());
+    }
+
+    @Test(description = "Test a changed document only outdates the files generated from the documents")
+    public void testGetOutdatedFilesAfterDocumentChange() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+        Files.writeString(document, "\nquery countryName { country(code: \"LK\") { name } }\n",
+                StandardOpenOption.APPEND);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                Set.of(CLIENT_FILE_NAME, QUERIES_FILE_NAME, TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test changed extensions only outdate the files generated from the auth config")
+    public void testGetOutdatedFilesAfterExtensionsChange() throws IOException {
+        generate(getProject(null));
+        GraphqlClientProject project = getProject(getExtension(Map.of("Authorization", "Bearer token")));
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                Set.of(CLIENT_FILE_NAME, UTILS_FILE_NAME, CONFIG_TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test a changed query method outdates the files generated from the extensions")
+    public void testGetOutdatedFilesAfterQueryMethodChange() throws IOException {
+        generate(getProject(null));
+        Extension extensions = new Extension();
+        extensions.setQueryMethod("GET");
+        GraphqlClientProject project = getProject(extensions);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                Set.of(CLIENT_FILE_NAME, UTILS_FILE_NAME, CONFIG_TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test binding the response extensions outdates the files generated from the extensions")
+    public void testGetOutdatedFilesAfterResponseExtensionsChange() throws IOException {
+        generate(getProject(null));
+        Extension extensions = new Extension();
+        extensions.setResponseExtensions(true);
+        GraphqlClientProject project = getProject(extensions);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                Set.of(CLIENT_FILE_NAME, UTILS_FILE_NAME, CONFIG_TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test a changed response cache outdates the files generated from the extensions")
+    public void testGetOutdatedFilesAfterCacheChange() throws IOException {
+        generate(getProject(null));
+        Cache cache = new Cache();
+        cache.setOperations(Map.of("country", 60));
+        Extension extensions = new Extension();
+        extensions.setCache(cache);
+        GraphqlClientProject project = getProject(extensions);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                Set.of(CLIENT_FILE_NAME, UTILS_FILE_NAME, CONFIG_TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test changed generation options only outdate the files generated with the options")
+    public void testGetOutdatedFilesAfterOptionsChange() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+        ClientGenerationOptions options = new ClientGenerationOptions();
+        options.setAllInputTypes(true);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project,
+                        GenerationManifest.getInputHashes(project, SCHEMA_HASH, options)),
+                Set.of(CLIENT_FILE_NAME, QUERIES_FILE_NAME, UTILS_FILE_NAME, TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test the persisted queries manifest is tracked only when the persisted queries are enabled")
+    public void testGetOutdatedFilesWithPersistedQueries() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        ClientGenerationOptions options = new ClientGenerationOptions();
+        options.setPersistedQueries(true);
+        Set<String> generatedFileNames = GenerationManifest.getGeneratedFileNames(options);
+        Map<String, String> inputHashes = GenerationManifest.getInputHashes(project, SCHEMA_HASH, options);
+        generate(project, generatedFileNames, inputHashes);
+        Files.delete(getModulePath().resolve(PERSISTED_QUERIES_FILE_NAME));
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertFalse(GenerationManifest.getGeneratedFileNames(new ClientGenerationOptions())
+                .contains(PERSISTED_QUERIES_FILE_NAME));
+        Assert.assertTrue(generatedFileNames.contains(PERSISTED_QUERIES_FILE_NAME));
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, inputHashes, generatedFileNames),
+                Set.of(PERSISTED_QUERIES_FILE_NAME));
+    }
+
+    @Test(description = "Test a changed schema outdates the files generated from the schema")
+    public void testGetOutdatedFilesAfterSchemaChange() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project,
+                        GenerationManifest.getInputHashes(project, "changed-schema-hash")),
+                Set.of(CLIENT_FILE_NAME, TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test a generated file which was modified or deleted since the generation is outdated")
+    public void testGetOutdatedFilesAfterOutputChange() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+        Path modulePath = getModulePath();
+        Files.writeString(modulePath.resolve(UTILS_FILE_NAME), "// modified");
+        Files.delete(modulePath.resolve(CONFIG_TYPES_FILE_NAME));
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                Set.of(UTILS_FILE_NAME, CONFIG_TYPES_FILE_NAME));
+    }
+
+    @Test(description = "Test a malformed manifest is ignored")
+    public void testReadMalformedManifest() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+        Files.writeString(outputPath.resolve(GenerationManifest.MANIFEST_FILE_NAME), "country/input.schema=\\u00");
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+
+        Assert.assertEquals(generationManifest.getOutdatedFiles(project, getInputHashes(project)),
+                GenerationManifest.GENERATED_FILE_NAMES);
+    }
+
+    @Test(description = "Test the entries of the projects which are no longer generated are dropped")
+    public void testRetainProjects() throws IOException {
+        GraphqlClientProject project = getProject(null);
+        generate(project);
+        GraphqlClientProject movedProject = new GraphqlClientProject(PROJECT_NAME, project.getSchema(),
+                project.getDocuments(), null, outputPath.resolve("moved").toString());
+
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+        generationManifest.retainProjects(List.of(project));
+        generationManifest.write();
+
+        Assert.assertTrue(GenerationManifest.read(outputPath).getOutdatedFiles(project, getInputHashes(project))
+                .isEmpty());
+
+        generationManifest.retainProjects(List.of(movedProject));
+        generationManifest.write();
+
+        Assert.assertEquals(GenerationManifest.read(outputPath).getOutdatedFiles(project, getInputHashes(project)),
+                GenerationManifest.GENERATED_FILE_NAMES);
+    }
+
+    /**
+     * Writes placeholder sources for all the generated files of the given project and records them in the
+     * manifest, as the client generation would.
+     */
+    private void generate(GraphqlClientProject project) throws IOException {
+        generate(project, GenerationManifest.GENERATED_FILE_NAMES, getInputHashes(project));
+    }
+
+    private void generate(GraphqlClientProject project, Set<String> fileNames, Map<String, String> inputHashes)
+            throws IOException {
+        Path modulePath = getModulePath();
+        Files.createDirectories(modulePath);
+        for (String fileName : fileNames) {
+            Files.writeString(modulePath.resolve(fileName), "// " + fileName);
+        }
+        GenerationManifest generationManifest = GenerationManifest.read(outputPath);
+        generationManifest.update(project, inputHashes);
+        generationManifest.write();
+    }
+
+    private Path getModulePath() {
+        return outputPath.resolve("modules").resolve(PROJECT_NAME);
+    }
+
+    private GraphqlClientProject getProject(Extension extensions) {
+        return new GraphqlClientProject(PROJECT_NAME, resourceDir.resolve(Paths.get("specs", "schema.graphql"))
+                .toString(), List.of(document.toString()), extensions, outputPath.toString());
+    }
+
+    private static Map<String, String> getInputHashes(GraphqlClientProject project) throws IOException {
+        return GenerationManifest.getInputHashes(project, SCHEMA_HASH);
+    }
+
+    private static Extension getExtension(Map<String, String> headers) {
+        Default defaultEndpoint = new Default();
+        defaultEndpoint.setUrl("http://localhost:9090/graphql");
+        defaultEndpoint.setHeaders(headers);
+        Endpoints endpoints = new Endpoints();
+        endpoints.setDefaultName(defaultEndpoint);
+        Extension extension = new Extension();
+        extension.setEndpoints(endpoints);
+        return extension;
+    }
+}
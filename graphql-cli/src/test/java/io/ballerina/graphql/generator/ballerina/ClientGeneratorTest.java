@@ -24,6 +24,7 @@ import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
@@ -172,4 +173,294 @@ public class ClientGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the client code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the successful generation of client code with persisted queries")
+    public void testGenerateSrcWithPersistedQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+            List<String> documents = projects.get(0).getDocuments();
+            GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setPersistedQueries(true);
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(documents, projects.get(0).getDocumentStore(), schema, authConfig,
+                            GeneratorContext.CLI, options)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "persistedQueries", "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with the GET query method")
+    public void testGenerateSrcWithHttpGetQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent =
+                    generateClientContent("graphql-config-with-get-query-method.yaml", false);
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "httpGetQueries", "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the mutations are executed with the POST method when the query method is GET")
+    public void testGenerateSrcWithHttpGetQueriesAndMutations()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent =
+                    generateClientContent("graphql-config-with-get-query-method-and-mutation.yaml", false);
+
+            Assert.assertTrue(generatedClientContent.contains(
+                    "jsongraphqlResponse=checkexecuteWithGet(self.httpClient,query,variables);"));
+            Assert.assertTrue(generatedClientContent.contains("record{|UpdateNameResponsedata;" +
+                    "map<json?>extensions?;|}graphqlResponse=checkself.graphqlClient->executeWithType(query," +
+                    "variables);"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with persisted queries and the GET query method")
+    public void testGenerateSrcWithPersistedHttpGetQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent =
+                    generateClientContent("graphql-config-with-get-query-method-and-mutation.yaml", true);
+
+            Assert.assertTrue(generatedClientContent.contains("jsongraphqlResponse=checkexecutePersistedQuery(" +
+                    "self.httpClient,query,PROFILE_DOCUMENT_HASH,variables,useGet=true);"));
+            Assert.assertTrue(generatedClientContent.contains("jsongraphqlResponse=checkexecutePersistedQuery(" +
+                    "self.httpClient,query,UPDATE_NAME_DOCUMENT_HASH,variables);"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of client code with batched operations")
+    public void testGenerateSrcWithBatchOperations()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setBatchOperations(true);
+            String generatedClientContent = generateClientContent("graphql.config.yaml", options);
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "batchOperations", "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the operations executed with the GraphQL client bind the response data directly")
+    public void testGenerateSrcWithDirectDataBinding()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent = generateClientContent("graphql.config.yaml", false);
+
+            Assert.assertTrue(generatedClientContent.contains(
+                    "record{|CountryResponsedata;map<json?>extensions?;|}graphqlResponse=" +
+                            "checkself.graphqlClient->executeWithType(query,variables);returngraphqlResponse.data;"));
+            Assert.assertFalse(generatedClientContent.contains("performDataBinding"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the response extensions are bound only when enabled in the config")
+    public void testGenerateSrcWithResponseExtensions()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent = generateClientContent("graphql.config.yaml", true);
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setPersistedQueries(true);
+            options.setBatchOperations(true);
+            String generatedClientContentWithExtensions =
+                    generateClientContent("graphql-config-with-response-extensions.yaml", options);
+            String generatedGraphqlClientContentWithExtensions =
+                    generateClientContent("graphql-config-with-response-extensions.yaml", false);
+
+            Assert.assertTrue(generatedClientContent.contains(
+                    "return<CountryResponse>checkperformDataBinding(graphqlResponse,CountryResponse);"));
+            Assert.assertTrue(generatedClientContentWithExtensions.contains(
+                    "return<CountryResponse>checkperformDataBinding(graphqlResponse,CountryResponse,true);"));
+            Assert.assertTrue(generatedClientContentWithExtensions.contains(
+                    "returnexecuteBatchedOperations(self.httpClient,operations,bindExtensions=true);"));
+            Assert.assertTrue(generatedGraphqlClientContentWithExtensions.contains(
+                    "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables);" +
+                            "return<CountryResponse>checkperformDataBinding(graphqlResponse,CountryResponse,true);"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the lazily bound list fields are bound field by field to streams")
+    public void testGenerateSrcWithLazyLists()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setBatchOperations(true);
+            String generatedClientContent = generateClientContent("graphql-config-with-lazy-lists.yaml", options);
+
+            Assert.assertTrue(generatedClientContent.contains(
+                    "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables);do{"));
+            Assert.assertTrue(generatedClientContent.contains(
+                    "json[]countriesItems=checkresponseData[\"countries\"].ensureType();return{countries:" +
+                            "streamfromjsonlistItemincountriesItemsselectchecklistItem.cloneWithType()};"));
+            Assert.assertTrue(generatedClientContent.contains(
+                    "return{country:checkresponseData[\"country\"].cloneWithType(),allCountries:" +
+                            "streamfromjsonlistIteminallCountriesItemsselectchecklistItem.cloneWithType()};"));
+            Assert.assertTrue(generatedClientContent.contains(
+                    "}onfailvare{returnerrorgraphql:RequestError(\"GraphQLClientError\",e);}"));
+            Assert.assertFalse(generatedClientContent.contains("countriesOperation"));
+            Assert.assertFalse(generatedClientContent.contains("countriesOfCountryOperation"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the queries selecting Relay-style connections have functions streaming the nodes")
+    public void testGenerateSrcWithConnections()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent = generateClientContent("graphql-config-with-connections.yaml", false);
+            String generatedClientContentWithoutConnections = generateClientContent("graphql.config.yaml", false);
+
+            Assert.assertTrue(generatedClientContent.contains(
+                    "remoteisolatedfunctioncountriesStream(int?first=())returnsstream<CountriesNode,error?>{" +
+                            "stringquery=COUNTRIES_DOCUMENT;map<anydata>variables={\"first\":first};" +
+                            "ConnectionIteratoriterator=new(self.graphqlClient,query,variables.cloneReadOnly()," +
+                            "\"countries\",\"after\");stream<json,error?>nodes=new(iterator);" +
+                            "returnfromjsonnodeinnodesselectchecknode.cloneWithType();}"));
+            Assert.assertTrue(generatedClientContent.contains("classConnectionIterator{"));
+            Assert.assertTrue(generatedClientContent.contains("isolatedfunctionfetchConnectionPage("));
+            Assert.assertFalse(generatedClientContent.contains("firstCountriesStream"));
+            Assert.assertFalse(generatedClientContent.contains("countryStream"));
+            Assert.assertFalse(generatedClientContentWithoutConnections.contains("ConnectionIterator"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the queries, but not the mutations, are executed with the request coalescer")
+    public void testGenerateSrcWithCoalescedRequests()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setCoalesceRequests(true);
+            String generatedClientContent = generateClientContent("graphql-config-with-mutation.yaml", options);
+            String generatedClientContentWithoutCoalescing =
+                    generateClientContent("graphql-config-with-mutation.yaml", false);
+
+            Assert.assertTrue(generatedClientContent.contains("finalRequestCoalescerrequestCoalescer;"));
+            Assert.assertTrue(generatedClientContent.contains("self.requestCoalescer=new(config.timeout);"));
+            Assert.assertTrue(generatedClientContent.contains("jsongraphqlResponse=checkself.requestCoalescer." +
+                    "execute(self.graphqlClient,query,variables.cloneReadOnly());" +
+                    "return<ProfileResponse>checkperformDataBinding(graphqlResponse,ProfileResponse);"));
+            Assert.assertTrue(generatedClientContent.contains("record{|UpdateNameResponsedata;" +
+                    "map<json?>extensions?;|}graphqlResponse=checkself.graphqlClient->executeWithType(query," +
+                    "variables);returngraphqlResponse.data;"));
+            Assert.assertFalse(generatedClientContentWithoutCoalescing.contains("requestCoalescer"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the queries with a time-to-live return the cached responses")
+    public void testGenerateSrcWithResponseCache()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            String generatedClientContent = generateClientContent("graphql-config-with-response-cache.yaml", false);
+
+            Assert.assertTrue(generatedClientContent.contains("finalResponseCacheresponseCache=new(500);"));
+            Assert.assertTrue(generatedClientContent.contains("stringcacheKey=getRequestKey(query,variables);" +
+                    "DataResponse&readonly?cachedResponse=self.responseCache.get(cacheKey);" +
+                    "ifcachedResponseisCountriesResponse{returncachedResponse;}" +
+                    "record{|CountriesResponsedata;map<json?>extensions?;|}graphqlResponse=" +
+                    "checkself.graphqlClient->executeWithType(query,variables);" +
+                    "CountriesResponse&readonlyreadOnlyResponse=graphqlResponse.data.cloneReadOnly();" +
+                    "self.responseCache.put(cacheKey,readOnlyResponse,3600);returnreadOnlyResponse;"));
+            Assert.assertTrue(generatedClientContent.contains(
+                    "self.responseCache.put(cacheKey,readOnlyResponse,1800);"));
+            Assert.assertTrue(generatedClientContent.contains(
+                    "self.responseCache.put(cacheKey,readOnlyResponse,60);"));
+            Assert.assertTrue(generatedClientContent.contains("record{|ContinentsResponsedata;" +
+                    "map<json?>extensions?;|}graphqlResponse=checkself.graphqlClient->executeWithType(query," +
+                    "variables);returngraphqlResponse.data;"));
+            Assert.assertTrue(generatedClientContent.contains("record{|CountriesWithContinentsResponsedata;" +
+                    "map<json?>extensions?;|}graphqlResponse=checkself.graphqlClient->executeWithType(query," +
+                    "variables);returngraphqlResponse.data;"));
+            Assert.assertTrue(generatedClientContent.contains("record{|CountriesWithRootFragmentResponsedata;" +
+                    "map<json?>extensions?;|}graphqlResponse=checkself.graphqlClient->executeWithType(query," +
+                    "variables);returngraphqlResponse.data;"));
+            Assert.assertTrue(generatedClientContent.contains("record{|UpdateCountryResponsedata;" +
+                    "map<json?>extensions?;|}graphqlResponse=checkself.graphqlClient->executeWithType(query," +
+                    "variables);returngraphqlResponse.data;"));
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Generates the client of the first project of the given config file with the options of its extensions, and
+     * returns the content stripped of the whitespaces.
+     */
+    private String generateClientContent(String configFile, boolean persistedQueries)
+            throws CmdException, IOException, ParseException, ValidationException, ClientGenerationException {
+        ClientGenerationOptions options = new ClientGenerationOptions();
+        options.setPersistedQueries(persistedQueries);
+        return generateClientContent(configFile, options);
+    }
+
+    private String generateClientContent(String configFile, ClientGenerationOptions options)
+            throws CmdException, IOException, ParseException, ValidationException, ClientGenerationException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", configFile)).toString(), this.tmpDir);
+
+        Extension extensions = projects.get(0).getExtensions();
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        AuthConfig authConfig = new AuthConfig();
+        AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+        AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+        return ClientGenerator.getInstance().generateSrc(documents, projects.get(0).getDocumentStore(), schema,
+                        authConfig, GeneratorContext.CLI, options.forExtensions(extensions))
+                .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+    }
 }
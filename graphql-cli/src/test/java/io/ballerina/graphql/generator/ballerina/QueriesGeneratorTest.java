@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.ballerina;
+
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.TestUtils;
+import io.ballerina.graphql.exception.CmdException;
+import io.ballerina.graphql.exception.ParseException;
+import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
+import io.ballerina.graphql.generator.client.generator.ballerina.QueriesGenerator;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This class is used to test the functionality of the GraphQL queries code generator.
+ */
+public class QueriesGeneratorTest extends GraphqlTest {
+
+    @Test(description = "Test the successful generation of the queries code")
+    public void testGenerateSrc() throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                    this.tmpDir);
+            GraphqlClientProject project = projects.get(0);
+
+            String generatedQueriesContent = QueriesGenerator.getInstance()
+                    .generateSrc(project.getDocuments(), project.getDocumentStore())
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedQueriesFile = resourceDir.resolve(Paths.get("expectedGenCode", "queries.bal"));
+            String expectedQueriesContent = readContent(expectedQueriesFile);
+
+            Assert.assertEquals(generatedQueriesContent, expectedQueriesContent);
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the queries code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the generation of the queries code with the hashes of the persisted queries")
+    public void testGenerateSrcWithPersistedQueries()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                    this.tmpDir);
+            GraphqlClientProject project = projects.get(0);
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setPersistedQueries(true);
+
+            String generatedQueriesContent = QueriesGenerator.getInstance()
+                    .generateSrc(project.getDocuments(), project.getDocumentStore(), options)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedQueriesFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "persistedQueries", "queries.bal"));
+            String expectedQueriesContent = readContent(expectedQueriesFile);
+
+            Assert.assertEquals(generatedQueriesContent, expectedQueriesContent);
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the queries code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the client directives are removed from the documents sent to the server")
+    public void testGenerateSrcWithLazyLists() throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-lazy-lists.yaml")).toString(),
+                    this.tmpDir);
+            GraphqlClientProject project = projects.get(0);
+
+            String generatedQueriesContent = QueriesGenerator.getInstance()
+                    .generateSrc(project.getDocuments(), project.getDocumentStore());
+
+            Assert.assertTrue(generatedQueriesContent.contains("COUNTRIES_DOCUMENT"));
+            Assert.assertFalse(generatedQueriesContent.contains("@lazy"));
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the queries code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the generation of the queries code fails for operations with clashing constant names")
+    public void testGenerateSrcWithClashingConstantNames()
+            throws CmdException, IOException, ParseException, ValidationException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-clashing-operation-names.yaml"))
+                        .toString(),
+                this.tmpDir);
+        GraphqlClientProject project = projects.get(0);
+        try {
+            QueriesGenerator.getInstance().generateSrc(project.getDocuments(), project.getDocumentStore());
+            Assert.fail("Expected the generation of the queries code to fail for the clashing constant names");
+        } catch (ClientGenerationException e) {
+            Assert.assertTrue(e.getMessage().contains("\"getCountry\" and \"get_country\""));
+            Assert.assertTrue(e.getMessage().contains("GET_COUNTRY_DOCUMENT"));
+        }
+    }
+
+    @Test(description = "Test the names of the constants holding the operation documents")
+    public void testGetOperationDocumentConstantName() {
+        Assert.assertEquals(CodeGeneratorUtils.getOperationDocumentConstantName("country"), "COUNTRY_DOCUMENT");
+        Assert.assertEquals(CodeGeneratorUtils.getOperationDocumentConstantName("countryByCode"),
+                "COUNTRY_BY_CODE_DOCUMENT");
+        Assert.assertEquals(CodeGeneratorUtils.getOperationDocumentConstantName("query2Countries"),
+                "QUERY2_COUNTRIES_DOCUMENT");
+        Assert.assertEquals(CodeGeneratorUtils.getOperationDocumentHashConstantName("countryByCode"),
+                "COUNTRY_BY_CODE_DOCUMENT_HASH");
+    }
+}
@@ -25,11 +25,14 @@ import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.service.GraphqlServiceProject;
 import io.ballerina.graphql.generator.service.exception.ServiceGenerationException;
 import io.ballerina.graphql.generator.service.generator.ServiceTypesGenerator;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -815,6 +818,40 @@ public class ServiceTypesGeneratorTest extends GraphqlTest {
         }
     }
 
+    @DataProvider(name = "schemaFileNamesAndExpectedFilesForSinglePass")
+    public Object[][] getSchemaFileNamesAndExpectedFilesForSinglePass() {
+        return new Object[][]{{"SchemaWithMultipleObjectsApi", "typesWithMultipleObjectsDefault.bal"},
+                {"SchemaWithMultiDimensionalListsApi", "typesWithMultiDimensionalListsDefault.bal"},
+                {"SchemaDocsWithObjectsApi", "typesDocsWithObjectsDefault.bal"},
+                {"SchemaDocsWithResolverArgumentsApi", "typesDocsWithResolverArgumentsDefault.bal"},
+                {"SchemaDocsWithResolverMultipleLinesApi", "typesDocsWithResolverMultipleLinesDefault.bal"},
+                {"SchemaDocsWithDeprecated02Api", "typesDocsWithDeprecated02Default.bal"}};
+    }
+
+    @Test(
+        groups = {"service-type-for-objects"},
+        dataProvider = "schemaFileNamesAndExpectedFilesForSinglePass"
+    )
+    public void testGenerateSrcInSingleFormattingPass(String fileName, String expectedFile) {
+        try {
+            GraphqlServiceProject project = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", fileName + ".graphql"))
+                            .toString(), this.tmpDir);
+            GraphQLSchema graphQLSchema = project.getGraphQLSchema();
+
+            ServiceTypesGenerator serviceTypesGenerator = new ServiceTypesGenerator();
+            serviceTypesGenerator.setFileName(fileName);
+            String generatedServiceTypesContent = serviceTypesGenerator.generateSrc(graphQLSchema);
+
+            String expectedServiceTypesContent = Files.readString(
+                    resourceDir.resolve(Paths.get("serviceGen", "expectedServices", expectedFile)));
+            Assert.assertEquals(generatedServiceTypesContent, expectedServiceTypesContent);
+            Assert.assertEquals(Formatter.format(generatedServiceTypesContent), generatedServiceTypesContent);
+        } catch (ValidationException | IOException | ServiceGenerationException | FormatterException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
     @DataProvider(name = "invalidSchemasWithExpectedErrorMessages")
     public Object[][] getInvalidSchemasWithExpectedErrorMessages() {
         return new Object[][]{
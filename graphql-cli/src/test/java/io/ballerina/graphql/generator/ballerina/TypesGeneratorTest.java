@@ -6,14 +6,21 @@ import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.DocumentStore;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientTypesGenerator;
 import io.ballerina.graphql.validator.ConfigValidator;
 import io.ballerina.graphql.validator.QueryValidator;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -41,6 +48,43 @@ public class TypesGeneratorTest {
         TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
     }
 
+    @Test(description = "Generate the input records reachable from the variables of the operations only")
+    public void getReachableInputRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests/graphql.config.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments());
+        Assert.assertTrue(typesFileContent.contains("public type CountryFilterInput record {"));
+        Assert.assertTrue(typesFileContent.contains("public type StringQueryOperatorInput record {"));
+        Assert.assertFalse(typesFileContent.contains("ContinentFilterInput"));
+        Assert.assertFalse(typesFileContent.contains("LanguageFilterInput"));
+    }
+
+    @Test(description = "Generate input records for all the input object types of the GraphQL Schema")
+    public void getAllInputRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests/graphql.config.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        ClientGenerationOptions options = new ClientGenerationOptions();
+        options.setAllInputTypes(true);
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments(), new DocumentStore(), options);
+        Path expectedFilePath = RES_DIR.resolve("expectedGenCode/types/expectedAllInputRecords.bal");
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
+    }
+
     @Test(description = "Generate query response records from the GraphQL Schema")
     public void getQueryResponseRecords() throws IOException, ParseException, CmdException, ValidationException,
             ClientTypesGenerationException {
@@ -92,4 +136,84 @@ public class TypesGeneratorTest {
         String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
         TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
     }
+
+    @Test(description = "Generate the lazily bound list fields of the query response records as streams")
+    public void getQueryResponseRecordsWithLazyLists() throws IOException, ParseException, CmdException,
+            ValidationException, ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/graphql-config-with-lazy-lists.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments()).replaceAll("\\s+", "");
+        Assert.assertTrue(typesFileContent.contains("stream<record{|stringname;stringcode;|},error?>countries;"));
+        Assert.assertTrue(typesFileContent.contains("record{|stringname;|}?country;"));
+        Assert.assertTrue(typesFileContent.contains("stream<record{|stringname;|},error?>allCountries;"));
+    }
+
+    @Test(description = "Generate the fields of nested list types of the input and query response records")
+    public void getRecordsWithNestedLists() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/graphql-config-with-nested-lists.yaml")
+                .toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments()).replaceAll("\\s+", "");
+        Assert.assertTrue(typesFileContent.contains("publictypeBoardFilterrecord{string[][]?cells?;};"));
+        Assert.assertTrue(typesFileContent.contains("int?[]?[]?matrix;"));
+        Assert.assertTrue(typesFileContent.contains("int[][]grid;"));
+        Assert.assertTrue(typesFileContent.contains("record{|stringname;string?[][]?cells;|}[]?[]boards;"));
+    }
+
+    @Test(description = "Generate the records of the nodes of the Relay-style connections selected by the queries")
+    public void getConnectionNodeRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/graphql-config-with-connections.yaml")
+                .toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments()).replaceAll("\\s+", "");
+        Assert.assertTrue(typesFileContent.contains("publictypeCountriesNoderecord{|stringcode;stringname;|};"));
+        Assert.assertFalse(typesFileContent.contains("FirstCountriesNode"));
+        Assert.assertFalse(typesFileContent.contains("CountryNode"));
+    }
+
+    @DataProvider(name = "configsWithExpectedTypes")
+    public Object[][] getConfigsWithExpectedTypes() {
+        return new Object[][]{{"graphql.config.yaml", "expectedTypes.bal"},
+                {"fragment-graphql.config.yaml", "expectedFragmentTypes.bal"}};
+    }
+
+    @Test(description = "Generate the records in a single formatting pass with the same content as the expected types",
+            dataProvider = "configsWithExpectedTypes")
+    public void getRecordsInSingleFormattingPass(String configFileName, String expectedFileName) throws IOException,
+            ParseException, CmdException, ValidationException, ClientTypesGenerationException, FormatterException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests").resolve(configFileName)
+                .toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(projects.get(0).getGraphQLSchema(),
+                projects.get(0).getDocuments());
+        String expectedFileContent = Files.readString(RES_DIR.resolve("expectedGenCode/types")
+                .resolve(expectedFileName));
+        Assert.assertTrue(typesFileContent.contains(expectedFileContent));
+        Assert.assertEquals(Formatter.format(typesFileContent), typesFileContent);
+    }
 }
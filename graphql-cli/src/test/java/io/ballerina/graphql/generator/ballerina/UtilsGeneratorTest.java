@@ -1,15 +1,22 @@
 package io.ballerina.graphql.generator.ballerina;
 
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.exception.UtilsGenerationException;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
+import io.ballerina.graphql.generator.client.generator.ballerina.TemplateStore;
 import io.ballerina.graphql.generator.client.generator.ballerina.UtilsGenerator;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.pojo.Cache;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -17,6 +24,7 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -85,4 +93,150 @@ public class UtilsGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the utils code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the generation of the utils code with the functions executing the persisted queries")
+    public void testGenerateSrcWithPersistedQueries() throws IOException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setPersistedQueries(true);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig(), options)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "persistedQueries", "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the generation of the utils code with the functions executing the GET queries")
+    public void testGenerateSrcWithHttpGetQueries() throws IOException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setHttpGetQueries(true);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig(), options)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "httpGetQueries", "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of utils code with batched operations")
+    public void testGenerateSrcWithBatchOperations() throws IOException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setBatchOperations(true);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig(), options)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "batchOperations", "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the successful generation of utils code with the coalescing of identical queries")
+    public void testGenerateSrcWithCoalescedRequests() throws IOException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setCoalesceRequests(true);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig(), options)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "coalesceRequests", "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the coalesced queries are sent without holding a lock")
+    public void testGenerateSrcWithCoalescedRequestsSentOutsideLocks() throws IOException {
+        ClientGenerationOptions options = new ClientGenerationOptions();
+        options.setCoalesceRequests(true);
+        SyntaxTree syntaxTree = UtilsGenerator.getInstance().generateSyntaxTree(new AuthConfig(), options);
+
+        List<Node> remoteMethodCalls = new ArrayList<>();
+        collectNodes(syntaxTree.rootNode(), SyntaxKind.REMOTE_METHOD_CALL_ACTION, remoteMethodCalls);
+
+        Assert.assertFalse(remoteMethodCalls.isEmpty());
+        for (Node remoteMethodCall : remoteMethodCalls) {
+            for (Node parent = remoteMethodCall.parent(); parent != null; parent = parent.parent()) {
+                Assert.assertNotEquals(parent.kind(), SyntaxKind.LOCK_STATEMENT);
+            }
+        }
+    }
+
+    @Test(description = "Test the successful generation of utils code with the response cache")
+    public void testGenerateSrcWithResponseCache() throws IOException {
+        try {
+            ClientGenerationOptions options = new ClientGenerationOptions();
+            options.setResponseCache(new Cache());
+
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig(), options)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "responseCache", "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the utils template is parsed once and shared by the later generations")
+    public void testGenerateSrcWithSharedTemplate() throws UtilsGenerationException, IOException {
+        UtilsGenerator.getInstance().generateSrc(new AuthConfig());
+        int parseCount = TemplateStore.getInstance().getParseCount();
+        String firstUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig());
+        String secondUtilsContent = UtilsGenerator.getInstance().generateSrc(new AuthConfig());
+
+        Assert.assertEquals(secondUtilsContent, firstUtilsContent);
+        Assert.assertEquals(TemplateStore.getInstance().getParseCount(), parseCount);
+        Assert.assertSame(TemplateStore.getInstance().getSyntaxTree(TemplateStore.UTILS_TEMPLATE),
+                TemplateStore.getInstance().getSyntaxTree(TemplateStore.UTILS_TEMPLATE));
+    }
+
+    private static void collectNodes(Node node, SyntaxKind kind, List<Node> nodes) {
+        if (node.kind() == kind) {
+            nodes.add(node);
+        }
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                collectNodes(child, kind, nodes);
+            }
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.graphql.generator.graphql;
+
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.TestUtils;
+import io.ballerina.graphql.exception.CmdException;
+import io.ballerina.graphql.exception.ParseException;
+import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.PersistedQueriesGenerator;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This class is used to test the functionality of the persisted queries manifest generator.
+ */
+public class PersistedQueriesGeneratorTest extends GraphqlTest {
+
+    @Test(description = "Test the generation of the persisted queries manifest in the Apollo manifest format")
+    public void testGenerateSrc() throws CmdException, IOException, ParseException, ValidationException,
+            ClientGenerationException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        GraphqlClientProject project = projects.get(0);
+
+        String generatedManifest = PersistedQueriesGenerator.getInstance()
+                .generateSrc(project.getDocuments(), project.getDocumentStore());
+
+        Path expectedManifestFile =
+                resourceDir.resolve(Paths.get("expectedGenCode", "persistedQueries", "persisted-queries.json"));
+        Assert.assertTrue(new JSONObject(Files.readString(expectedManifestFile))
+                .similar(new JSONObject(generatedManifest)), generatedManifest);
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.DocumentStore;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.Utils;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
@@ -38,6 +39,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -75,4 +77,22 @@ public class QueryReaderTest extends GraphqlTest {
     @Test
     public void testGetExtendedFragmentDefinitions() {
     }
+
+    @Test(description = "Test that a document is parsed once and shared across its different path forms")
+    public void testDocumentStoreReusesParsedDocument()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs",
+                        "graphql-config-to-test-arguments.yaml")).toString(),
+                this.tmpDir);
+
+        DocumentStore documentStore = projects.get(0).getDocumentStore();
+        String document = projects.get(0).getDocuments().get(0);
+        String nonCanonicalDocument = Paths.get(document).getParent().resolve(".")
+                .resolve(Paths.get(document).getFileName()).toString();
+
+        Document queryDocument = documentStore.getDocument(document);
+        assertSame(documentStore.getDocument(nonCanonicalDocument), queryDocument);
+        assertSame(documentStore.getQueryReader(nonCanonicalDocument), documentStore.getQueryReader(document));
+    }
 }
@@ -25,6 +25,7 @@ import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 import org.apache.commons.logging.Log;
@@ -37,6 +38,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -146,4 +149,32 @@ public class SpecReaderTest extends GraphqlTest {
             assertTrue(expectedEnumTypes.contains(generatedEnumType));
         }
     }
+
+    @Test
+    public void testSchemaIndexSharedPerSchema()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        assertSame(SchemaIndex.of(schema), SchemaIndex.of(schema));
+        assertSame(SpecReader.getObjectTypeFieldsMap(schema, "Country"),
+                SpecReader.getObjectTypeFieldsMap(schema, "Country"));
+        assertEquals(SpecReader.getObjectTypeFieldsMap(schema, "Country").get("continent").getFieldTypeAsString(),
+                "Continent");
+        assertTrue(SpecReader.getObjectTypeFieldsMap(schema, "UnknownType").isEmpty());
+        assertTrue(SpecReader.getInputTypeFieldsMap(schema, "Country").isEmpty());
+    }
+
+    @Test
+    public void testGetReachableInputObjectTypeNames()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        assertEquals(SchemaIndex.of(schema).getReachableInputObjectTypeNames(List.of("ID", "CountryFilterInput")),
+                List.of("CountryFilterInput", "StringQueryOperatorInput"));
+        assertTrue(SchemaIndex.of(schema).getReachableInputObjectTypeNames(List.of("ID", "String")).isEmpty());
+    }
 }
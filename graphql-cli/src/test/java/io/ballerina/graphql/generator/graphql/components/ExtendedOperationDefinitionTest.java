@@ -29,6 +29,7 @@ import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.Utils;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedConnectionDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFieldDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedVariableDefinition;
@@ -219,4 +220,98 @@ public class ExtendedOperationDefinitionTest extends GraphqlTest {
                 "argument6:$argument6,argument7:$argument7,argument8:$argument8,argument9:$argument9){field1 field2}}";
         Assert.assertEquals(generatedQueryString, expectedQueryString);
     }
+
+    @Test(description = "Test the query string embeds only the fragments used by the operation, transitively")
+    public void testGetQueryStringWithReferencedFragments() throws IOException {
+        Document queryDocument = Utils.getGraphQLQueryDocument(this.resourceDir.resolve(Paths.get("specs",
+                "queries", "queries-with-fragments.graphql")).toString());
+        List<ExtendedOperationDefinition> operationDefinitions =
+                new QueryReader(queryDocument).getExtendedOperationDefinitions();
+
+        Assert.assertEquals(operationDefinitions.get(0).getQueryString(),
+                "fragment countryDetails on Country {code ...on Country{continent{...continentFields}}} " +
+                        "fragment continentFields on Continent {code name} " +
+                        "query countryWithNestedFragments($code:ID!){country(code:$code){...countryDetails}}");
+        Assert.assertEquals(operationDefinitions.get(1).getQueryString(),
+                "fragment languageFields on Language {code name} " +
+                        "query languagesWithFragment{languages{...languageFields}}");
+        Assert.assertEquals(operationDefinitions.get(2).getQueryString(),
+                "query continentsWithoutFragments{continents{code}}");
+        for (ExtendedOperationDefinition operationDefinition : operationDefinitions) {
+            Assert.assertTrue(operationDefinition.getQueryStringWithAllFragments()
+                    .contains("fragment languageFields on Language {code name}"));
+        }
+    }
+
+    @Test(description = "Test the query string of the operations selecting fragments at their root")
+    public void testGetQueryStringWithRootFragments() throws IOException {
+        Document queryDocument = Utils.getGraphQLQueryDocument(this.resourceDir.resolve(Paths.get("specs",
+                "queries", "queries-with-root-fragments.graphql")).toString());
+        List<ExtendedOperationDefinition> operationDefinitions =
+                new QueryReader(queryDocument).getExtendedOperationDefinitions();
+
+        Assert.assertFalse(operationDefinitions.get(0).hasLazyFields());
+        Assert.assertEquals(operationDefinitions.get(0).getQueryString(),
+                "fragment countryQuery on Query {country(code:$code){name}} " +
+                        "query countryWithRootFragment($code:ID!){...countryQuery}");
+        Assert.assertTrue(operationDefinitions.get(1).hasLazyFields());
+        Assert.assertEquals(operationDefinitions.get(1).getQueryString(),
+                "query countriesWithRootInlineFragment{countries{code} ...on Query{languages{code}}}");
+    }
+
+    @Test(description = "Test the query string hash is the SHA-256 hash of the query string with the used fragments")
+    public void testGetQueryStringHash() throws IOException {
+        Document queryDocument = Utils.getGraphQLQueryDocument(this.resourceDir.resolve(Paths.get("specs",
+                "queries", "queries-with-fragments.graphql")).toString());
+        List<ExtendedOperationDefinition> operationDefinitions =
+                new QueryReader(queryDocument).getExtendedOperationDefinitions();
+
+        Assert.assertEquals(operationDefinitions.get(2).getQueryStringHash(),
+                "14ea1b81d2e8c0d19418dd596bf91c2285984fe9f1fe72383190b568f53ab71a");
+        Assert.assertNotEquals(operationDefinitions.get(0).getQueryStringHash(),
+                operationDefinitions.get(1).getQueryStringHash());
+    }
+
+    @Test(description = "Test the Relay-style connections are detected only with a nullable variable as the cursor")
+    public void testGetConnectionDefinition()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-connections.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        List<ExtendedOperationDefinition> operationDefinitions =
+                new QueryReader(Utils.getGraphQLQueryDocument(projects.get(0).getDocuments().get(0)))
+                        .getExtendedOperationDefinitions();
+
+        ExtendedConnectionDefinition connectionDefinition =
+                operationDefinitions.get(0).getConnectionDefinition(schema);
+        Assert.assertNotNull(connectionDefinition);
+        Assert.assertEquals(connectionDefinition.getResponseKey(), "countries");
+        Assert.assertEquals(connectionDefinition.getNodeTypeName(), "Country");
+        Assert.assertEquals(connectionDefinition.getAfterVariableName(), "after");
+        Assert.assertEquals(connectionDefinition.getNodeSelectionSet().getSelections().size(), 2);
+        Assert.assertNull(operationDefinitions.get(1).getConnectionDefinition(schema));
+        Assert.assertNull(operationDefinitions.get(2).getConnectionDefinition(schema));
+    }
+
+    @Test(description = "Test the maximum age of the responses is the lowest @cacheControl hint of the selection, " +
+            "where the object fields without a hint have a maximum age of 0")
+    public void testGetCacheControlMaxAge()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-response-cache.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        List<ExtendedOperationDefinition> operationDefinitions =
+                new QueryReader(Utils.getGraphQLQueryDocument(projects.get(0).getDocuments().get(0)))
+                        .getExtendedOperationDefinitions();
+
+        Assert.assertEquals(operationDefinitions.get(0).getCacheControlMaxAge(schema), Integer.valueOf(3600));
+        Assert.assertEquals(operationDefinitions.get(1).getCacheControlMaxAge(schema), Integer.valueOf(1800));
+        Assert.assertEquals(operationDefinitions.get(2).getCacheControlMaxAge(schema), Integer.valueOf(600));
+        Assert.assertNull(operationDefinitions.get(3).getCacheControlMaxAge(schema));
+        Assert.assertNull(operationDefinitions.get(4).getCacheControlMaxAge(schema));
+        Assert.assertEquals(operationDefinitions.get(5).getCacheControlMaxAge(schema), Integer.valueOf(0));
+        Assert.assertNull(operationDefinitions.get(6).getCacheControlMaxAge(schema));
+    }
 }
@@ -53,4 +53,22 @@ public class QueryValidatorTest extends GraphqlTest {
             Assert.fail(e.getMessage());
         }
     }
+
+    @Test(description = "Test graphql command execution with the lazy directive on fields other than root lists")
+    public void testValidateMisplacedLazyDirectives() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-lazy-directives.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        ExitCodeCaptor exitCaptor = new ExitCodeCaptor();
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, exitCaptor);
+        new CommandLine(graphqlCmd).parseArgs(args);
+        try {
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains("Graph query validation failed."));
+            Assert.assertTrue(output.contains("@lazy"));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,92 @@
+import ballerina/graphql;
+import ballerina/http;
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    final http:Client httpClient;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+        http:Client|http:ClientError httpClientEp = new (serviceUrl, {...graphqlClientConfig});
+        if httpClientEp is http:ClientError {
+            return error graphql:RequestError("GraphQL Client Error", httpClientEp);
+        }
+        self.httpClient = httpClientEp;
+    }
+    remote isolated function country(string code) returns CountryResponse|graphql:ClientError {
+        string query = COUNTRY_DOCUMENT;
+        map<anydata> variables = {"code": code};
+        record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
+        string query = COUNTRIES_DOCUMENT;
+        map<anydata> variables = {"filter": filter};
+        record {|CountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
+        string query = COMBINED_QUERY_DOCUMENT;
+        map<anydata> variables = {"filter": filter, "code": code};
+        record {|CombinedQueryResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
+        string query = NEIGHBOURING_COUNTRIES_DOCUMENT;
+        map<anydata> variables = {};
+        record {|NeighbouringCountriesResponse data; map<json?> extensions?;|} graphqlResponse = check self.graphqlClient->executeWithType(query, variables);
+        return graphqlResponse.data;
+    }
+    remote isolated function executeBatch(BatchOperation[] operations) returns (record {|anydata...;|}|graphql:ClientError)[]|graphql:ClientError {
+        return executeBatchedOperations(self.httpClient, operations);
+    }
+}
+
+public isolated function countryOperation(string code) returns BatchOperation {
+    map<anydata> variables = {"code": code};
+    return {query: COUNTRY_DOCUMENT, variables, targetType: CountryResponse};
+}
+
+public isolated function countriesOperation(CountryFilterInput? filter = ()) returns BatchOperation {
+    map<anydata> variables = {"filter": filter};
+    return {query: COUNTRIES_DOCUMENT, variables, targetType: CountriesResponse};
+}
+
+public isolated function combinedQueryOperation(string code, CountryFilterInput? filter = ()) returns BatchOperation {
+    map<anydata> variables = {"filter": filter, "code": code};
+    return {query: COMBINED_QUERY_DOCUMENT, variables, targetType: CombinedQueryResponse};
+}
+
+public isolated function neighbouringCountriesOperation() returns BatchOperation {
+    map<anydata> variables = {};
+    return {query: NEIGHBOURING_COUNTRIES_DOCUMENT, variables, targetType: NeighbouringCountriesResponse};
+}
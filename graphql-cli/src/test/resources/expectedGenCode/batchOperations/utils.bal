@@ -0,0 +1,129 @@
+import ballerina/graphql;
+import ballerina/http;
+import ballerina/url;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        json responseData = responseMap.get("data");
+        if bindExtensions && responseMap.hasKey("extensions") {
+            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
+        }
+        return check responseData.cloneWithType(targetType);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function sendGraphqlRequest(http:Client httpClient, map<json> request, map<string|string[]>? headers,
+                                     boolean useGet = false) returns map<json>|graphql:ClientError {
+    do {
+        json response;
+        if useGet {
+            response = check httpClient->get(check getRequestPath(request), headers);
+        } else {
+            response = check httpClient->post("", request, headers);
+        }
+        return check response.ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function getRequestPath(map<json> request) returns string|error {
+    string[] parameters = [];
+    foreach [string, json] [name, value] in request.entries() {
+        if value is () || (value is map<json> && value.length() == 0) {
+            continue;
+        }
+        string parameter = value is string ? value : value.toJsonString();
+        parameters.push(string `${name}=${check url:encode(parameter, "UTF-8")}`);
+    }
+    return "?" + string:'join("&", ...parameters);
+}
+
+isolated function getGraphqlResponse(map<json> response) returns json|graphql:ClientError {
+    json errors = response["errors"];
+    if errors is json[] && errors.length() > 0 {
+        graphql:ErrorDetail[]|error errorDetails = errors.cloneWithType();
+        if errorDetails is error {
+            return error graphql:RequestError("GraphQL Client Error", errorDetails);
+        }
+        return error graphql:ServerError("GraphQL Server Error", errors = errorDetails, data = response["data"],
+                                         extensions = <map<json>?>response["extensions"]);
+    }
+    return response;
+}
+
+# Represents an operation of a batched request, which is created with the function named after the operation, e.g.
+# `countryOperation` for the `country` operation.
+#
+# + query - Query document of the operation
+# + variables - Variables of the operation
+# + targetType - Response type of the operation
+public type BatchOperation record {|
+    string query;
+    map<anydata> variables;
+    typedesc<anydata> targetType;
+|};
+
+# Executes the given operations with a single batched request, i.e. a JSON array of GraphQL requests, and binds the
+# response of each operation to its response type. The GraphQL server must support batched requests.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + operations - Operations of the batched request
+# + headers - HTTP headers of the request
+# + bindExtensions - Whether the `extensions` of the responses are bound to the `__extensions` field
+# + return - Returns the response or the error of each operation in the order of the operations, or an error at
+# failure of the request
+isolated function executeBatchedOperations(http:Client httpClient, BatchOperation[] operations,
+                                           map<string|string[]>? headers = (), boolean bindExtensions = false)
+                                           returns (record {|anydata...;|}|graphql:ClientError)[]|graphql:ClientError {
+    if operations.length() == 0 {
+        return [];
+    }
+    json[] requests = from BatchOperation operation in operations
+        select {query: operation.query, variables: operation.variables.toJson()};
+    json[] responses;
+    do {
+        json response = check httpClient->post("", requests, headers);
+        responses = check response.ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+    if responses.length() != operations.length() {
+        return error graphql:RequestError("GraphQL Client Error: The batched response does not have a response " +
+                                          "for each operation");
+    }
+    (record {|anydata...;|}|graphql:ClientError)[] results = [];
+    foreach int i in 0 ..< operations.length() {
+        results.push(bindBatchedResponse(responses[i], operations[i].targetType, bindExtensions));
+    }
+    return results;
+}
+
+isolated function bindBatchedResponse(json response, typedesc<anydata> targetType, boolean bindExtensions)
+                                      returns record {|anydata...;|}|graphql:ClientError {
+    if response !is map<json> {
+        return error graphql:RequestError("GraphQL Client Error: Invalid response of a batched operation");
+    }
+    if targetType !is typedesc<DataResponse> {
+        return error graphql:RequestError("GraphQL Client Error: Invalid response type of a batched operation");
+    }
+    json graphqlResponse = check getGraphqlResponse(response);
+    return performDataBinding(graphqlResponse, targetType, bindExtensions);
+}
@@ -7,16 +7,21 @@ type DataResponse record {|
    OperationResponse ...;
 |};
 
-isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType)
-                                    returns DataResponse|graphql:RequestError {
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
     do {
-        map<json> responseMap = <map<json>>graphqlResponse;
+        map<json> responseMap = check graphqlResponse.ensureType();
         json responseData = responseMap.get("data");
-        if (responseMap.hasKey("extensions")) {
+        if bindExtensions && responseMap.hasKey("extensions") {
             responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
         }
-        DataResponse response = check responseData.cloneWithType(targetType);
-        return response;
+        return check responseData.cloneWithType(targetType);
     } on fail var e {
         return error graphql:RequestError("GraphQL Client Error", e);
     }
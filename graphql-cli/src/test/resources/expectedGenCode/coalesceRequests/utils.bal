@@ -0,0 +1,182 @@
+import ballerina/graphql;
+import ballerina/lang.runtime;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        json responseData = responseMap.get("data");
+        if bindExtensions && responseMap.hasKey("extensions") {
+            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
+        }
+        return check responseData.cloneWithType(targetType);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Deduplicates the concurrent executions of identical queries, i.e. the queries with the same document and equal
+# variables, so that they share a single request and its response. The shared response is immutable.
+isolated class RequestCoalescer {
+    private final map<InflightRequest> inflightRequests = {};
+    private final decimal timeout;
+
+    # Initializes the request coalescer.
+    #
+    # + timeout - Maximum time to wait for the response of a query in seconds
+    isolated function init(decimal timeout) {
+        self.timeout = timeout;
+    }
+
+    # Executes a query, or waits for the response of an identical query being executed already. The request is sent
+    # without holding the lock of the coalescer, so that the queries with different keys are executed concurrently.
+    #
+    # + graphqlClient - GraphQL client of the GraphQL API
+    # + document - Query document of the operation
+    # + variables - Variables of the operation
+    # + headers - HTTP headers of the request
+    # + return - Returns the GraphQL response or an error at failure of the request
+    isolated function execute(graphql:Client graphqlClient, string document, map<anydata> & readonly variables,
+                              map<string|string[]>? & readonly headers = ()) returns json|graphql:ClientError {
+        string key = getRequestKey(document, variables);
+        InflightRequest newRequest = new (graphqlClient, document, variables, headers, self.timeout);
+        InflightRequest request;
+        lock {
+            InflightRequest? existingRequest = self.inflightRequests[key];
+            if existingRequest is () {
+                self.inflightRequests[key] = newRequest;
+                request = newRequest;
+            } else {
+                request = existingRequest;
+            }
+        }
+        // Never panics, so that the request is always removed once it is completed
+        json|graphql:ClientError response = request.waitForResponse();
+        lock {
+            if self.inflightRequests[key] === request {
+                _ = self.inflightRequests.remove(key);
+            }
+        }
+        return response;
+    }
+}
+
+# Represents the result of a coalesced query, i.e. its GraphQL response or the error at failure of the request.
+type QueryResult readonly & record {|
+    json|graphql:ClientError response;
+|};
+
+# Represents a query being executed, whose response is shared by the identical queries executed concurrently.
+isolated class InflightRequest {
+    private final graphql:Client graphqlClient;
+    private final string document;
+    private final map<anydata> & readonly variables;
+    private final map<string|string[]>? & readonly headers;
+    private final decimal timeout;
+    private QueryResult? result = ();
+
+    isolated function init(graphql:Client graphqlClient, string document, map<anydata> & readonly variables,
+                           map<string|string[]>? & readonly headers, decimal timeout) {
+        self.graphqlClient = graphqlClient;
+        self.document = document;
+        self.variables = variables;
+        self.headers = headers;
+        self.timeout = timeout;
+    }
+
+    # Waits for the response of the query. The first caller sends the request and waits for its future while
+    # holding the lock of the request, so that the other callers wait for the lock and get the same result.
+    #
+    # + return - Returns the GraphQL response or an error at failure of the request
+    isolated function waitForResponse() returns json|graphql:ClientError {
+        lock {
+            QueryResult? result = self.result;
+            if result !is () {
+                return result.response;
+            }
+            QueryResult newResult = sendCoalescedQuery(self.graphqlClient, self.document, self.variables,
+                                                       self.headers, self.timeout);
+            self.result = newResult;
+            return newResult.response;
+        }
+    }
+}
+
+# Sends a coalesced query, and waits for its response for the given timeout at most.
+#
+# + graphqlClient - GraphQL client of the GraphQL API
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + headers - HTTP headers of the request
+# + timeout - Maximum time to wait for the response in seconds
+# + return - Returns the GraphQL response, or an error at failure of the request or at the timeout
+isolated function sendCoalescedQuery(graphql:Client graphqlClient, string document,
+                                     map<anydata> & readonly variables, map<string|string[]>? & readonly headers,
+                                     decimal timeout) returns QueryResult {
+    future<QueryResult> response = start executeCoalescedQuery(graphqlClient, document, variables, headers);
+    future<QueryResult> timeoutResult = start getTimeoutResult(timeout);
+    // The results are not errors, so that the first result is returned even if it holds an error
+    QueryResult result = wait response | timeoutResult;
+    timeoutResult.cancel();
+    return result;
+}
+
+isolated function executeCoalescedQuery(graphql:Client graphqlClient, string document,
+                                        map<anydata> & readonly variables, map<string|string[]>? & readonly headers)
+                                        returns QueryResult {
+    json|error response = trap graphqlClient->executeWithType(document, variables, headers = headers,
+                                                              targetType = json);
+    if response is graphql:ClientError {
+        return {response};
+    }
+    if response is error {
+        return {response: error graphql:RequestError("GraphQL Client Error", response)};
+    }
+    return {response: response.cloneReadOnly()};
+}
+
+isolated function getTimeoutResult(decimal timeout) returns QueryResult {
+    runtime:sleep(timeout);
+    return {
+        response: error graphql:RequestError(
+                string `GraphQL Client Error: The response of the query is not received in ${timeout} seconds`)
+    };
+}
+
+# Gets the key identifying the queries with the same document and equal variables, regardless of the order of the
+# fields of the variables.
+#
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + return - Returns the key of the query
+isolated function getRequestKey(string document, map<anydata> variables) returns string {
+    return document + "\n" + getCanonicalJsonString(variables.toJson());
+}
+
+isolated function getCanonicalJsonString(json value) returns string {
+    if value is map<json> {
+        string[] members = from string key in value.keys()
+            order by key ascending
+            select key.toJsonString() + ":" + getCanonicalJsonString(value.get(key));
+        return "{" + string:'join(",", ...members) + "}";
+    }
+    if value is json[] {
+        string[] items = from json item in value
+            select getCanonicalJsonString(item);
+        return "[" + string:'join(",", ...items) + "]";
+    }
+    return value.toJsonString();
+}
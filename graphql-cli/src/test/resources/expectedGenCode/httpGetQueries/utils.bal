@@ -0,0 +1,85 @@
+import ballerina/graphql;
+import ballerina/http;
+import ballerina/url;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        json responseData = responseMap.get("data");
+        if bindExtensions && responseMap.hasKey("extensions") {
+            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
+        }
+        return check responseData.cloneWithType(targetType);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Executes a GraphQL query with the HTTP GET method. The query document and the variables are sent as the query
+# parameters of the URL, so that the response can be cached by the HTTP caches.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + headers - HTTP headers of the request
+# + return - Returns the GraphQL response or an error at failure of the request
+isolated function executeWithGet(http:Client httpClient, string document, map<anydata> variables,
+                                 map<string|string[]>? headers = ()) returns json|graphql:ClientError {
+    map<json> request = {query: document, variables: variables.toJson()};
+    map<json> response = check sendGraphqlRequest(httpClient, request, headers, true);
+    return getGraphqlResponse(response);
+}
+
+isolated function sendGraphqlRequest(http:Client httpClient, map<json> request, map<string|string[]>? headers,
+                                     boolean useGet = false) returns map<json>|graphql:ClientError {
+    do {
+        json response;
+        if useGet {
+            response = check httpClient->get(check getRequestPath(request), headers);
+        } else {
+            response = check httpClient->post("", request, headers);
+        }
+        return check response.ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function getRequestPath(map<json> request) returns string|error {
+    string[] parameters = [];
+    foreach [string, json] [name, value] in request.entries() {
+        if value is () || (value is map<json> && value.length() == 0) {
+            continue;
+        }
+        string parameter = value is string ? value : value.toJsonString();
+        parameters.push(string `${name}=${check url:encode(parameter, "UTF-8")}`);
+    }
+    return "?" + string:'join("&", ...parameters);
+}
+
+isolated function getGraphqlResponse(map<json> response) returns json|graphql:ClientError {
+    json errors = response["errors"];
+    if errors is json[] && errors.length() > 0 {
+        graphql:ErrorDetail[]|error errorDetails = errors.cloneWithType();
+        if errorDetails is error {
+            return error graphql:RequestError("GraphQL Client Error", errorDetails);
+        }
+        return error graphql:ServerError("GraphQL Server Error", errors = errorDetails, data = response["data"],
+                                         extensions = <map<json>?>response["extensions"]);
+    }
+    return response;
+}
@@ -0,0 +1,69 @@
+import ballerina/graphql;
+import ballerina/http;
+
+public isolated client class GraphqlClient {
+    final graphql:Client graphqlClient;
+    final http:Client httpClient;
+    public isolated function init(string serviceUrl, ConnectionConfig config = {}) returns graphql:ClientError? {
+        graphql:ClientConfiguration graphqlClientConfig = {
+            timeout: config.timeout,
+            forwarded: config.forwarded,
+            poolConfig: config.poolConfig,
+            compression: config.compression,
+            circuitBreaker: config.circuitBreaker,
+            retryConfig: config.retryConfig,
+            validation: config.validation
+        };
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                graphqlClientConfig.http1Settings = {...settings};
+            }
+            if config.cache is graphql:CacheConfig {
+                graphqlClientConfig.cache = check config.cache.ensureType(graphql:CacheConfig);
+            }
+            if config.responseLimits is graphql:ResponseLimitConfigs {
+                graphqlClientConfig.responseLimits = check config.responseLimits.ensureType(graphql:ResponseLimitConfigs);
+            }
+            if config.secureSocket is graphql:ClientSecureSocket {
+                graphqlClientConfig.secureSocket = check config.secureSocket.ensureType(graphql:ClientSecureSocket);
+            }
+            if config.proxy is graphql:ProxyConfig {
+                graphqlClientConfig.proxy = check config.proxy.ensureType(graphql:ProxyConfig);
+            }
+        } on fail var e {
+            return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+        }
+        graphql:Client clientEp = check new (serviceUrl, graphqlClientConfig);
+        self.graphqlClient = clientEp;
+        http:Client|http:ClientError httpClientEp = new (serviceUrl, {...graphqlClientConfig});
+        if httpClientEp is http:ClientError {
+            return error graphql:RequestError("GraphQL Client Error", httpClientEp);
+        }
+        self.httpClient = httpClientEp;
+    }
+    remote isolated function country(string code) returns CountryResponse|graphql:ClientError {
+        string query = COUNTRY_DOCUMENT;
+        map<anydata> variables = {"code": code};
+        json graphqlResponse = check executePersistedQuery(self.httpClient, query, COUNTRY_DOCUMENT_HASH, variables);
+        return <CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);
+    }
+    remote isolated function countries(CountryFilterInput? filter = ()) returns CountriesResponse|graphql:ClientError {
+        string query = COUNTRIES_DOCUMENT;
+        map<anydata> variables = {"filter": filter};
+        json graphqlResponse = check executePersistedQuery(self.httpClient, query, COUNTRIES_DOCUMENT_HASH, variables);
+        return <CountriesResponse> check performDataBinding(graphqlResponse, CountriesResponse);
+    }
+    remote isolated function combinedQuery(string code, CountryFilterInput? filter = ()) returns CombinedQueryResponse|graphql:ClientError {
+        string query = COMBINED_QUERY_DOCUMENT;
+        map<anydata> variables = {"filter": filter, "code": code};
+        json graphqlResponse = check executePersistedQuery(self.httpClient, query, COMBINED_QUERY_DOCUMENT_HASH, variables);
+        return <CombinedQueryResponse> check performDataBinding(graphqlResponse, CombinedQueryResponse);
+    }
+    remote isolated function neighbouringCountries() returns NeighbouringCountriesResponse|graphql:ClientError {
+        string query = NEIGHBOURING_COUNTRIES_DOCUMENT;
+        map<anydata> variables = {};
+        json graphqlResponse = check executePersistedQuery(self.httpClient, query, NEIGHBOURING_COUNTRIES_DOCUMENT_HASH, variables);
+        return <NeighbouringCountriesResponse> check performDataBinding(graphqlResponse, NeighbouringCountriesResponse);
+    }
+}
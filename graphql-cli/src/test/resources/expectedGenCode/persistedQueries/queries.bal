@@ -0,0 +1,8 @@
+public const string COUNTRY_DOCUMENT = "query country($code:ID!){country(code:$code){capital name}}";
+public const string COUNTRY_DOCUMENT_HASH = "41e808bf92851298cfd11830c46266e47a8af3a387246eee65c5940e3e56c7d9";
+public const string COUNTRIES_DOCUMENT = "query countries($filter:CountryFilterInput){countries(filter:$filter){name continent{countries{name}}}}";
+public const string COUNTRIES_DOCUMENT_HASH = "36b823db2d0a096e0c557a224771a632404f2708ec7023d207e2d8be6ffbb9b0";
+public const string COMBINED_QUERY_DOCUMENT = "query combinedQuery($code:ID!,$filter:CountryFilterInput){country(code:$code){name}countries(filter:$filter){name continent{countries{continent{name}}}}}";
+public const string COMBINED_QUERY_DOCUMENT_HASH = "21cfa9886159880d83d596e7a0d751c1f0e09d4181656e91ecfa4445690225a7";
+public const string NEIGHBOURING_COUNTRIES_DOCUMENT = "query neighbouringCountries{countries(filter:{code:{eq:\"LK\"}}){name continent{countries{name}}}}";
+public const string NEIGHBOURING_COUNTRIES_DOCUMENT_HASH = "d617a27216d344687897d2292bfb84c743f0e17303585095feb04197b931e231";
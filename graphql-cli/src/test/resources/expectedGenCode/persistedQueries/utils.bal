@@ -0,0 +1,112 @@
+import ballerina/graphql;
+import ballerina/http;
+import ballerina/url;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        json responseData = responseMap.get("data");
+        if bindExtensions && responseMap.hasKey("extensions") {
+            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
+        }
+        return check responseData.cloneWithType(targetType);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Executes a GraphQL operation with the Automatic Persisted Queries protocol. Only the hash of the query document
+# is sent at first, and the query document is sent along with it if the server has not persisted it yet.
+#
+# + httpClient - HTTP client of the GraphQL API
+# + document - Query document of the operation
+# + documentHash - SHA-256 hash of the query document
+# + variables - Variables of the operation
+# + headers - HTTP headers of the request
+# + useGet - Whether the request is sent with the HTTP GET method, which carries the request in the URL
+# + return - Returns the GraphQL response or an error at failure of the request
+isolated function executePersistedQuery(http:Client httpClient, string document, string documentHash,
+                                        map<anydata> variables, map<string|string[]>? headers = (),
+                                        boolean useGet = false) returns json|graphql:ClientError {
+    map<json> request = {
+        variables: variables.toJson(),
+        extensions: {persistedQuery: {version: 1, sha256Hash: documentHash}}
+    };
+    map<json> response = check sendGraphqlRequest(httpClient, request, headers, useGet);
+    if isPersistedQueryNotFound(response) {
+        request["query"] = document;
+        response = check sendGraphqlRequest(httpClient, request, headers, useGet);
+    }
+    return getGraphqlResponse(response);
+}
+
+isolated function sendGraphqlRequest(http:Client httpClient, map<json> request, map<string|string[]>? headers,
+                                     boolean useGet = false) returns map<json>|graphql:ClientError {
+    do {
+        json response;
+        if useGet {
+            response = check httpClient->get(check getRequestPath(request), headers);
+        } else {
+            response = check httpClient->post("", request, headers);
+        }
+        return check response.ensureType();
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+isolated function getRequestPath(map<json> request) returns string|error {
+    string[] parameters = [];
+    foreach [string, json] [name, value] in request.entries() {
+        if value is () || (value is map<json> && value.length() == 0) {
+            continue;
+        }
+        string parameter = value is string ? value : value.toJsonString();
+        parameters.push(string `${name}=${check url:encode(parameter, "UTF-8")}`);
+    }
+    return "?" + string:'join("&", ...parameters);
+}
+
+isolated function getGraphqlResponse(map<json> response) returns json|graphql:ClientError {
+    json errors = response["errors"];
+    if errors is json[] && errors.length() > 0 {
+        graphql:ErrorDetail[]|error errorDetails = errors.cloneWithType();
+        if errorDetails is error {
+            return error graphql:RequestError("GraphQL Client Error", errorDetails);
+        }
+        return error graphql:ServerError("GraphQL Server Error", errors = errorDetails, data = response["data"],
+                                         extensions = <map<json>?>response["extensions"]);
+    }
+    return response;
+}
+
+isolated function isPersistedQueryNotFound(map<json> response) returns boolean {
+    json errors = response["errors"];
+    if errors !is json[] {
+        return false;
+    }
+    foreach json errorDetail in errors {
+        if errorDetail is map<json> {
+            json extensions = errorDetail["extensions"];
+            if errorDetail["message"] == "PersistedQueryNotFound" ||
+                    (extensions is map<json> && extensions["code"] == "PERSISTED_QUERY_NOT_FOUND") {
+                return true;
+            }
+        }
+    }
+    return false;
+}
@@ -0,0 +1,4 @@
+public const string COUNTRY_DOCUMENT = "query country($code:ID!){country(code:$code){capital name}}";
+public const string COUNTRIES_DOCUMENT = "query countries($filter:CountryFilterInput){countries(filter:$filter){name continent{countries{name}}}}";
+public const string COMBINED_QUERY_DOCUMENT = "query combinedQuery($code:ID!,$filter:CountryFilterInput){country(code:$code){name}countries(filter:$filter){name continent{countries{continent{name}}}}}";
+public const string NEIGHBOURING_COUNTRIES_DOCUMENT = "query neighbouringCountries{countries(filter:{code:{eq:\"LK\"}}){name continent{countries{name}}}}";
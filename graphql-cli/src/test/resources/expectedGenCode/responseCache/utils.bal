@@ -0,0 +1,115 @@
+import ballerina/graphql;
+import ballerina/time;
+
+type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
+
+type DataResponse record {|
+   map<json?> __extensions?;
+   OperationResponse ...;
+|};
+
+# Binds the data of a GraphQL response to the response type of the operation.
+#
+# + graphqlResponse - GraphQL response
+# + targetType - Response type of the operation
+# + bindExtensions - Whether the `extensions` of the response are bound to the `__extensions` field
+# + return - Returns the response data or an error at failure of the binding
+isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse> targetType,
+                                     boolean bindExtensions = false) returns DataResponse|graphql:RequestError {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        json responseData = responseMap.get("data");
+        if bindExtensions && responseMap.hasKey("extensions") {
+            responseData = check responseData.mergeJson({"__extensions": responseMap.get("extensions")});
+        }
+        return check responseData.cloneWithType(targetType);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Gets the key identifying the queries with the same document and equal variables, regardless of the order of the
+# fields of the variables.
+#
+# + document - Query document of the operation
+# + variables - Variables of the operation
+# + return - Returns the key of the query
+isolated function getRequestKey(string document, map<anydata> variables) returns string {
+    return document + "\n" + getCanonicalJsonString(variables.toJson());
+}
+
+isolated function getCanonicalJsonString(json value) returns string {
+    if value is map<json> {
+        string[] members = from string key in value.keys()
+            order by key ascending
+            select key.toJsonString() + ":" + getCanonicalJsonString(value.get(key));
+        return "{" + string:'join(",", ...members) + "}";
+    }
+    if value is json[] {
+        string[] items = from json item in value
+            select getCanonicalJsonString(item);
+        return "[" + string:'join(",", ...items) + "]";
+    }
+    return value.toJsonString();
+}
+
+# Represents a response in the response cache, which expires at the given monotonic time.
+type CachedResponse readonly & record {|
+    string key;
+    DataResponse response;
+    decimal expiryTime;
+|};
+
+# Caches the responses of the queries for their time-to-live, evicting the least recently used response when the
+# cache is full. The responses are cached as immutable values, so that the cache hits are returned without cloning.
+isolated class ResponseCache {
+    private final int maxEntries;
+    # The cached responses, in the order of their last use
+    private final map<CachedResponse> entries = {};
+
+    isolated function init(int maxEntries) {
+        self.maxEntries = maxEntries;
+    }
+
+    # Gets the cached response of a query, if it is not expired.
+    #
+    # + key - Key of the query
+    # + return - Returns the cached response, or `()` if the response is not cached or expired
+    isolated function get(string key) returns DataResponse & readonly? {
+        lock {
+            CachedResponse? cachedResponse = self.entries[key];
+            if cachedResponse is () {
+                return;
+            }
+            _ = self.entries.remove(key);
+            if cachedResponse.expiryTime <= time:monotonicNow() {
+                return;
+            }
+            self.entries[key] = cachedResponse;
+            return cachedResponse.response;
+        }
+    }
+
+    # Caches the response of a query for the given time-to-live.
+    #
+    # + key - Key of the query
+    # + response - Response of the query
+    # + ttl - Time-to-live of the response in seconds
+    isolated function put(string key, DataResponse & readonly response, decimal ttl) {
+        CachedResponse cachedResponse = {key, response, expiryTime: time:monotonicNow() + ttl};
+        lock {
+            _ = self.entries.removeIfHasKey(key);
+            if self.entries.length() >= self.maxEntries {
+                string? leastRecentlyUsedKey = ();
+                foreach CachedResponse entry in self.entries {
+                    leastRecentlyUsedKey = entry.key;
+                    break;
+                }
+                if leastRecentlyUsedKey is string {
+                    _ = self.entries.remove(leastRecentlyUsedKey);
+                }
+            }
+            self.entries[key] = cachedResponse;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.common;
+
+/**
+ * Generates synthetic GraphQL schemas, query documents and Ballerina GraphQL services of a given size, which are
+ * used as the inputs of the generation scaling tests and of the benchmarks.
+ * <p>
+ * Each object type `Item<n>` has scalar, list, enum and nested object fields, an input type `Item<n>Filter` and a
+ * query field taking the filter as an argument. The Ballerina service exposes an equivalent record and resource
+ * function per type.
+ */
+public final class SyntheticSchemaGenerator {
+
+    private SyntheticSchemaGenerator() {
+    }
+
+    /**
+     * Generates the SDL of a synthetic schema.
+     *
+     * @param typeCount         the number of object types of the schema
+     * @return                  the SDL of the schema
+     */
+    public static String getSdl(int typeCount) {
+        StringBuilder sdl = new StringBuilder("type Query {\n");
+        for (int typeIdx = 0; typeIdx < typeCount; typeIdx++) {
+            sdl.append("  item").append(typeIdx).append("(filter: Item").append(typeIdx).append("Filter): Item")
+                    .append(typeIdx).append("\n");
+        }
+        sdl.append("}\n\nenum Status {\n  ACTIVE\n  INACTIVE\n}\n");
+        for (int typeIdx = 0; typeIdx < typeCount; typeIdx++) {
+            sdl.append("\ntype Item").append(typeIdx).append(" {\n")
+                    .append("  id: ID!\n")
+                    .append("  name: String\n")
+                    .append("  count: Int!\n")
+                    .append("  tags: [String!]\n")
+                    .append("  status: Status\n")
+                    .append("  next: Item").append((typeIdx + 1) % typeCount).append("\n")
+                    .append("}\n")
+                    .append("\ninput Item").append(typeIdx).append("Filter {\n")
+                    .append("  id: ID\n")
+                    .append("  name: String\n")
+                    .append("  tags: [String]\n")
+                    .append("}\n");
+        }
+        return sdl.toString();
+    }
+
+    /**
+     * Generates a query document with one query per object type of the synthetic schema.
+     *
+     * @param typeCount         the number of object types of the schema
+     * @return                  the query document
+     */
+    public static String getDocument(int typeCount) {
+        StringBuilder document = new StringBuilder();
+        for (int typeIdx = 0; typeIdx < typeCount; typeIdx++) {
+            document.append("query item").append(typeIdx).append("($filter: Item").append(typeIdx)
+                    .append("Filter) {\n")
+                    .append("  item").append(typeIdx).append("(filter: $filter) {\n")
+                    .append("    id\n    name\n    count\n    tags\n    status\n")
+                    .append("    next {\n      id\n      name\n    }\n")
+                    .append("  }\n}\n\n");
+        }
+        return document.toString();
+    }
+
+    /**
+     * Generates a Ballerina GraphQL service with one record and one resource function per object type.
+     *
+     * @param typeCount         the number of object types of the service
+     * @return                  the Ballerina source of the service
+     */
+    public static String getBallerinaService(int typeCount) {
+        StringBuilder service = new StringBuilder("import ballerina/graphql;\n\n")
+                .append("public enum Status {\n    ACTIVE,\n    INACTIVE\n}\n");
+        for (int typeIdx = 0; typeIdx < typeCount; typeIdx++) {
+            service.append("\npublic type Item").append(typeIdx).append(" record {|\n")
+                    .append("    string id;\n")
+                    .append("    string? name;\n")
+                    .append("    int count;\n")
+                    .append("    string[]? tags;\n")
+                    .append("    Status? status;\n")
+                    .append("    Item").append((typeIdx + 1) % typeCount).append("? next;\n")
+                    .append("|};\n")
+                    .append("\npublic type Item").append(typeIdx).append("Filter record {|\n")
+                    .append("    string? id;\n")
+                    .append("    string? name;\n")
+                    .append("|};\n");
+        }
+        service.append("\nservice /graphql on new graphql:Listener(9090) {\n");
+        for (int typeIdx = 0; typeIdx < typeCount; typeIdx++) {
+            service.append("    resource function get item").append(typeIdx).append("(Item").append(typeIdx)
+                    .append("Filter? filter) returns Item").append(typeIdx).append("? {\n")
+                    .append("        return ();\n")
+                    .append("    }\n");
+        }
+        service.append("}\n");
+        return service.toString();
+    }
+}
@@ -26,11 +26,32 @@ import io.ballerina.graphql.generator.utils.SrcFilePojo;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class implements the GraphQL code generator tool.
  */
 public abstract class CodeGenerator {
+    private final AtomicInteger writtenFileCount = new AtomicInteger();
+    private final AtomicInteger skippedFileCount = new AtomicInteger();
+
+    /**
+     * Gets the number of generated files written by this generator.
+     *
+     * @return the number of files written
+     */
+    public int getWrittenFileCount() {
+        return writtenFileCount.get();
+    }
+
+    /**
+     * Gets the number of generated files left untouched by this generator, as their content was unchanged.
+     *
+     * @return the number of files skipped
+     */
+    public int getSkippedFileCount() {
+        return skippedFileCount.get();
+    }
 
     /**
      * Generates the code for a given GraphQL project.
@@ -42,7 +63,8 @@ public abstract class CodeGenerator {
             throws ClientCodeGenerationException, ServiceGenerationException;
 
     /**
-     * Writes the generated Ballerina source codes to the files in the specified {@code outputPath}.
+     * Writes the generated Ballerina source codes to the files in the specified {@code outputPath}. Files which
+     * already have the generated content are not rewritten.
      *
      * @param sources    the list of generated Ballerina source file pojo
      * @param outputPath the target output path for the code generation
@@ -54,7 +76,11 @@ public abstract class CodeGenerator {
                 if (file.getType().isOverwritable()) {
                     Path filePath = CodeGeneratorUtils.getAbsoluteFilePath(file, outputPath);
                     String fileContent = file.getContent();
-                    CodeGeneratorUtils.writeFile(filePath, fileContent);
+                    if (CodeGeneratorUtils.writeFileIfChanged(filePath, fileContent)) {
+                        writtenFileCount.incrementAndGet();
+                    } else {
+                        skippedFileCount.incrementAndGet();
+                    }
                 }
             }
         }
@@ -41,6 +41,8 @@ public class CodeGeneratorConstants {
     public static final String TYPES_FILE_NAME = "types.bal";
     public static final String UTILS_FILE_NAME = "utils.bal";
     public static final String CONFIG_TYPES_FILE_NAME = "config_types.bal";
+    public static final String QUERIES_FILE_NAME = "queries.bal";
+    public static final String PERSISTED_QUERIES_FILE_NAME = "persisted-queries.json";
     public static final String SCHEMA_PATTERN = "schema";
     public static final String DOCUMENTS_PATTERN = "documents";
     public static final String GET = "get";
@@ -63,7 +65,10 @@ public class CodeGeneratorConstants {
     public static final String BALLERINA = "ballerina";
     public static final String BALLERINAX = "ballerinax";
     public static final String HTTP = "http";
+    public static final String URL = "url";
     public static final String GRAPHQL = "graphql";
+    public static final String TIME = "time";
+    public static final String LANG_RUNTIME = "lang.runtime";
     public static final String CLIENT_CLASS_PREFIX = "Graphql";
     public static final String IDL_PLUGIN_CLIENT = "'client";
     public static final String MODE_CLIENT = "client";
@@ -78,8 +83,39 @@ public class CodeGeneratorConstants {
     public static final String SELF = "self";
     public static final String CLIENT_EP = "clientEp";
     public static final String QUERY_VAR_NAME = "query";
+    public static final String OPERATION_DOCUMENT_CONST_SUFFIX = "_DOCUMENT";
+    public static final String OPERATION_DOCUMENT_HASH_CONST_SUFFIX = "_DOCUMENT_HASH";
+    public static final String HTTP_CLIENT = "httpClient";
+    public static final String HTTP_GET_METHOD = "GET";
+    public static final String HTTP_POST_METHOD = "POST";
+    public static final String EXECUTE_PERSISTED_QUERY = "executePersistedQuery";
+    public static final String EXECUTE_WITH_GET = "executeWithGet";
+    public static final String USE_GET_ARG_NAME = "useGet";
+    public static final String BIND_EXTENSIONS_ARG_NAME = "bindExtensions";
+    public static final String EXECUTE_BATCH = "executeBatch";
+    public static final String EXECUTE_BATCHED_OPERATIONS = "executeBatchedOperations";
+    public static final String BATCH_OPERATION_TYPE_NAME = "BatchOperation";
+    public static final String BATCH_OPERATIONS_PARAM_NAME = "operations";
+    public static final String EXECUTE_BATCH_RETURN_TYPE =
+            "(record {|anydata...;|}|graphql:ClientError)[]|graphql:ClientError";
+    public static final String BATCH_OPERATION_FUNCTION_SUFFIX = "Operation";
     public static final String GRAPHQL_RESPONSE_VAR_NAME = "graphqlResponse";
+    public static final String RESPONSE_DATA_FIELD_NAME = "data";
+    public static final String LAZY_DIRECTIVE_NAME = "lazy";
+    public static final String CONNECTION_STREAM_FUNCTION_SUFFIX = "Stream";
+    public static final String CONNECTION_NODE_TYPE_SUFFIX = "Node";
+    public static final String CONNECTION_ITERATOR_CLASS_NAME = "ConnectionIterator";
     public static final String CLONE_READ_ONLY = "cloneReadOnly";
+    public static final String REQUEST_COALESCER = "requestCoalescer";
+    public static final String REQUEST_COALESCER_CLASS_NAME = "RequestCoalescer";
+    public static final String RESPONSE_CACHE = "responseCache";
+    public static final String RESPONSE_CACHE_CLASS_NAME = "ResponseCache";
+    public static final String CACHE_KEY_VAR_NAME = "cacheKey";
+    public static final String CACHED_RESPONSE_VAR_NAME = "cachedResponse";
+    public static final String READ_ONLY_RESPONSE_VAR_NAME = "readOnlyResponse";
+    public static final int DEFAULT_RESPONSE_CACHE_MAX_ENTRIES = 1000;
+    public static final String CACHE_CONTROL_DIRECTIVE_NAME = "cacheControl";
+    public static final String CACHE_CONTROL_MAX_AGE_ARG_NAME = "maxAge";
 
     public static final String FRAGMENT = "Fragment";
     public static final String MUTATION = "Mutation";
@@ -181,6 +217,14 @@ public class CodeGeneratorConstants {
 
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String APPLICATION_JSON = "application/json";
+    public static final String ETAG = "ETag";
+    public static final String LAST_MODIFIED = "Last-Modified";
+    public static final String IF_NONE_MATCH = "If-None-Match";
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
     public static final String DATA_FIELD = "data";
     public static final String ERROR_FIELD = "errors";
 
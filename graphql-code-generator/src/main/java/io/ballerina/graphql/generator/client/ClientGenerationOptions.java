@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import io.ballerina.graphql.generator.client.pojo.Cache;
+import io.ballerina.graphql.generator.client.pojo.Extension;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_GET_METHOD;
+
+/**
+ * Represents the options of the Ballerina client generation, which apply to all the projects of a
+ * GraphQL config file.
+ */
+public class ClientGenerationOptions {
+    private boolean allInputTypes;
+    private boolean persistedQueries;
+    private boolean httpGetQueries;
+    private boolean batchOperations;
+    private boolean responseExtensions;
+    private boolean coalesceRequests;
+    private Cache responseCache;
+
+    /**
+     * Returns `true` if records are generated for all the input object types of the schema, instead of only the
+     * input object types reachable from the variables of the operations of the project.
+     *
+     * @return {@link boolean}    value of the flag allInputTypes
+     */
+    public boolean isAllInputTypes() {
+        return allInputTypes;
+    }
+
+    public void setAllInputTypes(boolean allInputTypes) {
+        this.allInputTypes = allInputTypes;
+    }
+
+    /**
+     * Returns `true` if the remote functions of the generated clients execute the operations with the Automatic
+     * Persisted Queries protocol, i.e. send the SHA-256 hash of the query document instead of the document itself,
+     * and a `persisted-queries.json` manifest of the operations is generated along with the client.
+     *
+     * @return {@link boolean}    value of the flag persistedQueries
+     */
+    public boolean isPersistedQueries() {
+        return persistedQueries;
+    }
+
+    public void setPersistedQueries(boolean persistedQueries) {
+        this.persistedQueries = persistedQueries;
+    }
+
+    /**
+     * Returns `true` if the remote functions of the generated clients execute the query operations with HTTP GET
+     * requests, which carry the query document, or its hash with the persisted queries, and the variables in the
+     * URL, so that the responses can be cached by the HTTP caches. Mutations are always executed with HTTP POST.
+     *
+     * @return {@link boolean}    value of the flag httpGetQueries
+     */
+    public boolean isHttpGetQueries() {
+        return httpGetQueries;
+    }
+
+    public void setHttpGetQueries(boolean httpGetQueries) {
+        this.httpGetQueries = httpGetQueries;
+    }
+
+    /**
+     * Returns `true` if the generated clients have an `executeBatch` remote function, which executes several
+     * operations with a single batched request, along with a function per operation creating the operation of a
+     * batched request.
+     *
+     * @return {@link boolean}    value of the flag batchOperations
+     */
+    public boolean isBatchOperations() {
+        return batchOperations;
+    }
+
+    public void setBatchOperations(boolean batchOperations) {
+        this.batchOperations = batchOperations;
+    }
+
+    /**
+     * Returns `true` if the generated clients bind the `extensions` of the GraphQL responses to the `__extensions`
+     * field of the response records. Otherwise, the data of the responses is bound without the `extensions`, saving
+     * the merge of the `extensions` into the response data.
+     *
+     * @return {@link boolean}    value of the flag responseExtensions
+     */
+    public boolean isResponseExtensions() {
+        return responseExtensions;
+    }
+
+    public void setResponseExtensions(boolean responseExtensions) {
+        this.responseExtensions = responseExtensions;
+    }
+
+    /**
+     * Returns `true` if the generated clients coalesce the concurrent executions of a query operation with equal
+     * variables, so that they share a single request and its bound response. Mutations are never coalesced.
+     *
+     * @return {@link boolean}    value of the flag coalesceRequests
+     */
+    public boolean isCoalesceRequests() {
+        return coalesceRequests;
+    }
+
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    /**
+     * Returns the configuration of the response cache of the generated clients, which cache the responses of the
+     * queries for their time-to-live, configured in the extensions of the project or hinted with the `@cacheControl`
+     * directive in the schema.
+     *
+     * @return {@link Cache}      the response cache configuration, `null` if the responses are not cached
+     */
+    public Cache getResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(Cache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Returns `true` if the generated clients send the requests with an HTTP client of their own, instead of the
+     * GraphQL client, i.e. if the persisted queries, the HTTP GET queries or the batched operations are enabled.
+     *
+     * @return {@link boolean}    whether the generated clients require an HTTP client
+     */
+    public boolean isHttpClientRequired() {
+        return persistedQueries || httpGetQueries || batchOperations;
+    }
+
+    /**
+     * Gets the options of a project with the given extensions, i.e. these options along with the options configured
+     * in the extensions of the project.
+     *
+     * @param extensions          the extensions of the project
+     * @return                    the options of the project
+     */
+    public ClientGenerationOptions forExtensions(Extension extensions) {
+        ClientGenerationOptions projectOptions = new ClientGenerationOptions();
+        projectOptions.setAllInputTypes(allInputTypes);
+        projectOptions.setPersistedQueries(persistedQueries);
+        projectOptions.setBatchOperations(batchOperations);
+        projectOptions.setCoalesceRequests(coalesceRequests);
+        projectOptions.setHttpGetQueries(httpGetQueries || (extensions != null &&
+                HTTP_GET_METHOD.equalsIgnoreCase(extensions.getQueryMethod())));
+        projectOptions.setResponseExtensions(responseExtensions ||
+                (extensions != null && extensions.isResponseExtensions()));
+        projectOptions.setResponseCache(extensions != null && extensions.getCache() != null ?
+                extensions.getCache() : responseCache);
+        return projectOptions;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import graphql.language.Document;
+import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the parsed GraphQL query documents of a client project, keyed by the canonical path of the document file.
+ * Each document is read and parsed at most once, so that the validator and every generator share the same
+ * `Document` and `QueryReader` instances.
+ */
+public class DocumentStore {
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, QueryReader> queryReaders = new HashMap<>();
+
+    /**
+     * Returns the parsed `Document` for a given GraphQL queries file, parsing it on first access.
+     *
+     * @param document                              the document value of the Graphql config file
+     * @return                                      the parsed `Document` instance
+     * @throws IOException                          If an I/O error occurs
+     */
+    public synchronized Document getDocument(String document) throws IOException {
+        String canonicalPath = getCanonicalPath(document);
+        Document parsedDocument = documents.get(canonicalPath);
+        if (parsedDocument == null) {
+            parsedDocument = Utils.getGraphQLQueryDocument(canonicalPath);
+            documents.put(canonicalPath, parsedDocument);
+        }
+        return parsedDocument;
+    }
+
+    /**
+     * Returns the `QueryReader` for a given GraphQL queries file, backed by the shared parsed `Document`.
+     *
+     * @param document                              the document value of the Graphql config file
+     * @return                                      the `QueryReader` instance
+     * @throws IOException                          If an I/O error occurs
+     */
+    public synchronized QueryReader getQueryReader(String document) throws IOException {
+        String canonicalPath = getCanonicalPath(document);
+        QueryReader queryReader = queryReaders.get(canonicalPath);
+        if (queryReader == null) {
+            queryReader = new QueryReader(getDocument(canonicalPath));
+            queryReaders.put(canonicalPath, queryReader);
+        }
+        return queryReader;
+    }
+
+    private String getCanonicalPath(String document) throws IOException {
+        return new File(document).getCanonicalPath();
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import io.ballerina.graphql.generator.client.pojo.Cache;
+import io.ballerina.graphql.generator.client.pojo.Default;
+import io.ballerina.graphql.generator.client.pojo.Extension;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONFIG_TYPES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODULES_PATH;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.PERSISTED_QUERIES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERIES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.TYPES_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.UTILS_FILE_NAME;
+
+/**
+ * This class is used to keep track of the inputs from which the client sources in an output directory were
+ * generated, so that unchanged GraphQL projects are not generated again.
+ * <p>
+ * The manifest is stored in the output directory and records, for each project, the SHA-256 hashes of the schema
+ * SDL, each document, the config extensions, the generation options and the tool version, along with the hashes
+ * of the generated files.
+ * Each generated file depends on a subset of these inputs, e.g. `utils.bal` depends on the extensions only, so a
+ * changed input only regenerates the files depending on it. A generated file which is missing or was modified
+ * after the generation is regenerated as well. Files which are generated only with some options, e.g.
+ * `persisted-queries.json`, are tracked only if the options of the generation produce them.
+ */
+public class GenerationManifest {
+    public static final String MANIFEST_FILE_NAME = ".graphql-manifest.properties";
+    public static final Set<String> GENERATED_FILE_NAMES = Collections.unmodifiableSet(new LinkedHashSet<>(
+            List.of(CLIENT_FILE_NAME, QUERIES_FILE_NAME, UTILS_FILE_NAME, TYPES_FILE_NAME, CONFIG_TYPES_FILE_NAME)));
+    private static final List<String> OPTIONAL_FILE_NAMES = List.of(PERSISTED_QUERIES_FILE_NAME);
+    private static final String SCHEMA_INPUT = "schema";
+    private static final String DOCUMENTS_INPUT = "documents";
+    private static final String EXTENSIONS_INPUT = "extensions";
+    private static final String OPTIONS_INPUT = "options";
+    private static final String TOOL_VERSION_INPUT = "tool-version";
+    private static final String INPUT_KEY_PREFIX = "input.";
+    private static final String DOCUMENT_KEY_PREFIX = INPUT_KEY_PREFIX + "document.";
+    private static final String OUTPUT_KEY_PREFIX = "output.";
+    private static final String PROJECT_SEPARATOR = "/";
+    private static final String UNKNOWN_TOOL_VERSION = "unknown";
+    private static final String SHA_256 = "SHA-256";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 8192;
+    private static final Map<String, Set<String>> FILE_DEPENDENCIES = Map.of(
+            CLIENT_FILE_NAME, Set.of(SCHEMA_INPUT, DOCUMENTS_INPUT, EXTENSIONS_INPUT, OPTIONS_INPUT),
+            QUERIES_FILE_NAME, Set.of(DOCUMENTS_INPUT, OPTIONS_INPUT),
+            TYPES_FILE_NAME, Set.of(SCHEMA_INPUT, DOCUMENTS_INPUT, OPTIONS_INPUT),
+            UTILS_FILE_NAME, Set.of(EXTENSIONS_INPUT, OPTIONS_INPUT),
+            CONFIG_TYPES_FILE_NAME, Set.of(EXTENSIONS_INPUT),
+            PERSISTED_QUERIES_FILE_NAME, Set.of(DOCUMENTS_INPUT, OPTIONS_INPUT));
+
+    private final Path outputPath;
+    private final Map<String, Map<String, String>> projectEntries;
+    private boolean modified;
+
+    private GenerationManifest(Path outputPath, Map<String, Map<String, String>> projectEntries) {
+        this.outputPath = outputPath;
+        this.projectEntries = projectEntries;
+    }
+
+    /**
+     * Reads the generation manifest of the given output directory.
+     *
+     * @param outputPath            the target output path of the code generation
+     * @return                      the generation manifest, which is empty if the output directory has none
+     * @throws IOException          If an I/O error occurs
+     */
+    public static GenerationManifest read(Path outputPath) throws IOException {
+        Map<String, Map<String, String>> projectEntries = new HashMap<>();
+        Path manifestFile = outputPath.resolve(MANIFEST_FILE_NAME);
+        if (Files.exists(manifestFile)) {
+            Properties manifest = new Properties();
+            try (InputStream inputStream = Files.newInputStream(manifestFile)) {
+                manifest.load(inputStream);
+            } catch (IllegalArgumentException e) {
+                // A malformed manifest is ignored, which regenerates all the projects.
+                return new GenerationManifest(outputPath, projectEntries);
+            }
+            for (String key : manifest.stringPropertyNames()) {
+                int separatorIndex = key.indexOf(PROJECT_SEPARATOR);
+                if (separatorIndex > 0) {
+                    projectEntries.computeIfAbsent(key.substring(0, separatorIndex), name -> new HashMap<>())
+                            .put(key.substring(separatorIndex + 1), manifest.getProperty(key));
+                }
+            }
+        }
+        return new GenerationManifest(outputPath, projectEntries);
+    }
+
+    /**
+     * Gets the names of the files generated for a GraphQL project with the given options.
+     *
+     * @param options               the options of the client generation
+     * @return                      the names of the generated files
+     */
+    public static Set<String> getGeneratedFileNames(ClientGenerationOptions options) {
+        if (!options.isPersistedQueries()) {
+            return GENERATED_FILE_NAMES;
+        }
+        Set<String> generatedFileNames = new LinkedHashSet<>(GENERATED_FILE_NAMES);
+        generatedFileNames.add(PERSISTED_QUERIES_FILE_NAME);
+        return Collections.unmodifiableSet(generatedFileNames);
+    }
+
+    /**
+     * Computes the hashes of the inputs of a given GraphQL project.
+     *
+     * @param project               the instance of the Graphql client project
+     * @param schemaHash            the SHA-256 hash of the schema SDL of the project
+     * @return                      the input hashes, keyed by the manifest entry names
+     * @throws IOException          If an I/O error occurs
+     */
+    public static Map<String, String> getInputHashes(GraphqlClientProject project, String schemaHash)
+            throws IOException {
+        return getInputHashes(project, schemaHash, new ClientGenerationOptions());
+    }
+
+    /**
+     * Computes the hashes of the inputs of a given GraphQL project generated with the given options.
+     *
+     * @param project               the instance of the Graphql client project
+     * @param schemaHash            the SHA-256 hash of the schema SDL of the project
+     * @param options               the options of the client generation
+     * @return                      the input hashes, keyed by the manifest entry names
+     * @throws IOException          If an I/O error occurs
+     */
+    public static Map<String, String> getInputHashes(GraphqlClientProject project, String schemaHash,
+                                                     ClientGenerationOptions options) throws IOException {
+        Map<String, String> inputHashes = new LinkedHashMap<>();
+        inputHashes.put(INPUT_KEY_PREFIX + TOOL_VERSION_INPUT, getToolVersion());
+        inputHashes.put(INPUT_KEY_PREFIX + SCHEMA_INPUT, schemaHash);
+        inputHashes.put(INPUT_KEY_PREFIX + EXTENSIONS_INPUT, getExtensionsHash(project.getExtensions()));
+        inputHashes.put(INPUT_KEY_PREFIX + OPTIONS_INPUT, getOptionsHash(options));
+        if (project.getDocuments() != null) {
+            for (String document : project.getDocuments()) {
+                Path documentPath = Paths.get(new File(document).getCanonicalPath());
+                try (InputStream inputStream = Files.newInputStream(documentPath)) {
+                    inputHashes.put(DOCUMENT_KEY_PREFIX + documentPath, getHash(inputStream));
+                }
+            }
+        }
+        return inputHashes;
+    }
+
+    /**
+     * Gets the generated files of a given GraphQL project which are outdated with respect to the given inputs.
+     *
+     * @param project               the instance of the Graphql client project
+     * @param inputHashes           the current input hashes of the project
+     * @return                      the names of the files to be generated, empty if the project is up to date
+     * @throws IOException          If an I/O error occurs
+     */
+    public Set<String> getOutdatedFiles(GraphqlClientProject project, Map<String, String> inputHashes)
+            throws IOException {
+        return getOutdatedFiles(project, inputHashes, GENERATED_FILE_NAMES);
+    }
+
+    /**
+     * Gets the given generated files of a given GraphQL project which are outdated with respect to the given inputs.
+     *
+     * @param project               the instance of the Graphql client project
+     * @param inputHashes           the current input hashes of the project
+     * @param generatedFileNames    the names of the files generated for the project, as returned by
+     *                              {@link #getGeneratedFileNames(ClientGenerationOptions)}
+     * @return                      the names of the files to be generated, empty if the project is up to date
+     * @throws IOException          If an I/O error occurs
+     */
+    public synchronized Set<String> getOutdatedFiles(GraphqlClientProject project, Map<String, String> inputHashes,
+                                                     Set<String> generatedFileNames) throws IOException {
+        Map<String, String> entries = projectEntries.get(project.getName());
+        if (entries == null || !inputHashes.get(INPUT_KEY_PREFIX + TOOL_VERSION_INPUT)
+                .equals(entries.get(INPUT_KEY_PREFIX + TOOL_VERSION_INPUT))) {
+            return generatedFileNames;
+        }
+        Set<String> changedInputs = getChangedInputs(entries, inputHashes);
+        Set<String> outdatedFiles = new LinkedHashSet<>();
+        for (String fileName : generatedFileNames) {
+            if (!Collections.disjoint(FILE_DEPENDENCIES.get(fileName), changedInputs)) {
+                outdatedFiles.add(fileName);
+                continue;
+            }
+            Path filePath = getGeneratedFilePath(project.getName(), fileName);
+            String fileHash = entries.get(OUTPUT_KEY_PREFIX + fileName);
+            if (fileHash == null || !Files.exists(filePath) || !fileHash.equals(getFileHash(filePath))) {
+                outdatedFiles.add(fileName);
+            }
+        }
+        return outdatedFiles;
+    }
+
+    /**
+     * Records the inputs of a given GraphQL project along with the hashes of the files generated from them.
+     *
+     * @param project               the instance of the Graphql client project
+     * @param inputHashes           the input hashes of the project used for the generation
+     * @throws IOException          If an I/O error occurs
+     */
+    public synchronized void update(GraphqlClientProject project, Map<String, String> inputHashes)
+            throws IOException {
+        Map<String, String> entries = new HashMap<>(inputHashes);
+        List<String> fileNames = new ArrayList<>(GENERATED_FILE_NAMES);
+        fileNames.addAll(OPTIONAL_FILE_NAMES);
+        for (String fileName : fileNames) {
+            Path filePath = getGeneratedFilePath(project.getName(), fileName);
+            if (Files.exists(filePath)) {
+                entries.put(OUTPUT_KEY_PREFIX + fileName, getFileHash(filePath));
+            }
+        }
+        projectEntries.put(project.getName(), entries);
+        modified = true;
+    }
+
+    /**
+     * Drops the entries of the projects other than the given GraphQL projects generated into the output directory,
+     * i.e. the projects which were removed from the config, renamed or moved to another output directory.
+     *
+     * @param projects              the GraphQL projects of the current generation
+     */
+    public synchronized void retainProjects(Collection<GraphqlClientProject> projects) {
+        Path normalizedOutputPath = outputPath.toAbsolutePath().normalize();
+        Set<String> projectNames = new HashSet<>();
+        for (GraphqlClientProject project : projects) {
+            if (normalizedOutputPath.equals(Paths.get(project.getOutputPath()).toAbsolutePath().normalize())) {
+                projectNames.add(project.getName());
+            }
+        }
+        if (projectEntries.keySet().retainAll(projectNames)) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Writes the manifest into the output directory, if it was updated.
+     *
+     * @throws IOException          If an I/O error occurs
+     */
+    public synchronized void write() throws IOException {
+        if (!modified) {
+            return;
+        }
+        Properties manifest = new Properties();
+        for (Map.Entry<String, Map<String, String>> project : projectEntries.entrySet()) {
+            for (Map.Entry<String, String> entry : project.getValue().entrySet()) {
+                manifest.setProperty(project.getKey() + PROJECT_SEPARATOR + entry.getKey(), entry.getValue());
+            }
+        }
+        Files.createDirectories(outputPath);
+        Path tempFile = Files.createTempFile(outputPath, MANIFEST_FILE_NAME, TEMP_FILE_EXTENSION);
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                manifest.store(outputStream, null);
+            }
+            Files.move(tempFile, outputPath.resolve(MANIFEST_FILE_NAME), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        modified = false;
+    }
+
+    private static Set<String> getChangedInputs(Map<String, String> entries, Map<String, String> inputHashes) {
+        Set<String> changedInputs = new LinkedHashSet<>();
+        for (String input : List.of(SCHEMA_INPUT, EXTENSIONS_INPUT, OPTIONS_INPUT)) {
+            String key = INPUT_KEY_PREFIX + input;
+            if (!inputHashes.get(key).equals(entries.get(key))) {
+                changedInputs.add(input);
+            }
+        }
+        if (!getDocumentHashes(entries).equals(getDocumentHashes(inputHashes))) {
+            changedInputs.add(DOCUMENTS_INPUT);
+        }
+        return changedInputs;
+    }
+
+    private static Map<String, String> getDocumentHashes(Map<String, String> entries) {
+        Map<String, String> documentHashes = new HashMap<>();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (entry.getKey().startsWith(DOCUMENT_KEY_PREFIX)) {
+                documentHashes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return documentHashes;
+    }
+
+    private Path getGeneratedFilePath(String projectName, String fileName) {
+        if (ROOT_PROJECT_NAME.equals(projectName)) {
+            return outputPath.resolve(fileName);
+        }
+        return Paths.get(outputPath + MODULES_PATH + projectName, fileName);
+    }
+
+    /**
+     * Gets the version of the tool, so that a tool upgrade regenerates all the projects.
+     */
+    private static String getToolVersion() {
+        String toolVersion = GenerationManifest.class.getPackage().getImplementationVersion();
+        return toolVersion != null ? toolVersion : UNKNOWN_TOOL_VERSION;
+    }
+
+    /**
+     * Gets the hash of the endpoint URL and headers of the extensions, which determine the authentication config
+     * of the generated sources, along with the query method, the binding of the response extensions and the
+     * response cache. Only the hash is stored, so that the header values are not written to the disk.
+     */
+    private static String getExtensionsHash(Extension extensions) {
+        StringBuilder fingerprint = new StringBuilder();
+        if (extensions != null && extensions.getEndpoints() != null &&
+                extensions.getEndpoints().getDefaultName() != null) {
+            Default defaultEndpoint = extensions.getEndpoints().getDefaultName();
+            fingerprint.append(defaultEndpoint.getUrl());
+            if (defaultEndpoint.getHeaders() != null) {
+                for (Map.Entry<String, String> header : new TreeMap<>(defaultEndpoint.getHeaders()).entrySet()) {
+                    fingerprint.append('\n').append(header.getKey()).append(':').append(header.getValue());
+                }
+            }
+        }
+        if (extensions != null && extensions.getQueryMethod() != null) {
+            fingerprint.append("\nqueryMethod=").append(extensions.getQueryMethod().toUpperCase(Locale.ROOT));
+        }
+        if (extensions != null && extensions.isResponseExtensions()) {
+            fingerprint.append("\nresponseExtensions=true");
+        }
+        if (extensions != null && extensions.getCache() != null) {
+            Cache cache = extensions.getCache();
+            fingerprint.append("\ncache=").append(cache.getMaxEntries()).append(';').append(cache.getDefaultTtl());
+            if (cache.getOperations() != null) {
+                fingerprint.append(';').append(new TreeMap<>(cache.getOperations()));
+            }
+        }
+        return HexFormat.of().formatHex(getMessageDigest().digest(
+                fingerprint.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Gets the hash of the generation options which change the content of the generated sources.
+     */
+    private static String getOptionsHash(ClientGenerationOptions options) {
+        String fingerprint = "allInputTypes=" + options.isAllInputTypes() +
+                ";persistedQueries=" + options.isPersistedQueries() +
+                ";batchOperations=" + options.isBatchOperations() +
+                ";coalesceRequests=" + options.isCoalesceRequests();
+        return HexFormat.of().formatHex(getMessageDigest().digest(fingerprint.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String getFileHash(Path filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return getHash(inputStream);
+        }
+    }
+
+    private static String getHash(InputStream inputStream) throws IOException {
+        MessageDigest messageDigest = getMessageDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            messageDigest.update(buffer, 0, count);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
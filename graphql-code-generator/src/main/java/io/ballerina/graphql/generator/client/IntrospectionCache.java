@@ -0,0 +1,349 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is used to cache the introspection results of GraphQL APIs on the local disk.
+ * <p>
+ * Each introspection result is stored once in a file named by the SHA-256 hash of its content, together with the
+ * SDL derived from it. An index entry, named by the fingerprint of the endpoint URL and the request headers, points
+ * to the content file and records when it was fetched along with the HTTP validators (`ETag`, `Last-Modified`)
+ * returned by the GraphQL API.
+ */
+public class IntrospectionCache {
+    private static final String SHA_256 = "SHA-256";
+    private static final String INDEX_FILE_EXTENSION = ".properties";
+    private static final String CONTENT_FILE_EXTENSION = ".json";
+    private static final String SDL_FILE_EXTENSION = ".graphql";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String CONTENT_HASH_KEY = "contentHash";
+    private static final String FETCHED_AT_KEY = "fetchedAt";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path cacheDirectory;
+    private final Duration timeToLive;
+    private final boolean offline;
+    private final AtomicInteger hitCount = new AtomicInteger();
+    private final AtomicInteger missCount = new AtomicInteger();
+    private final AtomicInteger revalidationCount = new AtomicInteger();
+
+    /**
+     * Constructs an introspection cache.
+     *
+     * @param cacheDirectory        the directory in which the introspection results are stored
+     * @param timeToLive            the duration for which a cached introspection result is reused
+     * @param offline               whether the cached introspection results are used regardless of their age,
+     *                              without contacting the GraphQL API
+     */
+    public IntrospectionCache(Path cacheDirectory, Duration timeToLive, boolean offline) {
+        this.cacheDirectory = cacheDirectory;
+        this.timeToLive = timeToLive;
+        this.offline = offline;
+    }
+
+    /**
+     * Gets the default directory of the introspection cache, located in the user home directory.
+     *
+     * @return                      the default cache directory
+     */
+    public static Path getDefaultCacheDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "graphql", "introspection-cache");
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    public int getMissCount() {
+        return missCount.get();
+    }
+
+    public int getRevalidationCount() {
+        return revalidationCount.get();
+    }
+
+    void recordHit() {
+        hitCount.incrementAndGet();
+    }
+
+    void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    void recordRevalidation() {
+        revalidationCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the cache key of the introspection result of a GraphQL API. The key is a fingerprint of the endpoint URL
+     * and the request headers, so that the header values (e.g. access tokens) are not stored on the disk.
+     *
+     * @param endpoint              the GraphQL API endpoint
+     * @param headers               the headers sent with the introspection request, can be {@code null}
+     * @return                      the cache key
+     */
+    public String getKey(String endpoint, Map<String, String> headers) {
+        StringBuilder fingerprint = new StringBuilder(endpoint);
+        if (headers != null) {
+            for (Map.Entry<String, String> header : new TreeMap<>(headers).entrySet()) {
+                fingerprint.append('\n').append(header.getKey()).append(':').append(header.getValue());
+            }
+        }
+        return getHash(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the cache entry for the given key, regardless of its age.
+     *
+     * @param key                   the cache key
+     * @return                      the cache entry, {@code null} if there is no cached introspection result
+     * @throws IOException          If an I/O error occurs
+     */
+    public Entry getEntry(String key) throws IOException {
+        Path indexFile = cacheDirectory.resolve(key + INDEX_FILE_EXTENSION);
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        Properties index = new Properties();
+        try (InputStream inputStream = Files.newInputStream(indexFile)) {
+            index.load(inputStream);
+        }
+        String contentHash = index.getProperty(CONTENT_HASH_KEY);
+        String fetchedAt = index.getProperty(FETCHED_AT_KEY);
+        if (contentHash == null || fetchedAt == null ||
+                !Files.exists(cacheDirectory.resolve(contentHash + CONTENT_FILE_EXTENSION))) {
+            return null;
+        }
+        return new Entry(key, contentHash, Instant.ofEpochMilli(Long.parseLong(fetchedAt)),
+                index.getProperty(ETAG_KEY), index.getProperty(LAST_MODIFIED_KEY));
+    }
+
+    /**
+     * Checks whether the given cache entry can be used without contacting the GraphQL API.
+     *
+     * @param entry                 the cache entry
+     * @return                      {@code true} if the entry is within the TTL or the cache is offline
+     */
+    public boolean isUsable(Entry entry) {
+        return offline || !entry.getFetchedAt().plus(timeToLive).isBefore(Instant.now());
+    }
+
+    /**
+     * Opens the introspection result of the given cache entry for reading.
+     *
+     * @param entry                 the cache entry
+     * @return                      the input stream of the introspection result returned by the GraphQL API
+     * @throws IOException          If an I/O error occurs
+     */
+    public InputStream getContentStream(Entry entry) throws IOException {
+        return Files.newInputStream(cacheDirectory.resolve(entry.getContentHash() + CONTENT_FILE_EXTENSION));
+    }
+
+    /**
+     * Reads the SDL derived from the introspection result of the given cache entry.
+     *
+     * @param entry                 the cache entry
+     * @return                      the SDL, {@code null} if it has not been stored yet
+     * @throws IOException          If an I/O error occurs
+     */
+    public String getSdl(Entry entry) throws IOException {
+        Path sdlFile = cacheDirectory.resolve(entry.getContentHash() + SDL_FILE_EXTENSION);
+        if (!Files.exists(sdlFile)) {
+            return null;
+        }
+        return Files.readString(sdlFile, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stores the SDL derived from the introspection result of the given cache entry.
+     *
+     * @param entry                 the cache entry
+     * @param sdl                   the SDL derived from the introspection result
+     * @throws IOException          If an I/O error occurs
+     */
+    public void storeSdl(Entry entry, String sdl) throws IOException {
+        writeAtomically(cacheDirectory.resolve(entry.getContentHash() + SDL_FILE_EXTENSION),
+                sdl.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a temporary file in the cache directory to download an introspection result into, before it is
+     * stored with {@link #store(String, Path, String, String)}.
+     *
+     * @return                      the path of the temporary file
+     * @throws IOException          If an I/O error occurs
+     */
+    public Path createTempContentFile() throws IOException {
+        Files.createDirectories(cacheDirectory);
+        return Files.createTempFile(cacheDirectory, null, TEMP_FILE_EXTENSION);
+    }
+
+    /**
+     * Stores the introspection result downloaded into the given temporary file for the given key. The temporary
+     * file is moved into the cache, or deleted if the same introspection result is already cached.
+     *
+     * @param key                   the cache key
+     * @param contentFile           the temporary file holding the introspection result returned by the GraphQL API
+     * @param etag                  the `ETag` header of the introspection response, can be {@code null}
+     * @param lastModified          the `Last-Modified` header of the introspection response, can be {@code null}
+     * @return                      the stored cache entry
+     * @throws IOException          If an I/O error occurs
+     */
+    public Entry store(String key, Path contentFile, String etag, String lastModified) throws IOException {
+        String contentHash;
+        try (InputStream inputStream = Files.newInputStream(contentFile)) {
+            contentHash = getHash(inputStream);
+        }
+        Path targetFile = cacheDirectory.resolve(contentHash + CONTENT_FILE_EXTENSION);
+        if (Files.exists(targetFile)) {
+            Files.delete(contentFile);
+        } else {
+            moveAtomically(contentFile, targetFile);
+        }
+        Entry entry = new Entry(key, contentHash, Instant.now(), etag, lastModified);
+        writeIndex(entry);
+        return entry;
+    }
+
+    /**
+     * Marks the given cache entry as fetched now, after the GraphQL API confirmed that it has not been modified.
+     *
+     * @param entry                 the cache entry
+     * @return                      the refreshed cache entry
+     * @throws IOException          If an I/O error occurs
+     */
+    public Entry refresh(Entry entry) throws IOException {
+        Entry refreshedEntry = new Entry(entry.getKey(), entry.getContentHash(), Instant.now(), entry.getEtag(),
+                entry.getLastModified());
+        writeIndex(refreshedEntry);
+        return refreshedEntry;
+    }
+
+    private void writeIndex(Entry entry) throws IOException {
+        Properties index = new Properties();
+        index.setProperty(CONTENT_HASH_KEY, entry.getContentHash());
+        index.setProperty(FETCHED_AT_KEY, String.valueOf(entry.getFetchedAt().toEpochMilli()));
+        if (entry.getEtag() != null) {
+            index.setProperty(ETAG_KEY, entry.getEtag());
+        }
+        if (entry.getLastModified() != null) {
+            index.setProperty(LAST_MODIFIED_KEY, entry.getLastModified());
+        }
+        Path tempFile = Files.createTempFile(cacheDirectory, entry.getKey(), TEMP_FILE_EXTENSION);
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            index.store(outputStream, null);
+        }
+        moveAtomically(tempFile, cacheDirectory.resolve(entry.getKey() + INDEX_FILE_EXTENSION));
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tempFile = Files.createTempFile(cacheDirectory, target.getFileName().toString(), TEMP_FILE_EXTENSION);
+        Files.write(tempFile, content);
+        moveAtomically(tempFile, target);
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String getHash(byte[] content) {
+        return HexFormat.of().formatHex(getMessageDigest().digest(content));
+    }
+
+    private static String getHash(InputStream inputStream) throws IOException {
+        MessageDigest messageDigest = getMessageDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            messageDigest.update(buffer, 0, count);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Represents a cached introspection result of a GraphQL API.
+     */
+    public static class Entry {
+        private final String key;
+        private final String contentHash;
+        private final Instant fetchedAt;
+        private final String etag;
+        private final String lastModified;
+
+        private Entry(String key, String contentHash, Instant fetchedAt, String etag, String lastModified) {
+            this.key = key;
+            this.contentHash = contentHash;
+            this.fetchedAt = fetchedAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        public Instant getFetchedAt() {
+            return fetchedAt;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.net.ssl.SSLSession;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ACCEPT_ENCODING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONTENT_ENCODING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.DEFLATE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GZIP;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+
+/**
+ * This class is used to send the introspection requests of a tool run over a single, long-lived HTTP client.
+ * <p>
+ * The underlying client prefers HTTP/2 for HTTPS endpoints and keeps the connections alive, so that projects pointing
+ * at the same GraphQL API reuse them instead of paying a new TCP and TLS handshake each. The responses are requested
+ * with gzip or deflate compression and decoded transparently, and the number of introspection requests in flight at
+ * once can be limited.
+ */
+public class IntrospectionHttpClient {
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(120);
+    private static final String HTTPS_SCHEME = "https";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final Semaphore concurrencyLimit;
+
+    /**
+     * Constructs an HTTP client for introspection requests with the default timeouts and no concurrency limit.
+     */
+    public IntrospectionHttpClient() {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, 0);
+    }
+
+    /**
+     * Constructs an HTTP client for introspection requests.
+     *
+     * @param connectTimeout        the timeout for establishing a connection to a GraphQL API
+     * @param requestTimeout        the timeout for receiving the response headers of an introspection request
+     * @param maxConcurrentRequests the maximum number of introspection requests in flight at once, {@code 0} for
+     *                              no limit
+     */
+    public IntrospectionHttpClient(Duration connectTimeout, Duration requestTimeout, int maxConcurrentRequests) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.concurrencyLimit = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests, true) : null;
+    }
+
+    /**
+     * Sends the given introspection request. The concurrency permit taken for the request is held until the
+     * returned response body is closed.
+     *
+     * @param requestBuilder        the builder of the introspection request
+     * @return                      the HTTP response with the decompressed response body
+     * @throws IOException          If an I/O error occurs or the request times out
+     * @throws InterruptedException If the thread is interrupted while waiting for a permit or the response
+     */
+    public HttpResponse<InputStream> send(HttpRequest.Builder requestBuilder)
+            throws IOException, InterruptedException {
+        HttpRequest request = requestBuilder
+                .timeout(requestTimeout)
+                .header(ACCEPT_ENCODING, GZIP + ", " + DEFLATE)
+                .build();
+        if (!HTTPS_SCHEME.equalsIgnoreCase(request.uri().getScheme())) {
+            // Avoid the cleartext HTTP/2 upgrade, which is not supported by many servers for requests with a body.
+            request = HttpRequest.newBuilder(request, (name, value) -> true)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+        }
+        if (concurrencyLimit != null) {
+            concurrencyLimit.acquire();
+        }
+        InputStream responseBody = null;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            responseBody = new PermitReleasingInputStream(response.body());
+            if (response.statusCode() == HTTP_NOT_MODIFIED) {
+                return new DecodedHttpResponse(response, responseBody);
+            }
+            return new DecodedHttpResponse(response, decode(responseBody, response.headers()));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (responseBody != null) {
+                responseBody.close();
+            } else {
+                releasePermit();
+            }
+            throw e;
+        }
+    }
+
+    private InputStream decode(InputStream responseBody, HttpHeaders headers) throws IOException {
+        String contentEncoding = headers.firstValue(CONTENT_ENCODING).orElse("").trim();
+        if (GZIP.equalsIgnoreCase(contentEncoding)) {
+            return new GZIPInputStream(responseBody, BUFFER_SIZE);
+        } else if (DEFLATE.equalsIgnoreCase(contentEncoding)) {
+            return new InflaterInputStream(responseBody);
+        }
+        return responseBody;
+    }
+
+    private void releasePermit() {
+        if (concurrencyLimit != null) {
+            concurrencyLimit.release();
+        }
+    }
+
+    /**
+     * Releases the concurrency permit of a request once its response body is closed.
+     */
+    private class PermitReleasingInputStream extends FilterInputStream {
+        private boolean closed;
+
+        PermitReleasingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                releasePermit();
+            }
+        }
+    }
+
+    /**
+     * Represents an HTTP response of which the body has been replaced with its decompressed form.
+     */
+    private static class DecodedHttpResponse implements HttpResponse<InputStream> {
+        private final HttpResponse<InputStream> response;
+        private final InputStream body;
+
+        DecodedHttpResponse(HttpResponse<InputStream> response, InputStream body) {
+            this.response = response;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return response.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return response.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return response.headers();
+        }
+
+        @Override
+        public InputStream body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return response.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return response.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return response.version();
+        }
+    }
+}
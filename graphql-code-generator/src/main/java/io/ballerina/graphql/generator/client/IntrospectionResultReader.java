@@ -0,0 +1,371 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.DATA_FIELD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ERROR_FIELD;
+
+/**
+ * This class is used to decode the introspection response of a GraphQL API while it is being read.
+ * <p>
+ * The `data` field of the response is decoded straight into the maps and lists expected by
+ * {@code IntrospectionResultToSchema}, without holding the response body as a string or building an intermediate
+ * JSON object tree. All the other fields are skipped without being decoded. Field names and short string values,
+ * which repeat heavily in introspection results, share a single instance each.
+ */
+public class IntrospectionResultReader {
+    private static final String MESSAGE_FOR_INVALID_INTROSPECTION_RESULT = "Failed to retrieve SDL. The " +
+            "introspection response of the GraphQL API does not contain a valid introspection result.";
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_SHARED_STRING_LENGTH = 64;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final Map<String, String> sharedStrings = new HashMap<>();
+    private final StringBuilder stringBuilder = new StringBuilder();
+    private int position;
+    private int limit;
+
+    private IntrospectionResultReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Decodes the introspection results map from the given introspection response. The stream is read as UTF-8
+     * and is not closed.
+     *
+     * @param inputStream                           the body of the introspection response
+     * @return                                      the introspection results map
+     * @throws IntospectionException                If the response does not contain an introspection result
+     * @throws IOException                          If an I/O error occurs
+     */
+    public static Map<String, Object> read(InputStream inputStream) throws IntospectionException, IOException {
+        return new IntrospectionResultReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))
+                .readIntrospectionResult();
+    }
+
+    private Map<String, Object> readIntrospectionResult() throws IntospectionException, IOException {
+        Map<String, Object> introspectionResult = null;
+        boolean hasErrors = false;
+        try {
+            expect('{');
+            if (!consumeIf('}')) {
+                do {
+                    String name = readName();
+                    if (DATA_FIELD.equals(name) && peek() == '{') {
+                        introspectionResult = readObject();
+                    } else {
+                        hasErrors |= ERROR_FIELD.equals(name);
+                        skipValue();
+                    }
+                } while (consumeIf(','));
+                expect('}');
+            }
+            if (peek() != -1) {
+                throw syntaxError("end of input");
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IntospectionException(MESSAGE_FOR_INVALID_INTROSPECTION_RESULT + "\n" + e.getMessage());
+        }
+        if (hasErrors || introspectionResult == null) {
+            throw new IntospectionException(MESSAGE_FOR_INVALID_INTROSPECTION_RESULT);
+        }
+        return introspectionResult;
+    }
+
+    private Object readValue() throws IOException {
+        switch (peek()) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString(false);
+            case 't':
+                readLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return null;
+            default:
+                return readNumber();
+        }
+    }
+
+    private Map<String, Object> readObject() throws IOException {
+        expect('{');
+        Map<String, Object> object = new LinkedHashMap<>();
+        if (consumeIf('}')) {
+            return object;
+        }
+        do {
+            String name = readName();
+            object.put(name, readValue());
+        } while (consumeIf(','));
+        expect('}');
+        return object;
+    }
+
+    private List<Object> readArray() throws IOException {
+        expect('[');
+        ArrayList<Object> array = new ArrayList<>();
+        if (consumeIf(']')) {
+            return array;
+        }
+        do {
+            array.add(readValue());
+        } while (consumeIf(','));
+        expect(']');
+        array.trimToSize();
+        return array;
+    }
+
+    private String readName() throws IOException {
+        if (peek() != '"') {
+            throw syntaxError("field name");
+        }
+        String name = readString(true);
+        expect(':');
+        return name;
+    }
+
+    private String readString(boolean isName) throws IOException {
+        position++;
+        stringBuilder.setLength(0);
+        while (true) {
+            if (position == limit && !fill()) {
+                throw syntaxError("'\"'");
+            }
+            char character = buffer[position++];
+            if (character == '"') {
+                break;
+            } else if (character == '\\') {
+                stringBuilder.append(readEscapedCharacter());
+            } else {
+                stringBuilder.append(character);
+            }
+        }
+        if (isName || stringBuilder.length() <= MAX_SHARED_STRING_LENGTH) {
+            String value = stringBuilder.toString();
+            String sharedValue = sharedStrings.putIfAbsent(value, value);
+            return sharedValue != null ? sharedValue : value;
+        }
+        return stringBuilder.toString();
+    }
+
+    private char readEscapedCharacter() throws IOException {
+        int character = read();
+        switch (character) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) character;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit == -1) {
+                        throw syntaxError("hexadecimal digit");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw syntaxError("escape sequence");
+        }
+    }
+
+    private Object readNumber() throws IOException {
+        stringBuilder.setLength(0);
+        boolean isDecimal = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                break;
+            }
+            char character = buffer[position];
+            if ((character >= '0' && character <= '9') || character == '-' || character == '+') {
+                stringBuilder.append(character);
+            } else if (character == '.' || character == 'e' || character == 'E') {
+                stringBuilder.append(character);
+                isDecimal = true;
+            } else {
+                break;
+            }
+            position++;
+        }
+        if (stringBuilder.length() == 0) {
+            throw syntaxError("value");
+        }
+        String number = stringBuilder.toString();
+        try {
+            if (isDecimal) {
+                return new BigDecimal(number);
+            }
+            BigInteger value = new BigInteger(number);
+            if (value.bitLength() < Integer.SIZE) {
+                return value.intValue();
+            } else if (value.bitLength() < Long.SIZE) {
+                return value.longValue();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw syntaxError("number");
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw syntaxError("'" + literal + "'");
+            }
+        }
+    }
+
+    /**
+     * Skips the next value without decoding it.
+     */
+    private void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int character = peek();
+            if (character == '"') {
+                skipString();
+            } else if (character == '{' || character == '[') {
+                position++;
+                depth++;
+            } else if (character == '}' || character == ']') {
+                position++;
+                depth--;
+            } else if (character == ',' || character == ':') {
+                position++;
+            } else if (character == -1) {
+                throw syntaxError("value");
+            } else {
+                skipScalar();
+            }
+        } while (depth > 0);
+    }
+
+    private void skipString() throws IOException {
+        position++;
+        while (true) {
+            int character = read();
+            if (character == '"') {
+                return;
+            } else if (character == '\\') {
+                read();
+            } else if (character == -1) {
+                throw syntaxError("'\"'");
+            }
+        }
+    }
+
+    private void skipScalar() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return;
+            }
+            char character = buffer[position];
+            if (character == ',' || character == '}' || character == ']' || Character.isWhitespace(character)) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        if (peek() != expected) {
+            throw syntaxError("'" + expected + "'");
+        }
+        position++;
+    }
+
+    private boolean consumeIf(char expected) throws IOException {
+        if (peek() == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips the whitespace and returns the next character without consuming it.
+     */
+    private int peek() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            char character = buffer[position];
+            if (character != ' ' && character != '\n' && character != '\r' && character != '\t') {
+                return character;
+            }
+            position++;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+
+    private IllegalArgumentException syntaxError(String expected) {
+        return new IllegalArgumentException(String.format("Expected %s in the introspection response.", expected));
+    }
+}
@@ -18,6 +18,12 @@
 
 package io.ballerina.graphql.generator.client;
 
+import graphql.introspection.IntrospectionResultToSchema;
+import graphql.language.AstPrinter;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.parser.ParserEnvironment;
+import graphql.parser.ParserOptions;
 import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Default;
 import io.ballerina.graphql.generator.client.pojo.Endpoints;
@@ -25,33 +31,65 @@ import io.ballerina.graphql.generator.client.pojo.Extension;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.APPLICATION_JSON;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONTENT_TYPE;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.DATA_FIELD;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.ERROR_FIELD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ETAG;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.IF_MODIFIED_SINCE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.IF_NONE_MATCH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INTROSPECTION_QUERY;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.LAST_MODIFIED;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NAME;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
 
 /**
  * This class is used to introspect a GraphQL API.
  */
 public class Introspector {
+    private static final String MESSAGE_FOR_FAILED_INTROSPECTION = "Failed to retrieve SDL. Please provide a valid " +
+            "GraphQL endpoint with relevant headers or a local SDL file path.";
     private static Introspector introspector = null;
+    private IntrospectionHttpClient httpClient = null;
 
-    public static Introspector getInstance() {
+    public static synchronized Introspector getInstance() {
         if (introspector == null) {
             introspector = new Introspector();
         }
         return introspector;
     }
 
+    /**
+     * Gets the HTTP client shared by all the introspection requests, creating one with the default configuration
+     * if none is set.
+     *
+     * @return                                      the HTTP client used for introspection requests
+     */
+    public synchronized IntrospectionHttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = new IntrospectionHttpClient();
+        }
+        return httpClient;
+    }
+
+    /**
+     * Sets the HTTP client shared by all the introspection requests of a tool run.
+     *
+     * @param httpClient                            the HTTP client, {@code null} to use the default configuration
+     */
+    public synchronized void setHttpClient(IntrospectionHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
     /**
      * Returns the introspection results map for a given GraphQL schema URL.
      *
@@ -62,40 +100,202 @@ public class Introspector {
      */
     public Map<String, Object> getIntrospectionResult(String schema, Extension extensions)
             throws IntospectionException {
+        return getIntrospectionResult(schema, extensions, null);
+    }
+
+    /**
+     * Returns the introspection results map for a given GraphQL schema URL, serving it from the given introspection
+     * cache when a usable cached result exists.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, {@code null} if caching is disabled
+     * @return                                      the introspection results map
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     */
+    public Map<String, Object> getIntrospectionResult(String schema, Extension extensions,
+                                                      IntrospectionCache introspectionCache)
+            throws IntospectionException {
+        IntrospectionResponse response = getIntrospectionResponse(schema, extensions, introspectionCache);
+        if (response.getIntrospectionResult() != null) {
+            return response.getIntrospectionResult();
+        }
+        try {
+            return parseCachedIntrospectionResult(introspectionCache, response.getCacheEntry());
+        } catch (IOException e) {
+            throw new IntospectionException(MESSAGE_FOR_FAILED_INTROSPECTION + "\n" + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the GraphQL schema document built from the introspection result of a given GraphQL schema URL.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, {@code null} if caching is disabled
+     * @return                                      the GraphQL schema document
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     */
+    public Document getIntrospectedSchemaDocument(String schema, Extension extensions,
+                                                  IntrospectionCache introspectionCache)
+            throws IntospectionException {
+        String sdl = getIntrospectedSchemaSdl(schema, extensions, introspectionCache);
+        return new Parser().parseDocument(ParserEnvironment.newParserEnvironment()
+                .document(sdl)
+                .parserOptions(ParserOptions.getDefaultSdlParserOptions())
+                .build());
+    }
+
+    /**
+     * Returns the GraphQL schema (SDL) derived from the introspection result of a given GraphQL schema URL.
+     * When the introspection result is served from the given introspection cache, the SDL derived from it in a
+     * previous run is returned instead of decoding and converting the introspection result again.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, {@code null} if caching is disabled
+     * @return                                      the GraphQL schema (SDL)
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     */
+    public String getIntrospectedSchemaSdl(String schema, Extension extensions,
+                                           IntrospectionCache introspectionCache)
+            throws IntospectionException {
+        IntrospectionResponse response = getIntrospectionResponse(schema, extensions, introspectionCache);
+        IntrospectionCache.Entry cacheEntry = response.getCacheEntry();
+        try {
+            Map<String, Object> introspectionResult = response.getIntrospectionResult();
+            if (introspectionResult == null) {
+                String sdl = introspectionCache.getSdl(cacheEntry);
+                if (sdl != null) {
+                    return sdl;
+                }
+                introspectionResult = parseCachedIntrospectionResult(introspectionCache, cacheEntry);
+            }
+            String sdl = AstPrinter.printAst(
+                    new IntrospectionResultToSchema().createSchemaDefinition(introspectionResult));
+            if (cacheEntry != null) {
+                introspectionCache.storeSdl(cacheEntry, sdl);
+            }
+            return sdl;
+        } catch (IOException e) {
+            throw new IntospectionException(MESSAGE_FOR_FAILED_INTROSPECTION + "\n" + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the introspection response for a given GraphQL schema URL. A usable cached introspection result is
+     * returned without contacting the GraphQL API. A stale one is revalidated with a conditional request using the
+     * validators stored with it, and reused if the GraphQL API responds with `304 Not Modified`.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the introspection cache, {@code null} if caching is disabled
+     * @return                                      the introspection response
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     */
+    private IntrospectionResponse getIntrospectionResponse(String schema, Extension extensions,
+                                                           IntrospectionCache introspectionCache)
+            throws IntospectionException {
         try {
-            HttpClient httpClient = HttpClient.newHttpClient();
-            HttpRequest httpRequest;
+            String cacheKey = null;
+            IntrospectionCache.Entry cacheEntry = null;
+            if (introspectionCache != null) {
+                cacheKey = introspectionCache.getKey(schema, getHeaders(extensions));
+                cacheEntry = introspectionCache.getEntry(cacheKey);
+                if (cacheEntry != null && introspectionCache.isUsable(cacheEntry)) {
+                    introspectionCache.recordHit();
+                    return new IntrospectionResponse(null, cacheEntry);
+                }
+                if (introspectionCache.isOffline()) {
+                    introspectionCache.recordMiss();
+                    throw new IntospectionException(String.format("Failed to retrieve SDL. No cached " +
+                            "introspection result is available for the GraphQL endpoint \"%s\" in offline mode.",
+                            schema));
+                }
+            }
+
+            HttpRequest.Builder httpRequestBuilder;
             if (extensions != null) {
-                httpRequest = createHttpRequest(schema, extensions);
+                httpRequestBuilder = createHttpRequestBuilder(schema, extensions);
             } else {
-                httpRequest = createHttpRequest(schema);
+                httpRequestBuilder = createHttpRequestBuilder(schema);
+            }
+            if (cacheEntry != null) {
+                addValidators(httpRequestBuilder, cacheEntry);
             }
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() == 200) {
-                JSONObject introspectionResult = new JSONObject(response.body());
-                if (introspectionResult.has(ERROR_FIELD) || !introspectionResult.has(DATA_FIELD)) {
-                    throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
-                            "with relevant headers or a local SDL file path.");
+            HttpResponse<InputStream> response = getHttpClient().send(httpRequestBuilder);
+            try (InputStream responseBody = response.body()) {
+                if (response.statusCode() == HTTP_NOT_MODIFIED && cacheEntry != null) {
+                    introspectionCache.recordRevalidation();
+                    return new IntrospectionResponse(null, introspectionCache.refresh(cacheEntry));
+                } else if (response.statusCode() != HTTP_OK) {
+                    throw new IntospectionException(MESSAGE_FOR_FAILED_INTROSPECTION);
+                } else if (introspectionCache == null) {
+                    return new IntrospectionResponse(parseIntrospectionResult(responseBody), null);
+                }
+                Path contentFile = introspectionCache.createTempContentFile();
+                try {
+                    Files.copy(responseBody, contentFile, StandardCopyOption.REPLACE_EXISTING);
+                    Map<String, Object> introspectionResult;
+                    try (InputStream inputStream = Files.newInputStream(contentFile)) {
+                        introspectionResult = parseIntrospectionResult(inputStream);
+                    }
+                    introspectionCache.recordMiss();
+                    cacheEntry = introspectionCache.store(cacheKey, contentFile,
+                            response.headers().firstValue(ETAG).orElse(null),
+                            response.headers().firstValue(LAST_MODIFIED).orElse(null));
+                    return new IntrospectionResponse(introspectionResult, cacheEntry);
+                } finally {
+                    Files.deleteIfExists(contentFile);
                 }
-                return ((JSONObject) introspectionResult.get("data")).toMap();
-            } else {
-                throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
-                        "with relevant headers or a local SDL file path.");
             }
         } catch (InterruptedException | IOException e) {
-            throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL " +
-                    "endpoint with relevant headers or a local SDL file path." +
+            throw new IntospectionException(MESSAGE_FOR_FAILED_INTROSPECTION +
                     (e.getMessage() != null ? "\n" + e.getMessage() : ""));
         }
     }
 
     /**
-     * Creates the HTTP request object with the GraphQL payload & headers attached to it.
+     * Parses the introspection response of a GraphQL API into the introspection results map, decoding it while it
+     * is being read.
      *
-     * @param endpoint         the Graphql API endpoint
-     * @return                 the HTTP request object
+     * @param responseBody                          the body of the introspection response
+     * @return                                      the introspection results map
+     * @throws IntospectionException                If the response does not contain an introspection result
+     * @throws IOException                          If an I/O error occurs
+     */
+    private Map<String, Object> parseIntrospectionResult(InputStream responseBody)
+            throws IntospectionException, IOException {
+        return IntrospectionResultReader.read(responseBody);
+    }
+
+    /**
+     * Parses the introspection result held in the given introspection cache entry.
+     *
+     * @param introspectionCache                    the introspection cache
+     * @param cacheEntry                            the cache entry
+     * @return                                      the introspection results map
+     * @throws IntospectionException                If the cached content does not contain an introspection result
+     * @throws IOException                          If an I/O error occurs
+     */
+    private Map<String, Object> parseCachedIntrospectionResult(IntrospectionCache introspectionCache,
+                                                              IntrospectionCache.Entry cacheEntry)
+            throws IntospectionException, IOException {
+        try (InputStream inputStream = introspectionCache.getContentStream(cacheEntry)) {
+            return parseIntrospectionResult(inputStream);
+        }
+    }
+
+    /**
+     * Gets the headers configured for the default endpoint in the extensions of the Graphql config file.
+     *
+     * @param extensions       the extensions value of the Graphql config file
+     * @return                 the headers map, {@code null} if no headers are configured
      */
-    private HttpRequest createHttpRequest(String endpoint, Extension extensions) {
+    private Map<String, String> getHeaders(Extension extensions) {
+        if (extensions == null) {
+            return null;
+        }
         Map<String, String> headers = null;
         Endpoints endpoints = extensions.getEndpoints();
         if (endpoints != null) {
@@ -104,38 +304,52 @@ public class Introspector {
                 headers = defaultName.getHeaders();
             }
         }
-        String graphqlPayload = getRequestPayload();
-        HttpRequest request;
+        return headers;
+    }
+
+    /**
+     * Creates the HTTP request builder with the GraphQL payload & headers attached to it.
+     *
+     * @param endpoint         the Graphql API endpoint
+     * @param extensions       the extensions value of the Graphql config file
+     * @return                 the HTTP request builder
+     */
+    private HttpRequest.Builder createHttpRequestBuilder(String endpoint, Extension extensions) {
+        Map<String, String> headers = getHeaders(extensions);
+        HttpRequest.Builder requestBuilder = createHttpRequestBuilder(endpoint);
         if (headers != null) {
-            request = addHeaders(HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .headers(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8)), headers)
-                    .build();
-        } else {
-            request = HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .headers(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8))
-                    .build();
+            addHeaders(requestBuilder, headers);
         }
-        return request;
+        return requestBuilder;
     }
 
     /**
-     * Creates the HTTP request object with the GraphQL payload attached to it.
+     * Creates the HTTP request builder with the GraphQL payload attached to it.
      *
      * @param endpoint         the Graphql API endpoint
-     * @return                 the HTTP request object
+     * @return                 the HTTP request builder
      */
-    private HttpRequest createHttpRequest(String endpoint) {
+    private HttpRequest.Builder createHttpRequestBuilder(String endpoint) {
         String graphqlPayload = getRequestPayload();
-        HttpRequest request = HttpRequest.newBuilder()
+        return HttpRequest.newBuilder()
                 .uri(URI.create(endpoint))
                 .headers(CONTENT_TYPE, APPLICATION_JSON)
-                .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8))
-                .build();
-        return request;
+                .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Attaches the validators of a cached introspection result to the HTTP request, making it conditional.
+     *
+     * @param builder          the builder of HTTP requests
+     * @param cacheEntry       the cached introspection result
+     */
+    private void addValidators(HttpRequest.Builder builder, IntrospectionCache.Entry cacheEntry) {
+        if (cacheEntry.getEtag() != null) {
+            builder.header(IF_NONE_MATCH, cacheEntry.getEtag());
+        }
+        if (cacheEntry.getLastModified() != null) {
+            builder.header(IF_MODIFIED_SINCE, cacheEntry.getLastModified());
+        }
     }
 
     /**
@@ -161,4 +375,26 @@ public class Introspector {
         }
         return builder;
     }
+
+    /**
+     * Represents the introspection result of a GraphQL API, either decoded from a fresh response or held in the
+     * introspection cache.
+     */
+    private static class IntrospectionResponse {
+        private final Map<String, Object> introspectionResult;
+        private final IntrospectionCache.Entry cacheEntry;
+
+        IntrospectionResponse(Map<String, Object> introspectionResult, IntrospectionCache.Entry cacheEntry) {
+            this.introspectionResult = introspectionResult;
+            this.cacheEntry = cacheEntry;
+        }
+
+        Map<String, Object> getIntrospectionResult() {
+            return introspectionResult;
+        }
+
+        IntrospectionCache.Entry getCacheEntry() {
+            return cacheEntry;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+/**
+ * Represents the size of the query document sent by a generated client operation, along with the size it would have
+ * if all the fragments of the operation's document file were embedded.
+ */
+public class OperationQuerySize {
+    private final String projectName;
+    private final String operationName;
+    private final int size;
+    private final int sizeWithAllFragments;
+
+    public OperationQuerySize(String projectName, String operationName, int size, int sizeWithAllFragments) {
+        this.projectName = projectName;
+        this.operationName = operationName;
+        this.size = size;
+        this.sizeWithAllFragments = sizeWithAllFragments;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * Gets the size of the query document in bytes, embedding only the fragments used by the operation.
+     *
+     * @return                      the size in bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the size of the query document in bytes, embedding all the fragments of the document file.
+     *
+     * @return                      the size in bytes
+     */
+    public int getSizeWithAllFragments() {
+        return sizeWithAllFragments;
+    }
+}
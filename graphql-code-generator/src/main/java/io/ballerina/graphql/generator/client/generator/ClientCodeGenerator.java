@@ -22,7 +22,11 @@ import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.generator.CodeGenerator;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.GraphqlProject;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.DocumentStore;
+import io.ballerina.graphql.generator.client.GenerationManifest;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.OperationQuerySize;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
@@ -32,26 +36,75 @@ import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGener
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientTypesGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ConfigTypesGenerator;
+import io.ballerina.graphql.generator.client.generator.ballerina.QueriesGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.UtilsGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.PersistedQueriesGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import io.ballerina.graphql.generator.utils.SrcFilePojo;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Generates Ballerina client code.
  */
 public class ClientCodeGenerator extends CodeGenerator {
+    private ClientGenerationOptions generationOptions = new ClientGenerationOptions();
+    private boolean querySizesRecorded = false;
+    private final List<OperationQuerySize> querySizes = Collections.synchronizedList(new ArrayList<>());
+
+    public ClientGenerationOptions getGenerationOptions() {
+        return generationOptions;
+    }
+
+    public void setGenerationOptions(ClientGenerationOptions generationOptions) {
+        this.generationOptions = generationOptions;
+    }
+
+    /**
+     * Records the query sizes of the operations of the generated clients, which are returned by
+     * {@link #getQuerySizes()}.
+     */
+    public void enableQuerySizeRecording() {
+        this.querySizesRecorded = true;
+    }
+
+    /**
+     * Gets the query sizes of the operations of the clients generated so far. The operations of a project are
+     * contiguous and in the order of its documents.
+     *
+     * @return the recorded query sizes, empty unless the recording is enabled
+     */
+    public List<OperationQuerySize> getQuerySizes() {
+        synchronized (querySizes) {
+            return new ArrayList<>(querySizes);
+        }
+    }
+
     @Override
     public void generate(GraphqlProject project) throws ClientCodeGenerationException {
+        generate(project, GenerationManifest.getGeneratedFileNames(generationOptions));
+    }
+
+    /**
+     * Generates the given client source files of a given GraphQL project, leaving the other files untouched.
+     *
+     * @param project   the instance of the GraphQL project
+     * @param fileNames the names of the source files to be generated
+     * @throws ClientCodeGenerationException when a code generation error occurs
+     */
+    public void generate(GraphqlProject project, Set<String> fileNames) throws ClientCodeGenerationException {
         String outputPath = project.getOutputPath();
         try {
-            List<SrcFilePojo> genSources = generateBalSources(project, GeneratorContext.CLI);
+            List<SrcFilePojo> genSources = generateBalSources(project, GeneratorContext.CLI, fileNames);
             writeGeneratedSources(genSources, Path.of(outputPath));
         } catch (IOException e) {
             throw new ClientCodeGenerationException(e.getMessage(), project.getName());
@@ -64,20 +117,58 @@ public class ClientCodeGenerator extends CodeGenerator {
     public List<SrcFilePojo> generateBalSources(GraphqlProject project, GeneratorContext generatorContext)
             throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
             ConfigTypesGenerationException {
+        return generateBalSources(project, generatorContext,
+                GenerationManifest.getGeneratedFileNames(generationOptions));
+    }
+
+    /**
+     * Generates the given Ballerina client source files for a given GraphQL project.
+     *
+     * @param project          the instance of the GraphQL project
+     * @param generatorContext the context which triggered the source generation
+     * @param fileNames        the names of the source files to be generated
+     * @return the list of generated Ballerina source file pojo
+     * @throws ClientGenerationException      when a client code generation error occurs
+     * @throws UtilsGenerationException       when an utils code generation error occurs
+     * @throws ClientTypesGenerationException when a types code generation error occurs
+     * @throws ConfigTypesGenerationException when a config types code generation error occurs
+     */
+    public List<SrcFilePojo> generateBalSources(GraphqlProject project, GeneratorContext generatorContext,
+                                                Set<String> fileNames)
+            throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
+            ConfigTypesGenerationException {
         String projectName = project.getName();
         Extension extensions = ((GraphqlClientProject) project).getExtensions();
         List<String> documents = ((GraphqlClientProject) project).getDocuments();
+        DocumentStore documentStore = ((GraphqlClientProject) project).getDocumentStore();
         GraphQLSchema schema = project.getGraphQLSchema();
 
         AuthConfig authConfig = new AuthConfig();
         AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
         AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+        ClientGenerationOptions projectOptions = generationOptions.forExtensions(extensions);
 
         List<SrcFilePojo> sourceFiles = new ArrayList<>();
-        generateClients(projectName, documents, schema, authConfig, sourceFiles, generatorContext);
-        generateUtils(projectName, authConfig, sourceFiles);
-        generateClientTypes(projectName, documents, schema, sourceFiles);
-        generateConfigTypes(projectName, authConfig, sourceFiles);
+        if (fileNames.contains(CodeGeneratorConstants.CLIENT_FILE_NAME)) {
+            generateClients(projectName, documents, documentStore, schema, authConfig, sourceFiles,
+                    generatorContext, projectOptions);
+        }
+        if (fileNames.contains(CodeGeneratorConstants.QUERIES_FILE_NAME)) {
+            generateQueries(projectName, documents, documentStore, sourceFiles, projectOptions);
+        }
+        if (fileNames.contains(CodeGeneratorConstants.UTILS_FILE_NAME)) {
+            generateUtils(projectName, authConfig, sourceFiles, projectOptions);
+        }
+        if (fileNames.contains(CodeGeneratorConstants.TYPES_FILE_NAME)) {
+            generateClientTypes(projectName, documents, documentStore, schema, sourceFiles, projectOptions);
+        }
+        if (fileNames.contains(CodeGeneratorConstants.CONFIG_TYPES_FILE_NAME)) {
+            generateConfigTypes(projectName, authConfig, sourceFiles);
+        }
+        if (projectOptions.isPersistedQueries() &&
+                fileNames.contains(CodeGeneratorConstants.PERSISTED_QUERIES_FILE_NAME)) {
+            generatePersistedQueries(projectName, documents, documentStore, sourceFiles);
+        }
 
         return sourceFiles;
     }
@@ -87,20 +178,92 @@ public class ClientCodeGenerator extends CodeGenerator {
      *
      * @param projectName      the name of the GraphQL project
      * @param documents        the list of documents of a given GraphQL project
+     * @param documentStore    the store holding the parsed query documents of the project
      * @param schema           the object instance of the GraphQL schema (SDL)
      * @param authConfig       the object instance representing authentication config information
      * @param sourceFiles      the list of generated Ballerina source file pojo
      * @param generatorContext the context which triggered the source generation
+     * @param options          the generation options of the GraphQL project
      * @throws ClientGenerationException when a client code generation error occurs
      * @throws IOException               If an I/O error occurs
      */
-    private void generateClients(String projectName, List<String> documents, GraphQLSchema schema,
-                                 AuthConfig authConfig, List<SrcFilePojo> sourceFiles,
-                                 GeneratorContext generatorContext) throws ClientGenerationException {
-        String clientSrc = ClientGenerator.getInstance().generateSrc(documents, schema, authConfig, generatorContext);
+    private void generateClients(String projectName, List<String> documents, DocumentStore documentStore,
+                                 GraphQLSchema schema, AuthConfig authConfig, List<SrcFilePojo> sourceFiles,
+                                 GeneratorContext generatorContext, ClientGenerationOptions options)
+            throws ClientGenerationException {
+        String clientSrc = ClientGenerator.getInstance()
+                .generateSrc(documents, documentStore, schema, authConfig, generatorContext, options);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.GEN_SRC, projectName, CodeGeneratorConstants.CLIENT_FILE_NAME,
                         clientSrc));
+        if (querySizesRecorded) {
+            recordQuerySizes(projectName, documents, documentStore);
+        }
+    }
+
+    /**
+     * Generates the Ballerina queries source codes for a given GraphQL project.
+     *
+     * @param projectName   the name of the GraphQL project
+     * @param documents     the list of documents of a given GraphQL project
+     * @param documentStore the store holding the parsed query documents of the project
+     * @param sourceFiles   the list of generated Ballerina source file pojo
+     * @param options       the generation options of the GraphQL project
+     * @throws ClientGenerationException when a queries code generation error occurs
+     */
+    private void generateQueries(String projectName, List<String> documents, DocumentStore documentStore,
+                                 List<SrcFilePojo> sourceFiles, ClientGenerationOptions options)
+            throws ClientGenerationException {
+        String queriesSrc = QueriesGenerator.getInstance().generateSrc(documents, documentStore, options);
+        sourceFiles.add(
+                new SrcFilePojo(SrcFilePojo.GenFileType.GEN_SRC, projectName, CodeGeneratorConstants.QUERIES_FILE_NAME,
+                        queriesSrc));
+    }
+
+    /**
+     * Generates the persisted queries manifest for a given GraphQL project.
+     *
+     * @param projectName   the name of the GraphQL project
+     * @param documents     the list of documents of a given GraphQL project
+     * @param documentStore the store holding the parsed query documents of the project
+     * @param sourceFiles   the list of generated Ballerina source file pojo
+     * @throws ClientGenerationException when a query document can not be read
+     */
+    private void generatePersistedQueries(String projectName, List<String> documents, DocumentStore documentStore,
+                                          List<SrcFilePojo> sourceFiles) throws ClientGenerationException {
+        String persistedQueries = PersistedQueriesGenerator.getInstance().generateSrc(documents, documentStore);
+        sourceFiles.add(new SrcFilePojo(SrcFilePojo.GenFileType.RES, projectName,
+                CodeGeneratorConstants.PERSISTED_QUERIES_FILE_NAME, persistedQueries));
+    }
+
+    /**
+     * Records the query sizes of the operations of a given GraphQL project.
+     *
+     * @param projectName   the name of the GraphQL project
+     * @param documents     the list of documents of a given GraphQL project
+     * @param documentStore the store holding the parsed query documents of the project
+     * @throws ClientGenerationException when a query document can not be read
+     */
+    private void recordQuerySizes(String projectName, List<String> documents, DocumentStore documentStore)
+            throws ClientGenerationException {
+        List<OperationQuerySize> projectQuerySizes = new ArrayList<>();
+        try {
+            for (String document : documents) {
+                for (ExtendedOperationDefinition operationDefinition :
+                        documentStore.getQueryReader(document).getExtendedOperationDefinitions()) {
+                    projectQuerySizes.add(new OperationQuerySize(projectName, operationDefinition.getName(),
+                            getByteCount(operationDefinition.getQueryString()),
+                            getByteCount(operationDefinition.getQueryStringWithAllFragments())));
+                }
+            }
+        } catch (IOException e) {
+            throw new ClientGenerationException(e.getMessage());
+        }
+        querySizes.addAll(projectQuerySizes);
+    }
+
+    private static int getByteCount(String queryString) {
+        return queryString.getBytes(StandardCharsets.UTF_8).length;
     }
 
     /**
@@ -108,14 +271,18 @@ public class ClientCodeGenerator extends CodeGenerator {
      *
      * @param projectName the name of the GraphQL project
      * @param documents   the list of documents of a given GraphQL project
+     * @param documentStore the store holding the parsed query documents of the project
      * @param schema      the GraphQL schema (SDL) of a given GraphQL project
      * @param sourceFiles the list of generated Ballerina source file pojo
+     * @param options     the generation options of the GraphQL project
      * @throws ClientTypesGenerationException when a types code generation error occurs
      */
-    private void generateClientTypes(String projectName, List<String> documents, GraphQLSchema schema,
-                                     List<SrcFilePojo> sourceFiles) throws ClientTypesGenerationException {
+    private void generateClientTypes(String projectName, List<String> documents, DocumentStore documentStore,
+                                     GraphQLSchema schema, List<SrcFilePojo> sourceFiles,
+                                     ClientGenerationOptions options) throws ClientTypesGenerationException {
         String typesFileContent = "";
-        typesFileContent = ClientTypesGenerator.getInstance().generateSrc(schema, documents);
+        typesFileContent = ClientTypesGenerator.getInstance().generateSrc(schema, documents, documentStore,
+                options);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName, CodeGeneratorConstants.TYPES_FILE_NAME,
                         typesFileContent));
@@ -127,11 +294,12 @@ public class ClientCodeGenerator extends CodeGenerator {
      * @param projectName the name of the GraphQL project
      * @param authConfig  the object instance representing authentication config information
      * @param sourceFiles the list of generated Ballerina source file pojo
+     * @param options     the generation options of the GraphQL project
      * @throws UtilsGenerationException when an utils code generation error occurs
      */
-    public void generateUtils(String projectName, AuthConfig authConfig, List<SrcFilePojo> sourceFiles)
-            throws UtilsGenerationException {
-        String utilSrc = UtilsGenerator.getInstance().generateSrc(authConfig);
+    public void generateUtils(String projectName, AuthConfig authConfig, List<SrcFilePojo> sourceFiles,
+                              ClientGenerationOptions options) throws UtilsGenerationException {
+        String utilSrc = UtilsGenerator.getInstance().generateSrc(authConfig, options);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.UTIL_SRC, projectName, CodeGeneratorConstants.UTILS_FILE_NAME,
                         utilSrc));
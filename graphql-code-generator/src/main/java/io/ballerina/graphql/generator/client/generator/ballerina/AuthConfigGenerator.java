@@ -30,7 +30,7 @@ import java.util.Map;
 public class AuthConfigGenerator {
     private static AuthConfigGenerator authConfigGenerator = null;
 
-    public static AuthConfigGenerator getInstance() {
+    public static synchronized AuthConfigGenerator getInstance() {
         if (authConfigGenerator == null) {
             authConfigGenerator = new AuthConfigGenerator();
         }
@@ -18,7 +18,6 @@
 
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
-import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
@@ -31,17 +30,21 @@ import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.DocumentStore;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedConnectionDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.pojo.Cache;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import io.ballerina.tools.text.TextDocument;
@@ -72,7 +75,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_DEFINITION;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
@@ -82,10 +87,18 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.DEFAULT_RESPONSE_CACHE_MAX_ENTRIES;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_BATCH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INIT;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.REQUEST_COALESCER;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.REQUEST_COALESCER_CLASS_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE_CLASS_NAME;
 
 /**
  * This class is used to generate ballerina client file according to given SDL and query file.
@@ -93,7 +106,7 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.INIT;
 public class ClientGenerator {
     private static ClientGenerator clientGenerator = null;
 
-    public static ClientGenerator getInstance() {
+    public static synchronized ClientGenerator getInstance() {
         if (clientGenerator == null) {
             clientGenerator = new ClientGenerator();
         }
@@ -111,9 +124,43 @@ public class ClientGenerator {
      */
     public String generateSrc(List<String> queryDocuments, GraphQLSchema graphQLSchema, AuthConfig authConfig,
                               GeneratorContext generatorContext) throws ClientGenerationException {
+        return generateSrc(queryDocuments, new DocumentStore(), graphQLSchema, authConfig, generatorContext);
+    }
+
+    /**
+     * Generates the client file content reusing the parsed query documents of the given document store.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentStore                     the store holding the parsed query documents of the project
+     * @param graphQLSchema                     the object instance of the GraphQL schema (SDL)
+     * @param authConfig                        the object instance representing authentication config information
+     * @return                                  the client file content
+     * @throws ClientGenerationException        when a client code generation error occurs
+     */
+    public String generateSrc(List<String> queryDocuments, DocumentStore documentStore, GraphQLSchema graphQLSchema,
+                              AuthConfig authConfig, GeneratorContext generatorContext)
+            throws ClientGenerationException {
+        return generateSrc(queryDocuments, documentStore, graphQLSchema, authConfig, generatorContext,
+                new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the client file content with the given generation options.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentStore                     the store holding the parsed query documents of the project
+     * @param graphQLSchema                     the object instance of the GraphQL schema (SDL)
+     * @param authConfig                        the object instance representing authentication config information
+     * @param options                           the options of the client generation
+     * @return                                  the client file content
+     * @throws ClientGenerationException        when a client code generation error occurs
+     */
+    public String generateSrc(List<String> queryDocuments, DocumentStore documentStore, GraphQLSchema graphQLSchema,
+                              AuthConfig authConfig, GeneratorContext generatorContext,
+                              ClientGenerationOptions options) throws ClientGenerationException {
         try {
             return Formatter.format(generateSyntaxTree(
-                    queryDocuments, graphQLSchema, authConfig, generatorContext)).toString();
+                    queryDocuments, documentStore, graphQLSchema, authConfig, generatorContext, options)).toString();
         } catch (FormatterException | IOException e) {
             throw new ClientGenerationException(e.getMessage());
         }
@@ -123,17 +170,21 @@ public class ClientGenerator {
      * Generates the client syntax tree.
      *
      * @param queryDocuments            the list of names of the query documents
+     * @param documentStore             the store holding the parsed query documents of the project
      * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param options                   the options of the client generation
      * @return                          Syntax tree for the ballerina client code
      */
-    private SyntaxTree generateSyntaxTree(List<String> queryDocuments, GraphQLSchema graphQLSchema,
-                                          AuthConfig authConfig, GeneratorContext generatorContext) throws IOException {
+    private SyntaxTree generateSyntaxTree(List<String> queryDocuments, DocumentStore documentStore,
+                                          GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                          GeneratorContext generatorContext, ClientGenerationOptions options)
+            throws IOException {
         // Generate imports
-        NodeList<ImportDeclarationNode> imports = generateImports();
+        NodeList<ImportDeclarationNode> imports = generateImports(options);
         // Generate auth config records & client class
-        NodeList<ModuleMemberDeclarationNode> members =
-                generateMembers(queryDocuments, graphQLSchema, authConfig, generatorContext);
+        NodeList<ModuleMemberDeclarationNode> members = generateMembers(queryDocuments, documentStore, graphQLSchema,
+                authConfig, generatorContext, options);
 
         ModulePartNode modulePartNode = createModulePartNode(imports, members, createToken(EOF_TOKEN));
 
@@ -145,13 +196,17 @@ public class ClientGenerator {
     /**
      * Generates the imports in the client file.
      *
+     * @param options                   the options of the client generation
      * @return                          the node list which represent imports in the client file
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(ClientGenerationOptions options) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
                 CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
         imports.add(importForGraphql);
+        if (options.isHttpClientRequired()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(CodeGeneratorConstants.BALLERINA, HTTP));
+        }
         return createNodeList(imports);
     }
 
@@ -159,32 +214,82 @@ public class ClientGenerator {
      * Generates the members in the client file. The members include auth config record types & client class nodes.
      *
      * @param queryDocuments            the list of names of the query documents
+     * @param documentStore             the store holding the parsed query documents of the project
      * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param options                   the options of the client generation
      * @return                          the node list which represent members in the client file
      */
     private NodeList<ModuleMemberDeclarationNode> generateMembers(List<String> queryDocuments,
+                                                                  DocumentStore documentStore,
                                                                   GraphQLSchema graphQLSchema, AuthConfig authConfig,
-                                                                  GeneratorContext generatorContext)
+                                                                  GeneratorContext generatorContext,
+                                                                  ClientGenerationOptions options)
             throws IOException {
         List<ModuleMemberDeclarationNode> members =  new ArrayList<>();
         // Generate client class
-        ClassDefinitionNode classDefinitionNode =
-                generateClientClass(queryDocuments, graphQLSchema, authConfig, generatorContext);
+        ClassDefinitionNode classDefinitionNode = generateClientClass(queryDocuments, documentStore, graphQLSchema,
+                authConfig, generatorContext, options);
         members.add(classDefinitionNode);
+        if (options.isBatchOperations()) {
+            members.addAll(generateBatchOperationFunctions(queryDocuments, documentStore, graphQLSchema));
+        }
+        if (hasConnections(queryDocuments, documentStore, graphQLSchema)) {
+            members.addAll(getConnectionIteratorMembers());
+        }
         return createNodeList(members);
     }
 
+    /**
+     * Checks whether any operation of the given documents selects a Relay-style connection.
+     *
+     * @param queryDocuments            the list of names of the query documents
+     * @param documentStore             the store holding the parsed query documents of the project
+     * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
+     * @return                          whether any operation selects a connection
+     */
+    private boolean hasConnections(List<String> queryDocuments, DocumentStore documentStore,
+                                   GraphQLSchema graphQLSchema) throws IOException {
+        for (String document : queryDocuments) {
+            for (ExtendedOperationDefinition queryDefinition :
+                    documentStore.getQueryReader(document).getExtendedOperationDefinitions()) {
+                if (queryDefinition.getConnectionDefinition(graphQLSchema) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the members of the connection template, i.e. the {@code ConnectionIterator} class fetching the pages of
+     * a connection, which the connection stream functions of the client class iterate over.
+     *
+     * @return                          the members of the connection template
+     * @throws IOException              If the template can not be read
+     */
+    private List<ModuleMemberDeclarationNode> getConnectionIteratorMembers() throws IOException {
+        ModulePartNode connectionModulePartNode =
+                TemplateStore.getInstance().getSyntaxTree(TemplateStore.CONNECTION_TEMPLATE).rootNode();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        connectionModulePartNode.members().forEach(members::add);
+        return members;
+    }
+
     /**
      * Generates the client class in the client file.
      *
      * @param queryDocuments            the list of names of the query documents
+     * @param documentStore             the store holding the parsed query documents of the project
      * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param options                   the options of the client generation
      * @return                          the node which represent the client class in the client file
      */
-    private ClassDefinitionNode generateClientClass(List<String> queryDocuments, GraphQLSchema graphQLSchema,
-                                                    AuthConfig authConfig, GeneratorContext generatorContext)
+    private ClassDefinitionNode generateClientClass(List<String> queryDocuments, DocumentStore documentStore,
+                                                    GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                    GeneratorContext generatorContext,
+                                                    ClientGenerationOptions options)
             throws IOException {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
         NodeList<Token> classTypeQualifiers = createNodeList(
@@ -194,11 +299,14 @@ public class ClientGenerator {
         // Collect members for class definition node
         List<Node> members =  new ArrayList<>();
         // Generate class instance variables
-        members.addAll(generateClassInstanceVariables(authConfig));
+        members.addAll(generateClassInstanceVariables(authConfig, options));
         // Generate init function
-        members.add(generateInitFunction(authConfig));
+        members.add(generateInitFunction(authConfig, options));
         // Generate remote functions
-        members.addAll(generateRemoteFunctions(queryDocuments, graphQLSchema, authConfig));
+        members.addAll(generateRemoteFunctions(queryDocuments, documentStore, graphQLSchema, authConfig, options));
+        if (options.isBatchOperations()) {
+            members.add(generateExecuteBatchFunction(authConfig, options));
+        }
 
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
                 createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
@@ -209,11 +317,23 @@ public class ClientGenerator {
      * Generates the client class instance variables.
      *
      * @param authConfig        the object instance representing authentication configuration information
+     * @param options           the options of the client generation
      * @return                  the list of nodes which represent the client class instance variables
      */
-    private List<ObjectFieldNode> generateClassInstanceVariables(AuthConfig authConfig) {
+    private List<ObjectFieldNode> generateClassInstanceVariables(AuthConfig authConfig,
+                                                                 ClientGenerationOptions options) {
         List<ObjectFieldNode> objectFields = new ArrayList<>();
         objectFields.add(generateGraphqlClientField());
+        if (options.isHttpClientRequired()) {
+            objectFields.add(generateHttpClientField());
+        }
+
+        if (options.isCoalesceRequests()) {
+            objectFields.add(generateRequestCoalescerField());
+        }
+        if (options.getResponseCache() != null) {
+            objectFields.add(generateResponseCacheField(options.getResponseCache()));
+        }
 
         if (authConfig.isApiKeysConfig()) {
             objectFields.add(generateApiKeysConfigField());
@@ -225,9 +345,10 @@ public class ClientGenerator {
      * Generates the client class init function.
      *
      * @param authConfig        the object instance representing authentication configuration information
+     * @param options           the options of the client generation
      * @return                  the node which represent the init function
      */
-    private FunctionDefinitionNode generateInitFunction(AuthConfig authConfig) {
+    private FunctionDefinitionNode generateInitFunction(AuthConfig authConfig, ClientGenerationOptions options) {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
@@ -236,7 +357,8 @@ public class ClientGenerator {
 
         FunctionSignatureNode functionSignatureNode =
                 FunctionSignatureGenerator.getInstance().generateInitFunctionSignature(authConfig);
-        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig);
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig, options);
 
         return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
                 functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
@@ -246,24 +368,34 @@ public class ClientGenerator {
      * Generates the client class remote functions.
      *
      * @param queryDocuments    the list of names of the query documents
+     * @param documentStore     the store holding the parsed query documents of the project
      * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
      * @param authConfig        the object instance representing authentication configuration information
+     * @param options           the options of the client generation
      * @return                  the list of nodes which represent the remote functions
      */
     private List<FunctionDefinitionNode> generateRemoteFunctions(List<String> queryDocuments,
-                                                                 GraphQLSchema graphQLSchema, AuthConfig authConfig)
+                                                                 DocumentStore documentStore,
+                                                                 GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                                 ClientGenerationOptions options)
             throws IOException {
         List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
 
         for (String document : queryDocuments) {
-            Document queryDocument = Utils.getGraphQLQueryDocument(document);
-            QueryReader queryReader = new QueryReader(queryDocument);
+            QueryReader queryReader = documentStore.getQueryReader(document);
 
             for (ExtendedOperationDefinition queryDefinition: queryReader.getExtendedOperationDefinitions()) {
                 // Generate remote function
                 FunctionDefinitionNode functionDefinitionNode =
-                        generateRemoteFunction(queryDefinition, graphQLSchema, authConfig);
+                        generateRemoteFunction(queryDefinition, graphQLSchema, authConfig, options);
                 functionDefinitionNodeList.add(functionDefinitionNode);
+
+                ExtendedConnectionDefinition connectionDefinition =
+                        queryDefinition.getConnectionDefinition(graphQLSchema);
+                if (connectionDefinition != null) {
+                    functionDefinitionNodeList.add(generateConnectionStreamFunction(queryDefinition,
+                            connectionDefinition, graphQLSchema, authConfig));
+                }
             }
         }
         return functionDefinitionNodeList;
@@ -275,10 +407,12 @@ public class ClientGenerator {
      * @param queryDefinition       the object instance of a single query definition in a query document
      * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
      * @param authConfig            the object instance representing authentication configuration information
+     * @param options               the options of the client generation
      * @return                      the node which represent the remote function
      */
     private FunctionDefinitionNode generateRemoteFunction(ExtendedOperationDefinition queryDefinition,
-                                                          GraphQLSchema graphQLSchema, AuthConfig authConfig) {
+                                                          GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                          ClientGenerationOptions options) {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
@@ -291,12 +425,122 @@ public class ClientGenerator {
                         .generateRemoteFunctionSignature(queryDefinition, graphQLSchema);
         FunctionBodyNode functionBodyNode =
                 FunctionBodyGenerator.getInstance()
-                        .generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig);
+                        .generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig, options);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Generates the client class remote function iterating over the nodes of the connection selected by an
+     * operation, e.g. {@code countriesStream} for the {@code countries} operation.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param connectionDefinition  the connection selected by the operation
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @param authConfig            the object instance representing authentication configuration information
+     * @return                      the node which represent the connection stream function
+     */
+    private FunctionDefinitionNode generateConnectionStreamFunction(ExtendedOperationDefinition queryDefinition,
+                                                                    ExtendedConnectionDefinition connectionDefinition,
+                                                                    GraphQLSchema graphQLSchema,
+                                                                    AuthConfig authConfig) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(
+                CodeGeneratorUtils.getConnectionStreamFunctionName(queryDefinition.getName()));
+
+        FunctionSignatureNode functionSignatureNode = FunctionSignatureGenerator.getInstance()
+                .generateConnectionStreamFunctionSignature(queryDefinition, connectionDefinition, graphQLSchema);
+        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance()
+                .generateConnectionStreamFunctionBody(queryDefinition, connectionDefinition, graphQLSchema,
+                        authConfig);
 
         return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
                 functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
     }
 
+    /**
+     * Generates the client class {@code executeBatch} remote function, which executes several operations with a
+     * single batched request.
+     *
+     * @param authConfig            the object instance representing authentication configuration information
+     * @param options               the options of the client generation
+     * @return                      the node which represent the {@code executeBatch} remote function
+     */
+    private FunctionDefinitionNode generateExecuteBatchFunction(AuthConfig authConfig,
+                                                                ClientGenerationOptions options) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        FunctionSignatureNode functionSignatureNode =
+                FunctionSignatureGenerator.getInstance().generateExecuteBatchFunctionSignature();
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateExecuteBatchFunctionBody(authConfig, options);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                createIdentifierToken(EXECUTE_BATCH), createEmptyNodeList(), functionSignatureNode,
+                functionBodyNode);
+    }
+
+    /**
+     * Generates the module-level functions creating the operations of a batched request, one per operation.
+     *
+     * @param queryDocuments    the list of names of the query documents
+     * @param documentStore     the store holding the parsed query documents of the project
+     * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
+     * @return                  the list of nodes which represent the batch operation functions
+     */
+    private List<FunctionDefinitionNode> generateBatchOperationFunctions(List<String> queryDocuments,
+                                                                         DocumentStore documentStore,
+                                                                         GraphQLSchema graphQLSchema)
+            throws IOException {
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+
+        for (String document : queryDocuments) {
+            QueryReader queryReader = documentStore.getQueryReader(document);
+
+            for (ExtendedOperationDefinition queryDefinition: queryReader.getExtendedOperationDefinitions()) {
+                // The responses with lazily bound fields are streams, which can not be bound from a batched request
+                if (queryDefinition.hasLazyFields()) {
+                    continue;
+                }
+                functionDefinitionNodeList.add(generateBatchOperationFunction(queryDefinition, graphQLSchema));
+            }
+        }
+        return functionDefinitionNodeList;
+    }
+
+    /**
+     * Generates the module-level function creating the operation of a batched request, e.g.
+     * {@code public isolated function countryOperation(string code) returns BatchOperation}.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the node which represent the batch operation function
+     */
+    private FunctionDefinitionNode generateBatchOperationFunction(ExtendedOperationDefinition queryDefinition,
+                                                                  GraphQLSchema graphQLSchema) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(
+                CodeGeneratorUtils.getBatchOperationFunctionName(queryDefinition.getName()));
+
+        FunctionSignatureNode functionSignatureNode = FunctionSignatureGenerator.getInstance()
+                .generateBatchOperationFunctionSignature(queryDefinition, graphQLSchema);
+        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance()
+                .generateBatchOperationFunctionBody(queryDefinition, graphQLSchema);
+
+        return createFunctionDefinitionNode(FUNCTION_DEFINITION, metadataNode, qualifierList,
+                createToken(FUNCTION_KEYWORD), functionName, createEmptyNodeList(), functionSignatureNode,
+                functionBodyNode);
+    }
+
     /**
      * Generates the GraphQL client {@code final graphql:Client graphqlClient;} instance variable.
      *
@@ -318,6 +562,71 @@ public class ClientGenerator {
                 createToken(SEMICOLON_TOKEN));
     }
 
+    /**
+     * Generates the HTTP client {@code final http:Client httpClient;} instance variable, which executes the
+     * operations with the Automatic Persisted Queries protocol and the queries with the HTTP GET method.
+     *
+     * @return                  the node which represent the {@code httpClient} instance variable
+     */
+    private ObjectFieldNode generateHttpClientField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        QualifiedNameReferenceNode typeName = createQualifiedNameReferenceNode(createIdentifierToken(HTTP),
+                createToken(COLON_TOKEN), createIdentifierToken(CodeGeneratorConstants.CLIENT));
+
+        IdentifierToken fieldName = createIdentifierToken(HTTP_CLIENT);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final RequestCoalescer requestCoalescer;} instance variable, which coalesces the
+     * concurrent executions of the identical queries. It is initialized with the timeout of the client.
+     *
+     * @return                  the node which represent the {@code requestCoalescer} instance variable
+     */
+    private ObjectFieldNode generateRequestCoalescerField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName =
+                createSimpleNameReferenceNode(createIdentifierToken(REQUEST_COALESCER_CLASS_NAME));
+
+        IdentifierToken fieldName = createIdentifierToken(REQUEST_COALESCER);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null, createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final ResponseCache responseCache = new (1000);} instance variable, which caches the
+     * responses of the queries up to the maximum number of entries of the given response cache configuration.
+     *
+     * @param responseCache     the response cache configuration
+     * @return                  the node which represent the {@code responseCache} instance variable
+     */
+    private ObjectFieldNode generateResponseCacheField(Cache responseCache) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName =
+                createSimpleNameReferenceNode(createIdentifierToken(RESPONSE_CACHE_CLASS_NAME));
+
+        IdentifierToken fieldName = createIdentifierToken(RESPONSE_CACHE);
+
+        int maxEntries = responseCache.getMaxEntries() != null ?
+                responseCache.getMaxEntries() : DEFAULT_RESPONSE_CACHE_MAX_ENTRIES;
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, createToken(EQUAL_TOKEN),
+                NodeParser.parseExpression(String.format("new (%d)", maxEntries)), createToken(SEMICOLON_TOKEN));
+    }
+
     /**
      * Generates the API keys config {@code final readonly & ApiKeysConfig apiKeysConfig;} instance variable.
      *
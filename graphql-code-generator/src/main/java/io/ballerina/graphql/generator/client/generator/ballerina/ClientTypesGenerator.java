@@ -26,6 +26,8 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.DocumentStore;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
@@ -48,7 +50,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 public class ClientTypesGenerator extends TypesGenerator {
     public static ClientTypesGenerator clientTypesGenerator = null;
 
-    public static ClientTypesGenerator getInstance() {
+    public static synchronized ClientTypesGenerator getInstance() {
         if (clientTypesGenerator == null) {
             clientTypesGenerator = new ClientTypesGenerator();
         }
@@ -64,9 +66,37 @@ public class ClientTypesGenerator extends TypesGenerator {
      * @throws ClientTypesGenerationException     when an error occurs during type generation
      */
     public String generateSrc(GraphQLSchema schema, List<String> documents) throws ClientTypesGenerationException {
+        return generateSrc(schema, documents, new DocumentStore());
+    }
+
+    /**
+     * Generates the types file content reusing the parsed query documents of the given document store.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentStore                 the store holding the parsed query documents of the project
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(GraphQLSchema schema, List<String> documents, DocumentStore documentStore)
+            throws ClientTypesGenerationException {
+        return generateSrc(schema, documents, documentStore, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the types file content with the given generation options.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentStore                 the store holding the parsed query documents of the project
+     * @param options                       the options of the client generation
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(GraphQLSchema schema, List<String> documents, DocumentStore documentStore,
+                              ClientGenerationOptions options) throws ClientTypesGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schema, documents)).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return Formatter.format(this.generateSyntaxTree(schema, documents, documentStore, options)).toString();
         } catch (FormatterException | IOException e) {
             throw new ClientTypesGenerationException(e.getMessage());
         }
@@ -81,11 +111,45 @@ public class ClientTypesGenerator extends TypesGenerator {
      * @throws IOException      If an I/O error occurs
      */
     public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents) throws IOException {
+        return generateSyntaxTree(schema, documents, new DocumentStore());
+    }
+
+    /**
+     * Generates the types syntax tree reusing the parsed query documents of the given document store.
+     *
+     * @param schema            the object instance of the GraphQL schema (SDL)
+     * @param documents         the list of documents of a given GraphQL project
+     * @param documentStore     the store holding the parsed query documents of the project
+     * @return                  Syntax tree for the types.bal
+     * @throws IOException      If an I/O error occurs
+     */
+    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents, DocumentStore documentStore)
+            throws IOException {
+        return generateSyntaxTree(schema, documents, documentStore, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the types syntax tree with the given generation options. Unless the options require all the input
+     * types, only the input records reachable from the variables of the operations are generated.
+     *
+     * @param schema            the object instance of the GraphQL schema (SDL)
+     * @param documents         the list of documents of a given GraphQL project
+     * @param documentStore     the store holding the parsed query documents of the project
+     * @param options           the options of the client generation
+     * @return                  Syntax tree for the types.bal
+     * @throws IOException      If an I/O error occurs
+     */
+    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents, DocumentStore documentStore,
+                                         ClientGenerationOptions options) throws IOException {
         List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
         NodeList<ImportDeclarationNode> importsList = createEmptyNodeList();
 
-        addInputRecords(schema, typeDefinitionNodeList);
-        addQueryResponseRecords(schema, documents, typeDefinitionNodeList);
+        if (options.isAllInputTypes()) {
+            addInputRecords(schema, typeDefinitionNodeList);
+        } else {
+            addReachableInputRecords(schema, documents, documentStore, typeDefinitionNodeList);
+        }
+        addQueryResponseRecords(schema, documents, documentStore, typeDefinitionNodeList);
 
         NodeList<ModuleMemberDeclarationNode> members = createNodeList(typeDefinitionNodeList.toArray(
                 new TypeDefinitionNode[typeDefinitionNodeList.size()]));
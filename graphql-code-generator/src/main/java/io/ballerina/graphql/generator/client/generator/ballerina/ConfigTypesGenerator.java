@@ -41,25 +41,12 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.client.exception.ConfigTypesGenerationException;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -109,9 +96,8 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.getMetadat
 public class ConfigTypesGenerator {
     private static ConfigTypesGenerator configTypesGenerator = null;
     private static final String CONNECTION_CONFIG = "ConnectionConfig";
-    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigTypesGenerator.class);
 
-    public static ConfigTypesGenerator getInstance() {
+    public static synchronized ConfigTypesGenerator getInstance() {
         if (configTypesGenerator == null) {
             configTypesGenerator = new ConfigTypesGenerator();
         }
@@ -143,12 +129,7 @@ public class ConfigTypesGenerator {
     private SyntaxTree generateSyntaxTree(AuthConfig authConfig) throws IOException {
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
+        SyntaxTree syntaxTree = TemplateStore.getInstance().getSyntaxTree(TemplateStore.CONFIG_TYPES_TEMPLATE);
 
         ModulePartNode modulePartNode = syntaxTree.rootNode();
         NodeList<ImportDeclarationNode> imports = modulePartNode.imports();
@@ -226,34 +207,6 @@ public class ConfigTypesGenerator {
                 connectionConfigNode, createToken(SEMICOLON_TOKEN));
     }
 
-    /**
-     * Gets the path of the config_types.bal template at the time of execution.
-     *
-     * @return Path to config_types.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/config_types.bal file from resources
-     */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/config_types_graphql.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".config_types_graphql-tmp" + System.nanoTime());
-            path = tmpDir.resolve("config_types_graphql.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
-        }
-        return path;
-    }
-
     /**
      * Generates API keys config record fields.
      *
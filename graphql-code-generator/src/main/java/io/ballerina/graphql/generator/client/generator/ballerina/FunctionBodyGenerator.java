@@ -18,6 +18,8 @@
 
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
@@ -47,14 +49,19 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
-import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedConnectionDefinition;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFieldDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.client.pojo.Cache;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 
 import java.util.ArrayList;
@@ -67,7 +74,6 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdenti
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.BACKTICK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CHECK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
@@ -89,9 +95,17 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.VAR_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEY_CONFIG_PARAM;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATIONS_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BIND_EXTENSIONS_ARG_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHED_RESPONSE_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHE_KEY_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_EP;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLONE_READ_ONLY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.COMMA;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_ITERATOR_CLASS_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_BATCHED_OPERATIONS;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_PERSISTED_QUERY;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_WITH_GET;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT_TYPE_NAME;
@@ -101,11 +115,17 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_VARI
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_VARIABLES_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HEADER_VALUES_VARIABLES_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HEADER_VALUES_VARIABLES_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_HEADERS_VARIABLES_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_HEADERS_VARIABLES_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.READ_ONLY_RESPONSE_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.REQUEST_COALESCER;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_DATA_FIELD_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SELF;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.USE_GET_ARG_NAME;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
 
 /**
@@ -114,7 +134,7 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIden
 public class FunctionBodyGenerator {
     private static FunctionBodyGenerator functionBodyGenerator = null;
 
-    public static FunctionBodyGenerator getInstance() {
+    public static synchronized FunctionBodyGenerator getInstance() {
         if (functionBodyGenerator == null) {
             functionBodyGenerator = new FunctionBodyGenerator();
         }
@@ -128,6 +148,17 @@ public class FunctionBodyGenerator {
      * @return the node which represent the init function body
      */
     public FunctionBodyNode generateInitFunctionBody(AuthConfig authConfig) {
+        return generateInitFunctionBody(authConfig, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the client class init function body with the given generation options.
+     *
+     * @param authConfig the object instance representing authentication configuration information
+     * @param options    the options of the client generation
+     * @return the node which represent the init function body
+     */
+    public FunctionBodyNode generateInitFunctionBody(AuthConfig authConfig, ClientGenerationOptions options) {
         List<StatementNode> assignmentNodes = new ArrayList<>();
         // Generate initialization statement of httpClientConfig
         List<StatementNode> httpClientConfigNode = generateHttpClientConfigurationNode(authConfig);
@@ -149,6 +180,14 @@ public class FunctionBodyGenerator {
         assignmentNodes.addAll(httpClientConfigNode);
         assignmentNodes.add(clientInitializationNode);
         assignmentNodes.add(httpClientAssignmentStatementNode);
+        if (options.isHttpClientRequired()) {
+            assignmentNodes.addAll(generateHttpClientInitializationNodes());
+        }
+        if (options.isCoalesceRequests()) {
+            // The identical queries wait for the shared response for the timeout of the client at most
+            assignmentNodes.add(NodeParser.parseStatement(String.format("%s.%s = new (config.timeout);", SELF,
+                    REQUEST_COALESCER)));
+        }
         if (authConfig.isApiKeysConfig()) {
             assignmentNodes.add(apiKeyConfigAssignmentStatementNode);
         }
@@ -158,6 +197,33 @@ public class FunctionBodyGenerator {
                 statementList, createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Generates the initialization of the {@code http:Client} used to execute the operations with the Automatic
+     * Persisted Queries protocol and the queries with the HTTP GET method, as the {@code graphql:Client} always
+     * sends the query document with the HTTP POST method. The client shares the configuration of the
+     * {@code graphql:Client}.
+     * <pre>
+     * http:Client|http:ClientError httpClientEp = new (serviceUrl, {...graphqlClientConfig});
+     * if httpClientEp is http:ClientError {
+     *     return error graphql:RequestError("GraphQL Client Error", httpClientEp);
+     * }
+     * self.httpClient = httpClientEp;
+     * </pre>
+     *
+     * @return the list of nodes which represent the http client initialization
+     */
+    private List<StatementNode> generateHttpClientInitializationNodes() {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(NodeParser.parseStatement(String.format(
+                "http:Client|http:ClientError httpClientEp = new (%s, {...%s});",
+                CodeGeneratorConstants.SERVICE_URL_PARAM_NAME, GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME)));
+        statementNodes.add(NodeParser.parseStatement("if httpClientEp is http:ClientError {\n" +
+                "        return error graphql:RequestError(\"GraphQL Client Error\", httpClientEp);\n" +
+                "    }"));
+        statementNodes.add(NodeParser.parseStatement(String.format("%s.%s = httpClientEp;", SELF, HTTP_CLIENT)));
+        return statementNodes;
+    }
+
     /**
      * Generates http client config record.
      *
@@ -293,6 +359,21 @@ public class FunctionBodyGenerator {
      */
     public FunctionBodyNode generateRemoteFunctionBody(ExtendedOperationDefinition queryDefinition,
                                                        GraphQLSchema graphQLSchema, AuthConfig authConfig) {
+        return generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the client class remote function body with the given generation options.
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param authConfig      the object instance representing authentication configuration information
+     * @param options         the options of the client generation
+     * @return the node which represent the remote function body
+     */
+    public FunctionBodyNode generateRemoteFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                       GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                       ClientGenerationOptions options) {
         List<StatementNode> assignmentNodes = new ArrayList<>();
 
         VariableDeclarationNode queryVariableDeclarationNode = generateQueryVariableDeclarationNode(queryDefinition);
@@ -309,12 +390,43 @@ public class FunctionBodyGenerator {
         if (authConfig.isApiKeysConfig()) {
             assignmentNodes.add(headerValuesVariableDeclarationNode);
             assignmentNodes.add(httpHeadersVariableDeclarationNode);
-            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(queryDefinition));
+        }
+        boolean isQuery = OperationDefinition.Operation.QUERY.name().equals(queryDefinition.getOperationType());
+        boolean useGet = options.isHttpGetQueries() && isQuery;
+        // Only the queries executed with the GraphQL client are coalesced and cached, never the mutations.
+        boolean isGraphqlClientQuery = isQuery && !options.isPersistedQueries() && !useGet &&
+                !queryDefinition.hasLazyFields();
+        Integer cacheTtl = isGraphqlClientQuery ?
+                getResponseCacheTtl(queryDefinition, graphQLSchema, options.getResponseCache()) : null;
+        if (cacheTtl != null) {
+            assignmentNodes.addAll(generateResponseCacheLookupStatementNodes(queryDefinition));
+        }
+        boolean isHttpClientOperation = options.isPersistedQueries() || useGet;
+        boolean isCoalescedQuery = options.isCoalesceRequests() && isGraphqlClientQuery;
+        if (isCoalescedQuery) {
+            assignmentNodes.add(generateCoalescedGraphqlResponseVariableDeclarationNode(authConfig.isApiKeysConfig()));
+        } else if (isHttpClientOperation) {
+            assignmentNodes.add(generateHttpClientResponseVariableDeclarationNode(queryDefinition,
+                    authConfig.isApiKeysConfig(), options.isPersistedQueries(), useGet));
+        } else if (authConfig.isApiKeysConfig()) {
+            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(queryDefinition,
+                    options.isResponseExtensions()));
         } else {
-            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNode(queryDefinition));
+            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNode(queryDefinition,
+                    options.isResponseExtensions()));
         }
 
-        assignmentNodes.add(generateReturnStatementNode(queryDefinition));
+        String responseData = getResponseDataExpression(queryDefinition,
+                isCoalescedQuery || isHttpClientOperation || options.isResponseExtensions(),
+                options.isResponseExtensions());
+        if (queryDefinition.hasLazyFields()) {
+            assignmentNodes.add(generateLazyDataBindingStatementNode(queryDefinition, graphQLSchema));
+        } else if (cacheTtl != null) {
+            assignmentNodes.addAll(generateResponseCacheUpdateStatementNodes(queryDefinition, responseData,
+                    cacheTtl));
+        } else {
+            assignmentNodes.add(NodeParser.parseStatement(String.format("return %s;", responseData)));
+        }
 
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
 
@@ -322,6 +434,104 @@ public class FunctionBodyGenerator {
                 null, statementList, createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Generates the body of the client class remote function iterating over the nodes of the connection selected by
+     * an operation, page by page.
+     * <pre>
+     * string query = COUNTRIES_DOCUMENT;
+     * map&lt;anydata&gt; variables = {"first": first};
+     * ConnectionIterator iterator = new (self.graphqlClient, query, variables.cloneReadOnly(), "countries", "after");
+     * stream&lt;json, error?&gt; nodes = new (iterator);
+     * return from json node in nodes select check node.cloneWithType();
+     * </pre>
+     *
+     * @param queryDefinition      the object instance of a single query definition in a query document
+     * @param connectionDefinition the connection selected by the operation
+     * @param graphQLSchema        the object instance of the GraphQL schema (SDL)
+     * @param authConfig           the object instance representing authentication configuration information
+     * @return the node which represent the connection stream function body
+     */
+    public FunctionBodyNode generateConnectionStreamFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                                 ExtendedConnectionDefinition connectionDefinition,
+                                                                 GraphQLSchema graphQLSchema,
+                                                                 AuthConfig authConfig) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        Map<String, FieldType> variableDefinitionsMap =
+                new LinkedHashMap<>(queryDefinition.getVariableDefinitionsMap(graphQLSchema));
+        variableDefinitionsMap.remove(connectionDefinition.getAfterVariableName());
+        statementNodes.add(generateQueryVariableDeclarationNode(queryDefinition));
+        statementNodes.add(getGraphqlVariablesDeclarationNode(variableDefinitionsMap));
+
+        List<String> arguments = new ArrayList<>(List.of(SELF + "." + GRAPHQL_CLIENT, QUERY_VAR_NAME,
+                GRAPHQL_VARIABLES_VAR_NAME + "." + CLONE_READ_ONLY + "()",
+                "\"" + connectionDefinition.getResponseKey() + "\"",
+                "\"" + connectionDefinition.getAfterVariableName() + "\""));
+        if (authConfig.isApiKeysConfig()) {
+            statementNodes.add(generateHeaderValuesVariableDeclarationNode(authConfig));
+            statementNodes.add(generateHttpHeadersVariableDeclarationNode());
+            arguments.add(HTTP_HEADERS_VARIABLES_VAR_NAME + "." + CLONE_READ_ONLY + "()");
+        }
+        statementNodes.add(NodeParser.parseStatement(String.format("%s iterator = new (%s);",
+                CONNECTION_ITERATOR_CLASS_NAME, String.join(", ", arguments))));
+        statementNodes.add(NodeParser.parseStatement("stream<json, error?> nodes = new (iterator);"));
+        statementNodes.add(NodeParser.parseStatement(
+                "return from json node in nodes select check node.cloneWithType();"));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generates the body of the module-level function creating the operation of a batched request.
+     * <pre>
+     * map&lt;anydata&gt; variables = {"code": code};
+     * return {query: COUNTRY_DOCUMENT, variables, targetType: CountryResponse};
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @return the node which represent the batch operation function body
+     */
+    public FunctionBodyNode generateBatchOperationFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                               GraphQLSchema graphQLSchema) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(getGraphqlVariablesDeclarationNode(queryDefinition, graphQLSchema));
+        statementNodes.add(NodeParser.parseStatement(String.format("return {query: %s, %s, targetType: %s};",
+                CodeGeneratorUtils.getOperationDocumentConstantName(queryDefinition.getName()),
+                GRAPHQL_VARIABLES_VAR_NAME, CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName()))));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generates the client class {@code executeBatch} remote function body.
+     * <pre>
+     * return executeBatchedOperations(self.httpClient, operations);
+     * </pre>
+     *
+     * @param authConfig      the object instance representing authentication configuration information
+     * @param options         the options of the client generation
+     * @return the node which represent the {@code executeBatch} remote function body
+     */
+    public FunctionBodyNode generateExecuteBatchFunctionBody(AuthConfig authConfig, ClientGenerationOptions options) {
+        List<StatementNode> statementNodes = new ArrayList<>();
+        List<String> arguments = new ArrayList<>(List.of(SELF + "." + HTTP_CLIENT, BATCH_OPERATIONS_PARAM_NAME));
+        if (authConfig.isApiKeysConfig()) {
+            statementNodes.add(generateHeaderValuesVariableDeclarationNode(authConfig));
+            statementNodes.add(generateHttpHeadersVariableDeclarationNode());
+            arguments.add(HTTP_HEADERS_VARIABLES_VAR_NAME);
+        }
+        if (options.isResponseExtensions()) {
+            arguments.add(BIND_EXTENSIONS_ARG_NAME + " = true");
+        }
+        statementNodes.add(NodeParser.parseStatement(String.format("return %s(%s);", EXECUTE_BATCHED_OPERATIONS,
+                String.join(COMMA + " ", arguments))));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(statementNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
     /**
      * Generates the initialization statement of {@code graphql:Client} class instance in the init function.
      *
@@ -385,7 +595,8 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generates the {@code query} variable declaration node in the remote function.
+     * Generates the {@code query} variable declaration node in the remote function, initialized with the constant
+     * of the queries file holding the query document of the operation.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
      * @return the node which represent the {@code query} variable declaration
@@ -401,10 +612,9 @@ public class FunctionBodyGenerator {
         TypedBindingPatternNode typedBindingPatternNode = NodeFactory.createTypedBindingPatternNode(typeBindingPattern,
                 bindingPattern);
 
-        // Expression node
-        NodeList<Node> content = createNodeList(createIdentifierToken(queryDefinition.getQueryString()));
-        TemplateExpressionNode initializer = NodeFactory.createTemplateExpressionNode(null,
-                createToken(STRING_KEYWORD), createToken(BACKTICK_TOKEN), content, createToken(BACKTICK_TOKEN));
+        // Expression node, which refers to the module-level constant holding the query document
+        SimpleNameReferenceNode initializer = NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(
+                CodeGeneratorUtils.getOperationDocumentConstantName(queryDefinition.getName())));
 
         return NodeFactory.createVariableDeclarationNode(annotationNodes, null, typedBindingPatternNode,
                 createToken(EQUAL_TOKEN), initializer, createToken(SEMICOLON_TOKEN));
@@ -419,6 +629,16 @@ public class FunctionBodyGenerator {
      */
     private VariableDeclarationNode getGraphqlVariablesDeclarationNode(ExtendedOperationDefinition queryDefinition,
                                                                        GraphQLSchema graphQLSchema) {
+        return getGraphqlVariablesDeclarationNode(queryDefinition.getVariableDefinitionsMap(graphQLSchema));
+    }
+
+    /**
+     * Generates the GraphQL {@code variables} variable declaration node with the given variables.
+     *
+     * @param variableDefinitionsMap the variable definitions of the operation, by the variable name
+     * @return the node which represent the GraphQL {@code variables} declaration
+     */
+    private VariableDeclarationNode getGraphqlVariablesDeclarationNode(Map<String, FieldType> variableDefinitionsMap) {
         NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
 
         // GraphQL {@code variables} declaration
@@ -433,14 +653,14 @@ public class FunctionBodyGenerator {
         List<Node> specificFields = new ArrayList<>();
 
         int count = 0;
-        for (String variableName : queryDefinition.getVariableDefinitionsMap(graphQLSchema).keySet()) {
+        for (String variableName : variableDefinitionsMap.keySet()) {
             BuiltinSimpleNameReferenceNode valueExpr = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken(escapeIdentifier(variableName)));
             SpecificFieldNode specificFieldNode = NodeFactory.createSpecificFieldNode(null,
                     createIdentifierToken("\"" + variableName + "\""), createToken(COLON_TOKEN), valueExpr);
             specificFields.add(specificFieldNode);
             count++;
-            if (count < queryDefinition.getVariableDefinitionsMap(graphQLSchema).size()) {
+            if (count < variableDefinitionsMap.size()) {
                 specificFields.add(createToken(COMMA_TOKEN));
             }
         }
@@ -536,32 +756,219 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generate the return statement for a remote function.
+     * Gets the expression binding the {@code graphqlResponse} of a remote function to the response type of the
+     * operation. A {@code json} response is bound with its data, and with its {@code extensions} if required, while
+     * the response bound by the GraphQL client to the record wrapping the response type holds the bound data.
+     * <pre>
+     * &lt;CountryResponse&gt; check performDataBinding(graphqlResponse, CountryResponse, true)
+     * graphqlResponse.data
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param jsonResponse    whether the {@code graphqlResponse} is the {@code json} response
+     * @param bindExtensions  whether the {@code extensions} of the response are bound to the response record
+     * @return the expression which binds the response data
+     */
+    private static String getResponseDataExpression(ExtendedOperationDefinition queryDefinition,
+                                                    boolean jsonResponse, boolean bindExtensions) {
+        if (jsonResponse) {
+            return CodeGeneratorUtils.getRemoteFunctionBodyReturnTypeName(queryDefinition.getName(), bindExtensions);
+        }
+        return GRAPHQL_RESPONSE_VAR_NAME + "." + RESPONSE_DATA_FIELD_NAME;
+    }
+
+    /**
+     * Generate the statement binding the response of an operation with lazily bound fields, field by field. The
+     * items of the lazily bound lists are bound one at a time by a stream, when they are reached. Only the binding is
+     * deferred; the whole response is received and parsed as JSON before this statement runs.
+     * <pre>
+     * do {
+     *     map&lt;json&gt; responseMap = check graphqlResponse.ensureType();
+     *     map&lt;json&gt; responseData = check responseMap["data"].ensureType();
+     *     json[] countriesItems = check responseData["countries"].ensureType();
+     *     return {
+     *         country: check responseData["country"].cloneWithType(),
+     *         countries: stream from json listItem in countriesItems select check listItem.cloneWithType()
+     *     };
+     * } on fail var e {
+     *     return error graphql:RequestError("GraphQL Client Error", e);
+     * }
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @return the node which represent the statement binding the response
+     */
+    private StatementNode generateLazyDataBindingStatementNode(ExtendedOperationDefinition queryDefinition,
+                                                               GraphQLSchema graphQLSchema) {
+        GraphQLObjectType rootType = OperationDefinition.Operation.MUTATION.name().equals(
+                queryDefinition.getOperationType()) ? graphQLSchema.getMutationType() : graphQLSchema.getQueryType();
+        Map<String, FieldType> rootFieldsMap = SpecReader.getObjectTypeFieldsMap(graphQLSchema, rootType.getName());
+
+        StringBuilder statement = new StringBuilder("do {");
+        statement.append(String.format("map<json> responseMap = check %s.ensureType();", GRAPHQL_RESPONSE_VAR_NAME));
+        statement.append("map<json> responseData = check responseMap[\"data\"].ensureType();");
+        List<String> fields = new ArrayList<>();
+        for (ExtendedFieldDefinition fieldDefinition : queryDefinition.getExtendedFieldDefinitions()) {
+            String responseKey = fieldDefinition.getAlias() != null ?
+                    fieldDefinition.getAlias() : fieldDefinition.getName();
+            String recordFieldName = CodeGeneratorUtils.escapeIdentifier(responseKey);
+            if (!fieldDefinition.isLazy()) {
+                fields.add(String.format("%s: check responseData[\"%s\"].cloneWithType()", recordFieldName,
+                        responseKey));
+                continue;
+            }
+            String itemsVarName = responseKey + "Items";
+            String tokens = rootFieldsMap.get(fieldDefinition.getName()).getTokens();
+            boolean nullableList = tokens.substring(tokens.lastIndexOf('[') + 1).contains("?");
+            statement.append(String.format("json[]%s %s = check responseData[\"%s\"].ensureType();",
+                    nullableList ? "?" : "", itemsVarName, responseKey));
+            String stream = String.format("stream from json listItem in %s select check listItem.cloneWithType()",
+                    itemsVarName);
+            fields.add(String.format("%s: %s", recordFieldName,
+                    nullableList ? String.format("%s is () ? () : %s", itemsVarName, stream) : stream));
+        }
+        statement.append("return {").append(String.join(", ", fields)).append("};");
+        statement.append("} on fail var e {");
+        statement.append("return error graphql:RequestError(\"GraphQL Client Error\", e);");
+        statement.append("}");
+        return NodeParser.parseStatement(statement.toString());
+    }
+
+    /**
+     * Gets the type of the {@code graphqlResponse} variable of a remote function executing the operation with the
+     * GraphQL client. The GraphQL client binds the whole response, i.e. the {@code data} and the {@code extensions},
+     * so the response is bound to a record wrapping the response type of the operation in its {@code data} field.
+     * The type is {@code json} if the operation has lazily bound fields, which are bound field by field afterwards,
+     * or if the {@code extensions} of the response are bound to the response record afterwards.
+     * <pre>
+     * record {|CountryResponse data; map&lt;json?&gt; extensions?;|}
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param bindExtensions  whether the {@code extensions} of the response are bound to the response record
+     * @return the node which represent the type of the {@code graphqlResponse} variable
+     */
+    private TypeDescriptorNode getGraphqlResponseTypeDescriptor(ExtendedOperationDefinition queryDefinition,
+                                                                boolean bindExtensions) {
+        if (queryDefinition.hasLazyFields() || bindExtensions) {
+            return NodeFactory.createBuiltinSimpleNameReferenceNode(null, createToken(JSON_KEYWORD));
+        }
+        return NodeParser.parseTypeDescriptor(String.format("record {|%s %s; map<json?> extensions?;|}",
+                CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName()), RESPONSE_DATA_FIELD_NAME));
+    }
+
+    /**
+     * Gets the time-to-live of the cached responses of a query, which is configured for the query in the extensions,
+     * or else hinted with the `@cacheControl` directive in the schema, or else the default time-to-live configured
+     * in the extensions.
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param responseCache   the response cache configuration, {@code null} if the responses are not cached
+     * @return the time-to-live in seconds, or {@code null} if the responses of the query are not cached
+     */
+    private static Integer getResponseCacheTtl(ExtendedOperationDefinition queryDefinition,
+                                               GraphQLSchema graphQLSchema, Cache responseCache) {
+        if (responseCache == null) {
+            return null;
+        }
+        Integer ttl;
+        if (responseCache.getOperations() != null && responseCache.getOperations().containsKey(
+                queryDefinition.getName())) {
+            ttl = responseCache.getOperations().get(queryDefinition.getName());
+        } else {
+            Integer maxAge = queryDefinition.getCacheControlMaxAge(graphQLSchema);
+            ttl = maxAge != null ? maxAge : responseCache.getDefaultTtl();
+        }
+        return ttl != null && ttl > 0 ? ttl : null;
+    }
+
+    /**
+     * Generates the statements of a remote function of a query returning the cached response of the query.
+     * <pre>
+     * string cacheKey = getRequestKey(query, variables);
+     * DataResponse &amp; readonly? cachedResponse = self.responseCache.get(cacheKey);
+     * if cachedResponse is CountryResponse {
+     *     return cachedResponse;
+     * }
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @return the nodes which represent the cache lookup statements
+     */
+    private List<StatementNode> generateResponseCacheLookupStatementNodes(ExtendedOperationDefinition queryDefinition) {
+        String responseTypeName = CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName());
+        return List.of(
+                NodeParser.parseStatement(String.format("string %s = getRequestKey(%s, %s);", CACHE_KEY_VAR_NAME,
+                        QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME)),
+                NodeParser.parseStatement(String.format("DataResponse & readonly? %s = %s.%s.get(%s);",
+                        CACHED_RESPONSE_VAR_NAME, SELF, RESPONSE_CACHE, CACHE_KEY_VAR_NAME)),
+                NodeParser.parseStatement(String.format("if %s is %s { return %s; }", CACHED_RESPONSE_VAR_NAME,
+                        responseTypeName, CACHED_RESPONSE_VAR_NAME)));
+    }
+
+    /**
+     * Generates the statements of a remote function of a query caching and returning the response of the query.
+     * <pre>
+     * CountryResponse &amp; readonly readOnlyResponse = graphqlResponse.data.cloneReadOnly();
+     * self.responseCache.put(cacheKey, readOnlyResponse, 3600);
+     * return readOnlyResponse;
+     * </pre>
      *
      * @param queryDefinition the object instance of a single query definition in a query document
-     * @return the node which represent the return statement for a remote function with Http headers
+     * @param responseData    the expression which binds the response data
+     * @param cacheTtl        the time-to-live of the cached response in seconds
+     * @return the nodes which represent the cache update statements
      */
-    private ReturnStatementNode generateReturnStatementNode(
-            ExtendedOperationDefinition queryDefinition) {
-        SimpleNameReferenceNode expr = NodeFactory.createSimpleNameReferenceNode(
-                createIdentifierToken(
-                        CodeGeneratorUtils.getRemoteFunctionBodyReturnTypeName(queryDefinition.getName())));
-        return NodeFactory.createReturnStatementNode(createToken(RETURN_KEYWORD), expr, createToken(SEMICOLON_TOKEN));
+    private List<StatementNode> generateResponseCacheUpdateStatementNodes(ExtendedOperationDefinition queryDefinition,
+                                                                          String responseData, int cacheTtl) {
+        String responseTypeName = CodeGeneratorUtils.getResponseTypeName(queryDefinition.getName());
+        // The type cast of the data bound with the {@code performDataBinding} function is parenthesized
+        String clonedResponseData = responseData.startsWith("<") ? "(" + responseData + ")" : responseData;
+        return List.of(
+                NodeParser.parseStatement(String.format("%s & readonly %s = %s.%s();", responseTypeName,
+                        READ_ONLY_RESPONSE_VAR_NAME, clonedResponseData, CLONE_READ_ONLY)),
+                NodeParser.parseStatement(String.format("%s.%s.put(%s, %s, %d);", SELF, RESPONSE_CACHE,
+                        CACHE_KEY_VAR_NAME, READ_ONLY_RESPONSE_VAR_NAME, cacheTtl)),
+                NodeParser.parseStatement(String.format("return %s;", READ_ONLY_RESPONSE_VAR_NAME)));
+    }
+
+    /**
+     * Generates the {@code graphqlResponse} variable declaration node for a remote function of a query, which is
+     * executed with the request coalescer of the client. The coalesced queries share the {@code json} response,
+     * which is bound to the response type of the operation by each of them.
+     * <pre>
+     * json graphqlResponse = check self.requestCoalescer.execute(self.graphqlClient, query,
+     *         variables.cloneReadOnly());
+     * </pre>
+     *
+     * @param withHttpHeaders whether the request carries the {@code httpHeaders}
+     * @return the node which represent the {@code graphqlResponse} variable declaration
+     */
+    private StatementNode generateCoalescedGraphqlResponseVariableDeclarationNode(boolean withHttpHeaders) {
+        List<String> arguments = new ArrayList<>(List.of(SELF + "." + GRAPHQL_CLIENT, QUERY_VAR_NAME,
+                GRAPHQL_VARIABLES_VAR_NAME + "." + CLONE_READ_ONLY + "()"));
+        if (withHttpHeaders) {
+            arguments.add(HTTP_HEADERS_VARIABLES_VAR_NAME + "." + CLONE_READ_ONLY + "()");
+        }
+        return NodeParser.parseStatement(String.format("json %s = check %s.%s.execute(%s);",
+                GRAPHQL_RESPONSE_VAR_NAME, SELF, REQUEST_COALESCER, String.join(", ", arguments)));
     }
 
     /**
      * Generate the {@code graphqlResponse} variable declaration node for a remote function.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
+     * @param bindExtensions  whether the {@code extensions} of the response are bound to the response record
      * @return the node which represent the {@code graphqlResponse} variable declaration
      */
     private VariableDeclarationNode generateGraphqlResponseVariableDeclarationNode(
-            ExtendedOperationDefinition queryDefinition) {
+            ExtendedOperationDefinition queryDefinition, boolean bindExtensions) {
         NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
 
-        // {@code json graphqlResponse} declaration
-        BuiltinSimpleNameReferenceNode typeDescriptor = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
-                createToken(JSON_KEYWORD));
+        // {@code record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse} declaration
+        TypeDescriptorNode typeDescriptor = getGraphqlResponseTypeDescriptor(queryDefinition, bindExtensions);
         CaptureBindingPatternNode bindingPattern = NodeFactory.createCaptureBindingPatternNode(
                 createIdentifierToken(GRAPHQL_RESPONSE_VAR_NAME));
         TypedBindingPatternNode typedBindingPatternNode = NodeFactory.createTypedBindingPatternNode(typeDescriptor,
@@ -605,15 +1012,15 @@ public class FunctionBodyGenerator {
      * Generate the {@code graphqlResponse} variable declaration node for a remote function with Http headers.
      *
      * @param queryDefinition the object instance of a single query definition in a query document
+     * @param bindExtensions  whether the {@code extensions} of the response are bound to the response record
      * @return the node which represent the {@code graphqlResponse} variable declaration
      */
     private VariableDeclarationNode generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(
-            ExtendedOperationDefinition queryDefinition) {
+            ExtendedOperationDefinition queryDefinition, boolean bindExtensions) {
         NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
 
-        // {@code json graphqlResponse} declaration
-        BuiltinSimpleNameReferenceNode typeDescriptor = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
-                createToken(JSON_KEYWORD));
+        // {@code record {|CountryResponse data; map<json?> extensions?;|} graphqlResponse} declaration
+        TypeDescriptorNode typeDescriptor = getGraphqlResponseTypeDescriptor(queryDefinition, bindExtensions);
         CaptureBindingPatternNode bindingPattern = NodeFactory.createCaptureBindingPatternNode(
                 createIdentifierToken(GRAPHQL_RESPONSE_VAR_NAME));
         TypedBindingPatternNode typedBindingPatternNode = NodeFactory.createTypedBindingPatternNode(typeDescriptor,
@@ -659,4 +1066,39 @@ public class FunctionBodyGenerator {
         return NodeFactory.createVariableDeclarationNode(annotationNodes, null, typedBindingPatternNode,
                 createToken(EQUAL_TOKEN), initializer, createToken(SEMICOLON_TOKEN));
     }
+
+    /**
+     * Generate the {@code graphqlResponse} variable declaration node for a remote function executing the operation
+     * with the HTTP client, either with the Automatic Persisted Queries protocol or with the HTTP GET method.
+     * <pre>
+     * json graphqlResponse = check executePersistedQuery(self.httpClient, query, COUNTRY_DOCUMENT_HASH, variables);
+     * json graphqlResponse = check executeWithGet(self.httpClient, query, variables);
+     * </pre>
+     *
+     * @param queryDefinition  the object instance of a single query definition in a query document
+     * @param withHttpHeaders  whether the {@code httpHeaders} are sent along with the request
+     * @param persisted        whether the operation is executed with the Automatic Persisted Queries protocol
+     * @param useGet           whether the operation is executed with the HTTP GET method
+     * @return the node which represent the {@code graphqlResponse} variable declaration
+     */
+    private StatementNode generateHttpClientResponseVariableDeclarationNode(
+            ExtendedOperationDefinition queryDefinition, boolean withHttpHeaders, boolean persisted, boolean useGet) {
+        List<String> arguments = new ArrayList<>(List.of(SELF + "." + HTTP_CLIENT, QUERY_VAR_NAME));
+        if (persisted) {
+            arguments.add(CodeGeneratorUtils.getOperationDocumentHashConstantName(queryDefinition.getName()));
+        }
+        arguments.add(GRAPHQL_VARIABLES_VAR_NAME);
+        if (withHttpHeaders) {
+            arguments.add(HTTP_HEADERS_VARIABLES_VAR_NAME);
+        }
+        String functionName = EXECUTE_WITH_GET;
+        if (persisted) {
+            functionName = EXECUTE_PERSISTED_QUERY;
+            if (useGet) {
+                arguments.add(USE_GET_ARG_NAME + " = true");
+            }
+        }
+        return NodeParser.parseStatement(String.format("json %s = check %s(%s);", GRAPHQL_RESPONSE_VAR_NAME,
+                functionName, String.join(COMMA + " ", arguments)));
+    }
 }
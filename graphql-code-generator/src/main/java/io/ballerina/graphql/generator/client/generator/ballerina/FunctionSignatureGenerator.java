@@ -33,12 +33,14 @@ import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedConnectionDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -60,9 +62,12 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATIONS_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATION_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_EXPRESSION;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EXECUTE_BATCH_RETURN_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INIT_RETURN_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.NULLABLE_EXPRESSION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUESTION_MARK;
@@ -75,7 +80,7 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIden
 public class FunctionSignatureGenerator {
     private static FunctionSignatureGenerator functionSignatureGenerator = null;
 
-    public static FunctionSignatureGenerator getInstance() {
+    public static synchronized FunctionSignatureGenerator getInstance() {
         if (functionSignatureGenerator == null) {
             functionSignatureGenerator = new FunctionSignatureGenerator();
         }
@@ -124,6 +129,78 @@ public class FunctionSignatureGenerator {
                 createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
     }
 
+    /**
+     * Generates the signature of the client class remote function iterating over the nodes of the connection
+     * selected by an operation, which has the parameters of the remote function of the operation except the `after`
+     * cursor, e.g. {@code (int? first = ()) returns stream<CountriesNode, error?>}.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param connectionDefinition  the connection selected by the operation
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the node which represent the connection stream function signature
+     */
+    public FunctionSignatureNode generateConnectionStreamFunctionSignature(
+            ExtendedOperationDefinition queryDefinition, ExtendedConnectionDefinition connectionDefinition,
+            GraphQLSchema graphQLSchema) {
+        Map<String, FieldType> variableDefinitionsMap =
+                new LinkedHashMap<>(queryDefinition.getVariableDefinitionsMap(graphQLSchema));
+        variableDefinitionsMap.remove(connectionDefinition.getAfterVariableName());
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
+                generateRemoteFunctionParams(variableDefinitionsMap));
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(String.format("stream<%s, error?>",
+                        CodeGeneratorUtils.getConnectionNodeTypeName(queryDefinition.getName()))));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the signature of the module-level function creating the operation of a batched request, which has
+     * the parameters of the remote function of the operation.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the node which represent the batch operation function signature
+     */
+    public FunctionSignatureNode generateBatchOperationFunctionSignature(ExtendedOperationDefinition queryDefinition,
+                                                                         GraphQLSchema graphQLSchema) {
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
+                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(graphQLSchema)));
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(BATCH_OPERATION_TYPE_NAME));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the client class {@code executeBatch} remote function signature.
+     *
+     * @return                      the node which represent the {@code executeBatch} remote function signature
+     */
+    public FunctionSignatureNode generateExecuteBatchFunctionSignature() {
+        BuiltinSimpleNameReferenceNode operationsTypeName = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(BATCH_OPERATION_TYPE_NAME + "[]"));
+        RequiredParameterNode operationsNode = createRequiredParameterNode(createEmptyNodeList(), operationsTypeName,
+                createIdentifierToken(BATCH_OPERATIONS_PARAM_NAME));
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(operationsNode);
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(EXECUTE_BATCH_RETURN_TYPE));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
     /**
      * Generates the client class init function parameters.
      *
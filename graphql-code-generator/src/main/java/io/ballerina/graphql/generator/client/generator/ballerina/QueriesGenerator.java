@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.ballerina;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
+import io.ballerina.graphql.generator.client.DocumentStore;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createConstantDeclarationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CONST_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+
+/**
+ * This class is used to generate the ballerina queries file, which holds the query document of each operation of
+ * the client as a module-level constant, so that the remote functions do not build it on every call. With persisted
+ * queries, the SHA-256 hash of each query document is held in a constant as well.
+ */
+public class QueriesGenerator {
+    private static final String MESSAGE_FOR_DUPLICATE_DOCUMENT_CONSTANT_NAME = "The operations \"%s\" and \"%s\" " +
+            "map to the same constant name \"%s\" for their query documents. Rename one of the operations.";
+    private static QueriesGenerator queriesGenerator = null;
+
+    public static synchronized QueriesGenerator getInstance() {
+        if (queriesGenerator == null) {
+            queriesGenerator = new QueriesGenerator();
+        }
+        return queriesGenerator;
+    }
+
+    /**
+     * Generates the queries file content.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentStore                     the store holding the parsed query documents of the project
+     * @return                                  the queries file content
+     * @throws ClientGenerationException        when a queries code generation error occurs
+     */
+    public String generateSrc(List<String> queryDocuments, DocumentStore documentStore)
+            throws ClientGenerationException {
+        return generateSrc(queryDocuments, documentStore, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the queries file content with the given generation options.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentStore                     the store holding the parsed query documents of the project
+     * @param options                           the options of the client generation
+     * @return                                  the queries file content
+     * @throws ClientGenerationException        when a queries code generation error occurs
+     */
+    public String generateSrc(List<String> queryDocuments, DocumentStore documentStore,
+                              ClientGenerationOptions options) throws ClientGenerationException {
+        try {
+            return Formatter.format(generateSyntaxTree(queryDocuments, documentStore, options)).toString();
+        } catch (FormatterException | IOException e) {
+            throw new ClientGenerationException(e.getMessage());
+        }
+    }
+
+    /**
+     * Generates the queries syntax tree.
+     *
+     * @param queryDocuments            the list of names of the query documents
+     * @param documentStore             the store holding the parsed query documents of the project
+     * @return                          Syntax tree for the Ballerina queries file code
+     * @throws IOException              If an I/O error occurs
+     * @throws ClientGenerationException when two operations map to the same constant name
+     */
+    public SyntaxTree generateSyntaxTree(List<String> queryDocuments, DocumentStore documentStore)
+            throws IOException, ClientGenerationException {
+        return generateSyntaxTree(queryDocuments, documentStore, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the queries syntax tree with the given generation options.
+     *
+     * @param queryDocuments            the list of names of the query documents
+     * @param documentStore             the store holding the parsed query documents of the project
+     * @param options                   the options of the client generation
+     * @return                          Syntax tree for the Ballerina queries file code
+     * @throws IOException              If an I/O error occurs
+     * @throws ClientGenerationException when two operations map to the same constant name
+     */
+    public SyntaxTree generateSyntaxTree(List<String> queryDocuments, DocumentStore documentStore,
+                                         ClientGenerationOptions options)
+            throws IOException, ClientGenerationException {
+        NodeList<ImportDeclarationNode> imports = createEmptyNodeList();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        // The constant names drop the case of the operation names, e.g. both `getCountry` and `get_country` map to
+        // `GET_COUNTRY_DOCUMENT`, so the operations owning each constant name are tracked to report such clashes
+        Map<String, String> operationNamesOfConstants = new HashMap<>();
+        for (String queryDocument : queryDocuments) {
+            for (ExtendedOperationDefinition queryDefinition :
+                    documentStore.getQueryReader(queryDocument).getExtendedOperationDefinitions()) {
+                String constantName = CodeGeneratorUtils.getOperationDocumentConstantName(queryDefinition.getName());
+                String clashingOperationName = operationNamesOfConstants.putIfAbsent(constantName,
+                        queryDefinition.getName());
+                if (clashingOperationName != null) {
+                    throw new ClientGenerationException(String.format(MESSAGE_FOR_DUPLICATE_DOCUMENT_CONSTANT_NAME,
+                            clashingOperationName, queryDefinition.getName(), constantName));
+                }
+                members.add(generateStringConstant(constantName, queryDefinition.getQueryString()));
+                if (options.isPersistedQueries()) {
+                    members.add(generateStringConstant(
+                            CodeGeneratorUtils.getOperationDocumentHashConstantName(queryDefinition.getName()),
+                            queryDefinition.getQueryStringHash()));
+                }
+            }
+        }
+
+        ModulePartNode modulePartNode =
+                createModulePartNode(imports, createNodeList(members), createToken(EOF_TOKEN));
+
+        TextDocument textDocument = TextDocuments.from(EMPTY_STRING);
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return syntaxTree.modifyWith(modulePartNode);
+    }
+
+    /**
+     * Generates a {@code public const string <NAME> = "<value>";} declaration, e.g. the constant holding the query
+     * document of an operation.
+     *
+     * @param constantName              the name of the constant
+     * @param value                     the string value of the constant
+     * @return                          the node which represent the constant declaration
+     */
+    private ModuleMemberDeclarationNode generateStringConstant(String constantName, String value) {
+        return createConstantDeclarationNode(null, createToken(PUBLIC_KEYWORD), createToken(CONST_KEYWORD),
+                createBuiltinSimpleNameReferenceNode(SyntaxKind.STRING_TYPE_DESC, createToken(STRING_KEYWORD)),
+                createIdentifierToken(constantName),
+                createToken(EQUAL_TOKEN),
+                createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
+                        createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, getStringLiteral(value),
+                                createEmptyMinutiaeList(), createEmptyMinutiaeList())),
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Gets the Ballerina string literal of a given value, escaping the characters which can not appear in it as is.
+     *
+     * @param value                     the string value
+     * @return                          the quoted string literal
+     */
+    private static String getStringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    literal.append(character);
+            }
+        }
+        return literal.append("\"").toString();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.ballerina;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the syntax trees of the Ballerina source templates bundled with the tool, keyed by their resource name.
+ * Each template is read from the classpath and parsed at most once per JVM. Syntax trees are immutable, so the
+ * parsed trees are shared by all the generations of a run.
+ */
+public class TemplateStore {
+    public static final String UTILS_TEMPLATE = "templates/utils_graphql.bal";
+    public static final String CONFIG_TYPES_TEMPLATE = "templates/config_types_graphql.bal";
+    public static final String CONNECTION_TEMPLATE = "templates/connection_graphql.bal";
+
+    private static TemplateStore templateStore = null;
+
+    private final Map<String, SyntaxTree> syntaxTrees = new ConcurrentHashMap<>();
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    public static synchronized TemplateStore getInstance() {
+        if (templateStore == null) {
+            templateStore = new TemplateStore();
+        }
+        return templateStore;
+    }
+
+    /**
+     * Returns the syntax tree of a given template, parsing it on first access.
+     *
+     * @param templateName          the resource name of the template
+     * @return                      the syntax tree of the template
+     * @throws IOException          If the template can not be read from the classpath
+     */
+    public SyntaxTree getSyntaxTree(String templateName) throws IOException {
+        SyntaxTree syntaxTree = syntaxTrees.get(templateName);
+        if (syntaxTree == null) {
+            syntaxTree = parseTemplate(templateName);
+            SyntaxTree existingSyntaxTree = syntaxTrees.putIfAbsent(templateName, syntaxTree);
+            if (existingSyntaxTree != null) {
+                syntaxTree = existingSyntaxTree;
+            }
+        }
+        return syntaxTree;
+    }
+
+    /**
+     * Gets the number of templates parsed by this store.
+     *
+     * @return                      the number of templates parsed
+     */
+    public int getParseCount() {
+        return parseCount.get();
+    }
+
+    private SyntaxTree parseTemplate(String templateName) throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(templateName)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the template " + templateName + " in the classpath.");
+            }
+            String template = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            parseCount.incrementAndGet();
+            return SyntaxTree.from(TextDocuments.from(template));
+        }
+    }
+}
@@ -24,6 +24,8 @@ import graphql.language.InlineFragment;
 import graphql.language.Selection;
 import graphql.language.SelectionSet;
 import graphql.schema.GraphQLSchema;
+import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
+import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
@@ -31,9 +33,11 @@ import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.DocumentStore;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedConnectionDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFieldDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFragmentDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
@@ -45,44 +49,61 @@ import org.apache.commons.logging.LogFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayDimensionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createErrorTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIncludedRecordParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createStreamTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createStreamTypeParamsNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ASTERISK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACKET_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.GT_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.LT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACKET_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STREAM_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.FRAGMENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MUTATION;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.NEW_LINE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
+import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.getConnectionNodeTypeName;
 
 /**
  * This class is used to generate ballerina types file according to given SDL and query files.
  */
 public class TypesGenerator {
     private static final Log log = LogFactory.getLog(TypesGenerator.class);
+    private static final char QUESTION_MARK = '?';
+    private static final char OPEN_BRACKET = '[';
     private static TypesGenerator typesGenerator = null;
 
-    public static TypesGenerator getInstance() {
+    public static synchronized TypesGenerator getInstance() {
         if (typesGenerator == null) {
             typesGenerator = new TypesGenerator();
         }
@@ -94,11 +115,12 @@ public class TypesGenerator {
      *
      * @param schema                    the object instance of the GraphQL schema (SDL)
      * @param documents                 the list of documents of a given GraphQL project
+     * @param documentStore             the store holding the parsed query documents of the project
      * @param typeDefinitionNodeList    the list of TypeDefinitionNodes
      * @throws IOException              If an I/O error occurs
      */
-    protected void addQueryResponseRecords(GraphQLSchema schema, List<String> documents, List<TypeDefinitionNode>
-            typeDefinitionNodeList) throws IOException {
+    protected void addQueryResponseRecords(GraphQLSchema schema, List<String> documents, DocumentStore documentStore,
+                                           List<TypeDefinitionNode> typeDefinitionNodeList) throws IOException {
         String queryObjectTypeName = QUERY;
         String mutationObjectTypeName = MUTATION;
         if (schema.getQueryType() != null) {
@@ -107,14 +129,14 @@ public class TypesGenerator {
         if (schema.getMutationType() != null) {
             mutationObjectTypeName = schema.getMutationType().getName();
         }
-        Map<String, FieldType> queryFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, queryObjectTypeName);
-        Map<String, FieldType> mutationFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, mutationObjectTypeName);
-        queryFieldsMap.putAll(mutationFieldsMap);
+        Map<String, FieldType> queryFieldsMap =
+                new HashMap<>(SpecReader.getObjectTypeFieldsMap(schema, queryObjectTypeName));
+        queryFieldsMap.putAll(SpecReader.getObjectTypeFieldsMap(schema, mutationObjectTypeName));
         RecordFieldNode extensionsFieldNode = getExtensionsRecField();
         Map<String, String> fragmentRecordsMap = new HashMap<>();
 
         for (String document: documents) {
-            QueryReader queryReader = new QueryReader(Utils.getGraphQLQueryDocument(document));
+            QueryReader queryReader = documentStore.getQueryReader(document);
             for (ExtendedOperationDefinition definition: queryReader.getExtendedOperationDefinitions()) {
                 String queryName = definition.getName();
                 // Record field nodes of the Query record
@@ -147,8 +169,12 @@ public class TypesGenerator {
                             createToken(OPEN_BRACE_PIPE_TOKEN), recFieldNodesOfInlineRecord, null,
                             createToken(CLOSE_BRACE_PIPE_TOKEN));
 
+                    String fieldTypeTokens = queryFieldsMap.get(fieldName).getTokens();
+                    TypeDescriptorNode fieldTypeDescriptorNode = extendedFieldDefinition.isLazy() ?
+                            createLazyFieldTypeDescriptor(inlineRecord, fieldTypeTokens) :
+                            createFieldTypeDescriptor(inlineRecord, fieldTypeTokens);
                     RecordFieldNode queryRecordFieldNode = createRecordFieldNode(null, null,
-                            createIdentifierToken(inlineRecord + queryFieldsMap.get(fieldName).getTokens()),
+                            fieldTypeDescriptorNode,
                             createIdentifierToken(escapeIdentifier(recordFieldName)),
                             null,
                             createToken(SEMICOLON_TOKEN));
@@ -169,10 +195,58 @@ public class TypesGenerator {
                         queryResponseRecord,
                         createToken(SEMICOLON_TOKEN));
                 typeDefinitionNodeList.add(typeDefNode);
+
+                ExtendedConnectionDefinition connectionDefinition = definition.getConnectionDefinition(schema);
+                if (connectionDefinition != null) {
+                    addConnectionNodeRecord(connectionDefinition, queryName, schema, queryReader,
+                            typeDefinitionNodeList, fragmentRecordsMap);
+                }
             }
         }
     }
 
+    /**
+     * Create the record of the nodes of the connection selected by a query, which are iterated over by the stream
+     * of the query.
+     * <pre>
+     *     public type CountriesNode record {|
+     *         string name;
+     *     |};
+     * </pre>
+     *
+     * @param connectionDefinition      the connection selected by the query
+     * @param queryName                 the name of the query
+     * @param schema                    the object instance of the GraphQL schema (SDL)
+     * @param queryReader               the reader of the query document
+     * @param typeDefinitionNodeList    the list of TypeDefinitionNodes
+     * @param fragmentRecordsMap        the records of the fragments created so far, by the fragment name
+     */
+    private void addConnectionNodeRecord(ExtendedConnectionDefinition connectionDefinition, String queryName,
+                                         GraphQLSchema schema, QueryReader queryReader,
+                                         List<TypeDefinitionNode> typeDefinitionNodeList,
+                                         Map<String, String> fragmentRecordsMap) {
+        String nodeTypeName = connectionDefinition.getNodeTypeName();
+        List<Node> nodeRecordFieldList = new ArrayList<>();
+        SelectionData selectionData = new SelectionData(nodeTypeName,
+                SpecReader.getObjectTypeFieldsMap(schema, nodeTypeName), schema, queryReader, nodeRecordFieldList,
+                typeDefinitionNodeList, fragmentRecordsMap);
+        for (Selection selection: connectionDefinition.getNodeSelectionSet().getSelections()) {
+            handleSelection(selection, selectionData);
+        }
+
+        RecordTypeDescriptorNode nodeRecord = createRecordTypeDescriptorNode(
+                createToken(RECORD_KEYWORD),
+                createToken(OPEN_BRACE_PIPE_TOKEN), createNodeList(nodeRecordFieldList), null,
+                createToken(CLOSE_BRACE_PIPE_TOKEN));
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+        typeDefinitionNodeList.add(createTypeDefinitionNode(metadataNode,
+                createToken(PUBLIC_KEYWORD),
+                createToken(TYPE_KEYWORD),
+                createIdentifierToken(getConnectionNodeTypeName(queryName)),
+                nodeRecord,
+                createToken(SEMICOLON_TOKEN)));
+    }
+
 
     /**
      * Handle a Selection and create record field nodes according to its type.
@@ -204,7 +278,7 @@ public class TypesGenerator {
                         createEmptyNodeList(),
                         createToken(ASTERISK_TOKEN),
                         createIdentifierToken(fragmentTypeName),
-                        createIdentifierToken(createToken(SEMICOLON_TOKEN) + NEW_LINE)
+                        createToken(SEMICOLON_TOKEN)
                 )
         );
 
@@ -227,12 +301,12 @@ public class TypesGenerator {
             createInlineRecordField(field, selectionData);
         } else {
             String fieldName = field.getName();
-            String typeOfField = selectionData.getFieldsOfSelectionType().get(fieldName).getFieldTypeAsString();
+            FieldType typeOfField = selectionData.getFieldsOfSelectionType().get(fieldName);
             selectionData.getFieldsOfInlineRecord().add(createRecordFieldNode(null, null,
-                    createIdentifierToken(typeOfField + WHITESPACE),
+                    createFieldTypeDescriptor(typeOfField),
                     createIdentifierToken(fieldName),
                     null,
-                    createIdentifierToken(createToken(SEMICOLON_TOKEN) + NEW_LINE)
+                    createToken(SEMICOLON_TOKEN)
             ));
         }
     }
@@ -259,10 +333,9 @@ public class TypesGenerator {
                             createInlineRecordField(field, fragmentSelData);
                         } else {
                             String fieldName = field.getName();
-                            String typeOfField = fragmentSelData.getFieldsOfSelectionType().get(fieldName)
-                                    .getFieldTypeAsString();
+                            FieldType typeOfField = fragmentSelData.getFieldsOfSelectionType().get(fieldName);
                             recordFieldList.add(createRecordFieldNode(null, null,
-                                    createIdentifierToken(typeOfField + WHITESPACE),
+                                    createFieldTypeDescriptor(typeOfField),
                                     createIdentifierToken(fieldName),
                                     null,
                                     createToken(SEMICOLON_TOKEN)
@@ -338,7 +411,7 @@ public class TypesGenerator {
         );
 
         selectionData.getFieldsOfInlineRecord().add(createRecordFieldNode(null, null,
-                createIdentifierToken(typeDescriptorNode + objectFieldsMap.get(inlineRecordFieldName).getTokens()),
+                createFieldTypeDescriptor(typeDescriptorNode, objectFieldsMap.get(inlineRecordFieldName).getTokens()),
                 createIdentifierToken(inlineRecordFieldName),
                 null,
                 createToken(SEMICOLON_TOKEN))
@@ -346,13 +419,111 @@ public class TypesGenerator {
     }
 
     /**
-     * Create Input records and add it to the typeDefinitionNodeList.
+     * Create the type descriptor node of a record field from the Ballerina field type.
+     * -- ex: If the field type is `string` with the tokens `?[]`, the type descriptor will be `string?[]`
+     *
+     * @param fieldType     the Ballerina field type
+     * @return              the type descriptor node of the record field
+     */
+    private TypeDescriptorNode createFieldTypeDescriptor(FieldType fieldType) {
+        return createFieldTypeDescriptor(createSimpleNameReferenceNode(createIdentifierToken(fieldType.getName())),
+                fieldType.getTokens());
+    }
+
+    /**
+     * Wrap the given type descriptor node with the optional and array type descriptors of the given type tokens.
+     * The type descriptor is built as proper syntax nodes, so that a single formatting pass formats the nested
+     * inline records as well.
+     *
+     * @param typeDescriptorNode    the type descriptor node to be wrapped
+     * @param tokens                the type tokens of the field, e.g. `?[]?`, or `?[]?[]?` for a nested list
+     * @return                      the wrapped type descriptor node
+     */
+    private TypeDescriptorNode createFieldTypeDescriptor(TypeDescriptorNode typeDescriptorNode, String tokens) {
+        TypeDescriptorNode fieldTypeDescriptorNode = typeDescriptorNode;
+        for (int tokenIdx = 0; tokenIdx < tokens.length(); tokenIdx++) {
+            if (tokens.charAt(tokenIdx) == QUESTION_MARK) {
+                fieldTypeDescriptorNode = createOptionalTypeDescriptorNode(fieldTypeDescriptorNode,
+                        createToken(QUESTION_MARK_TOKEN));
+            } else if (tokens.charAt(tokenIdx) == OPEN_BRACKET) {
+                ArrayDimensionNode arrayDimensionNode = createArrayDimensionNode(createToken(OPEN_BRACKET_TOKEN),
+                        null, createToken(CLOSE_BRACKET_TOKEN));
+                // A list of non-nullable lists, e.g. `string[][]`, is a single array type with several dimensions
+                if (fieldTypeDescriptorNode instanceof ArrayTypeDescriptorNode) {
+                    ArrayTypeDescriptorNode arrayTypeDescriptorNode = (ArrayTypeDescriptorNode) fieldTypeDescriptorNode;
+                    fieldTypeDescriptorNode = createArrayTypeDescriptorNode(arrayTypeDescriptorNode.memberTypeDesc(),
+                            arrayTypeDescriptorNode.dimensions().add(arrayDimensionNode));
+                } else {
+                    fieldTypeDescriptorNode = createArrayTypeDescriptorNode(fieldTypeDescriptorNode,
+                            createNodeList(arrayDimensionNode));
+                }
+            }
+        }
+        return fieldTypeDescriptorNode;
+    }
+
+    /**
+     * Creates the type descriptor of a list field bound lazily, i.e. a stream of the items of the list, which binds
+     * each item when it is reached.
+     * <pre>
+     *     stream&lt;record {| string name; |}, error?&gt; countries;
+     * </pre>
+     *
+     * @param itemTypeDescriptorNode    the type descriptor node of the items of the list
+     * @param tokens                    the type tokens of the field, e.g. `[]?`
+     * @return                          the stream type descriptor node
+     */
+    private TypeDescriptorNode createLazyFieldTypeDescriptor(TypeDescriptorNode itemTypeDescriptorNode,
+                                                             String tokens) {
+        int listTokenIdx = tokens.lastIndexOf(OPEN_BRACKET);
+        if (listTokenIdx < 0) {
+            return createFieldTypeDescriptor(itemTypeDescriptorNode, tokens);
+        }
+        TypeDescriptorNode completionTypeDescriptorNode = createOptionalTypeDescriptorNode(
+                createErrorTypeDescriptorNode(createToken(ERROR_KEYWORD), null), createToken(QUESTION_MARK_TOKEN));
+        TypeDescriptorNode streamTypeDescriptorNode = createStreamTypeDescriptorNode(createToken(STREAM_KEYWORD),
+                createStreamTypeParamsNode(createToken(LT_TOKEN),
+                        createFieldTypeDescriptor(itemTypeDescriptorNode, tokens.substring(0, listTokenIdx)),
+                        createToken(COMMA_TOKEN), completionTypeDescriptorNode, createToken(GT_TOKEN)));
+        return createFieldTypeDescriptor(streamTypeDescriptorNode, tokens.substring(listTokenIdx + 1));
+    }
+
+    /**
+     * Create Input records for all the input object types of the schema and add it to the typeDefinitionNodeList.
      *
      * @param schema                        the object instance of the GraphQL schema (SDL)
      * @param typeDefinitionNodeList        the list of typeDefinitionNodes
      */
     protected void addInputRecords(GraphQLSchema schema, List<TypeDefinitionNode> typeDefinitionNodeList) {
-        List<String> inputObjectTypes = SpecReader.getInputObjectTypeNames(schema);
+        addInputRecords(schema, SpecReader.getInputObjectTypeNames(schema), typeDefinitionNodeList);
+    }
+
+    /**
+     * Create Input records for the input object types reachable from the variables of the operations in the given
+     * documents and add it to the typeDefinitionNodeList.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentStore                 the store holding the parsed query documents of the project
+     * @param typeDefinitionNodeList        the list of typeDefinitionNodes
+     * @throws IOException                  If an I/O error occurs
+     */
+    protected void addReachableInputRecords(GraphQLSchema schema, List<String> documents,
+                                            DocumentStore documentStore,
+                                            List<TypeDefinitionNode> typeDefinitionNodeList) throws IOException {
+        Set<String> variableTypeNames = new HashSet<>();
+        for (String document : documents) {
+            QueryReader queryReader = documentStore.getQueryReader(document);
+            for (ExtendedOperationDefinition definition : queryReader.getExtendedOperationDefinitions()) {
+                variableTypeNames.addAll(definition.getVariableTypeNames());
+            }
+        }
+        addInputRecords(schema, SchemaIndex.of(schema).getReachableInputObjectTypeNames(variableTypeNames),
+                typeDefinitionNodeList);
+    }
+
+    private void addInputRecords(GraphQLSchema schema, List<String> inputObjectTypes,
+                                 List<TypeDefinitionNode> typeDefinitionNodeList) {
         for (String inputObjectType: inputObjectTypes) {
             List<Node> recordFieldList = new ArrayList<>();
             Map<String, FieldType> inputTypeFieldsMap = SpecReader.getInputTypeFieldsMap(schema, inputObjectType);
@@ -19,6 +19,7 @@
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
 import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -28,30 +29,19 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.ClientGenerationOptions;
 import io.ballerina.graphql.generator.client.exception.UtilsGenerationException;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -63,16 +53,30 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinition
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATION_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE_CLASS_NAME;
 
 /**
  * This class is used to generate utility functions in the ballerina utils file.
  */
 public class UtilsGenerator {
-    private static final Log log = LogFactory.getLog(UtilsGenerator.class);
+    private static final Set<String> HTTP_REQUEST_FUNCTION_NAMES =
+            Set.of("sendGraphqlRequest", "getRequestPath", "getGraphqlResponse");
+    private static final Set<String> PERSISTED_QUERY_FUNCTION_NAMES =
+            Set.of("executePersistedQuery", "isPersistedQueryNotFound");
+    private static final String HTTP_GET_QUERY_FUNCTION_NAME = "executeWithGet";
+    private static final Set<String> BATCH_OPERATION_FUNCTION_NAMES =
+            Set.of("executeBatchedOperations", "bindBatchedResponse");
+    private static final Set<String> REQUEST_KEY_FUNCTION_NAMES = Set.of("getRequestKey", "getCanonicalJsonString");
+    private static final Set<String> REQUEST_COALESCING_CLASS_NAMES = Set.of("RequestCoalescer", "InflightRequest");
+    private static final Set<String> REQUEST_COALESCING_FUNCTION_NAMES =
+            Set.of("sendCoalescedQuery", "executeCoalescedQuery", "getTimeoutResult");
+    private static final String CACHED_RESPONSE_TYPE_NAME = "CachedResponse";
+    private static final String QUERY_RESULT_TYPE_NAME = "QueryResult";
     private static UtilsGenerator utilsGenerator = null;
 
-    public static UtilsGenerator getInstance() {
+    public static synchronized UtilsGenerator getInstance() {
         if (utilsGenerator == null) {
             utilsGenerator = new UtilsGenerator();
         }
@@ -87,8 +91,21 @@ public class UtilsGenerator {
      * @throws UtilsGenerationException         when an utils code generation error occurs
      */
     public String generateSrc(AuthConfig authConfig) throws UtilsGenerationException {
+        return generateSrc(authConfig, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the utils file content with the given generation options.
+     *
+     * @param authConfig                        the object instance representing authentication config information
+     * @param options                           the options of the client generation
+     * @return                                  the utils file content
+     * @throws UtilsGenerationException         when an utils code generation error occurs
+     */
+    public String generateSrc(AuthConfig authConfig, ClientGenerationOptions options)
+            throws UtilsGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(authConfig)).toString();
+            return Formatter.format(generateSyntaxTree(authConfig, options)).toString();
         } catch (FormatterException | IOException e) {
             throw new UtilsGenerationException(e.getMessage());
         }
@@ -102,7 +119,22 @@ public class UtilsGenerator {
      * @throws IOException      If an I/O error occurs
      */
     public SyntaxTree generateSyntaxTree(AuthConfig authConfig) throws IOException {
-        NodeList<ImportDeclarationNode> importsList = generateImports();
+        return generateSyntaxTree(authConfig, new ClientGenerationOptions());
+    }
+
+    /**
+     * Generates the utils syntax tree with the given generation options. The functions executing the operations
+     * with the Automatic Persisted Queries protocol, the functions executing the queries with the HTTP GET method
+     * the batched operations, the coalescing of the concurrent identical queries and the response cache are included
+     * only if the respective options are enabled.
+     *
+     * @param authConfig        the object instance representing authentication config information
+     * @param options           the options of the client generation
+     * @return                  Syntax tree for the Ballerina utils file code
+     * @throws IOException      If an I/O error occurs
+     */
+    public SyntaxTree generateSyntaxTree(AuthConfig authConfig, ClientGenerationOptions options) throws IOException {
+        NodeList<ImportDeclarationNode> importsList = generateImports(options);
 
         List<ModuleMemberDeclarationNode> members =  new ArrayList<>();
         if (authConfig.isApiKeysConfig()) {
@@ -111,11 +143,7 @@ public class UtilsGenerator {
         members.add(getOperationResponseTypeDefinitionNode());
         members.add(getDataResponseTypeDefinitionNode());
 
-        Path path = getResourceFilePath();
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree utilSyntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
+        SyntaxTree utilSyntaxTree = TemplateStore.getInstance().getSyntaxTree(TemplateStore.UTILS_TEMPLATE);
 
         ModulePartNode utilModulePartNode = utilSyntaxTree.rootNode();
         NodeList<ModuleMemberDeclarationNode> memberDeclarationNodes = utilModulePartNode.members();
@@ -131,8 +159,34 @@ public class UtilsGenerator {
                         if (childNodeEntry.node().get().toString().equals("performDataBinding")) {
                             members.add(node);
                         }
+                        if (isHttpRequestFunction(childNodeEntry.node().get().toString(), options)) {
+                            members.add(node);
+                        }
+                        if ((options.isCoalesceRequests() || options.getResponseCache() != null) &&
+                                REQUEST_KEY_FUNCTION_NAMES.contains(childNodeEntry.node().get().toString())) {
+                            members.add(node);
+                        }
+                        if (options.isCoalesceRequests() &&
+                                REQUEST_COALESCING_FUNCTION_NAMES.contains(childNodeEntry.node().get().toString())) {
+                            members.add(node);
+                        }
                     }
                 }
+            } else if (options.isBatchOperations() && node.kind().equals(SyntaxKind.TYPE_DEFINITION) &&
+                    ((TypeDefinitionNode) node).typeName().text().equals(BATCH_OPERATION_TYPE_NAME)) {
+                members.add(node);
+            } else if (options.getResponseCache() != null && node.kind().equals(SyntaxKind.TYPE_DEFINITION) &&
+                    ((TypeDefinitionNode) node).typeName().text().equals(CACHED_RESPONSE_TYPE_NAME)) {
+                members.add(node);
+            } else if (options.isCoalesceRequests() && node.kind().equals(SyntaxKind.TYPE_DEFINITION) &&
+                    ((TypeDefinitionNode) node).typeName().text().equals(QUERY_RESULT_TYPE_NAME)) {
+                members.add(node);
+            } else if (options.isCoalesceRequests() && node.kind().equals(SyntaxKind.CLASS_DEFINITION) &&
+                    REQUEST_COALESCING_CLASS_NAMES.contains(((ClassDefinitionNode) node).className().text())) {
+                members.add(node);
+            } else if (options.getResponseCache() != null && node.kind().equals(SyntaxKind.CLASS_DEFINITION) &&
+                    ((ClassDefinitionNode) node).className().text().equals(RESPONSE_CACHE_CLASS_NAME)) {
+                members.add(node);
             }
         }
 
@@ -144,16 +198,52 @@ public class UtilsGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Checks whether a given function of the utils template sends the requests with the HTTP client and is required
+     * with the given generation options.
+     *
+     * @param functionName              the name of the function
+     * @param options                   the options of the client generation
+     * @return                          whether the function is required
+     */
+    private static boolean isHttpRequestFunction(String functionName, ClientGenerationOptions options) {
+        if (HTTP_REQUEST_FUNCTION_NAMES.contains(functionName)) {
+            return options.isHttpClientRequired();
+        }
+        if (PERSISTED_QUERY_FUNCTION_NAMES.contains(functionName)) {
+            return options.isPersistedQueries();
+        }
+        if (BATCH_OPERATION_FUNCTION_NAMES.contains(functionName)) {
+            return options.isBatchOperations();
+        }
+        return functionName.equals(HTTP_GET_QUERY_FUNCTION_NAME) && options.isHttpGetQueries();
+    }
+
     /**
      * Generates the imports in the utils file.
      *
+     * @param options                   the options of the client generation
      * @return                          the node list which represent imports in the utils file
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(ClientGenerationOptions options) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
                 CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
         imports.add(importForGraphql);
+        if (options.isHttpClientRequired()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.HTTP));
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.URL));
+        }
+        if (options.isCoalesceRequests()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.LANG_RUNTIME));
+        }
+        if (options.getResponseCache() != null) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.TIME));
+        }
         return createNodeList(imports);
     }
 
@@ -214,32 +304,4 @@ public class UtilsGenerator {
                 createToken(TYPE_KEYWORD), createIdentifierToken("DataResponse"), typeDescriptorNode,
                 createToken(SEMICOLON_TOKEN));
     }
-
-    /**
-     * Gets the path of the utils.bal template at the time of execution.
-     *
-     * @return                  Path to utils.bal file in the temporary directory created
-     * @throws  IOException     When failed to get the templates/utils.bal file from resources
-     */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_graphql.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    log.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
-        }
-        return path;
-    }
 }
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.graphql.generator.client.generator.graphql;
+
+import io.ballerina.graphql.generator.client.DocumentStore;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.NEW_LINE;
+
+/**
+ * This class is used to generate the persisted queries manifest of a client, which lists the query document of each
+ * operation along with its SHA-256 hash in the Apollo persisted query manifest format, so that the operations can
+ * be registered on the server before the client sends their hashes only.
+ */
+public class PersistedQueriesGenerator {
+    private static final String MANIFEST_FORMAT = "apollo-persisted-query-manifest";
+    private static final int MANIFEST_VERSION = 1;
+    private static final int INDENT_FACTOR = 2;
+    private static PersistedQueriesGenerator persistedQueriesGenerator = null;
+
+    public static synchronized PersistedQueriesGenerator getInstance() {
+        if (persistedQueriesGenerator == null) {
+            persistedQueriesGenerator = new PersistedQueriesGenerator();
+        }
+        return persistedQueriesGenerator;
+    }
+
+    /**
+     * Generates the persisted queries manifest content.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentStore                     the store holding the parsed query documents of the project
+     * @return                                  the persisted queries manifest content
+     * @throws ClientGenerationException        when a query document can not be read
+     */
+    public String generateSrc(List<String> queryDocuments, DocumentStore documentStore)
+            throws ClientGenerationException {
+        JSONArray operations = new JSONArray();
+        try {
+            for (String queryDocument : queryDocuments) {
+                for (ExtendedOperationDefinition queryDefinition :
+                        documentStore.getQueryReader(queryDocument).getExtendedOperationDefinitions()) {
+                    JSONObject operation = new JSONObject();
+                    operation.put("id", queryDefinition.getQueryStringHash());
+                    operation.put("name", queryDefinition.getName());
+                    operation.put("type", queryDefinition.getOperationType().toLowerCase(Locale.ENGLISH));
+                    operation.put("body", queryDefinition.getQueryString());
+                    operations.put(operation);
+                }
+            }
+        } catch (IOException e) {
+            throw new ClientGenerationException(e.getMessage());
+        }
+        JSONObject manifest = new JSONObject();
+        manifest.put("format", MANIFEST_FORMAT);
+        manifest.put("version", MANIFEST_VERSION);
+        manifest.put("operations", operations);
+        return manifest.toString(INDENT_FACTOR) + NEW_LINE;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.graphql;
+
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable index of the types of a GraphQL schema, built once per `GraphQLSchema` instance.
+ * <p>
+ * The index holds the type names bucketed by their kind and the Ballerina field types of every object and input
+ * object type, keyed by the escaped field names, so that the generators look them up in constant time instead of
+ * scanning the schema on every call. It also holds the input object types referenced by the fields of each input
+ * object type. The returned collections and field types are shared and must not be modified.
+ */
+public final class SchemaIndex {
+    private static final String INTROSPECTION_TYPE_PREFIX = "__";
+    private static final Map<GraphQLSchema, SchemaIndex> SCHEMA_INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<String> objectTypeNames = new ArrayList<>();
+    private final List<String> inputObjectTypeNames = new ArrayList<>();
+    private final List<String> enumTypeNames = new ArrayList<>();
+    private final List<String> customScalarTypeNames = new ArrayList<>();
+    private final Set<String> enumTypeNameSet;
+    private final Set<String> customScalarTypeNameSet;
+    private final Map<String, Map<String, FieldType>> objectTypeFieldsMaps = new HashMap<>();
+    private final Map<String, Map<String, FieldType>> inputTypeFieldsMaps = new HashMap<>();
+    private final Map<String, List<String>> inputTypeReferences = new HashMap<>();
+
+    private SchemaIndex(GraphQLSchema graphQLSchema) {
+        List<GraphQLObjectType> objectTypes = new ArrayList<>();
+        List<GraphQLInputObjectType> inputObjectTypes = new ArrayList<>();
+        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
+            String typeName = graphQLNamedType.getName();
+            boolean isIntrospectionType = typeName.startsWith(INTROSPECTION_TYPE_PREFIX);
+            if (graphQLNamedType instanceof GraphQLObjectType) {
+                objectTypes.add((GraphQLObjectType) graphQLNamedType);
+                if (!isIntrospectionType) {
+                    objectTypeNames.add(typeName);
+                }
+            } else if (graphQLNamedType instanceof GraphQLInputObjectType) {
+                inputObjectTypes.add((GraphQLInputObjectType) graphQLNamedType);
+                inputObjectTypeNames.add(typeName);
+            } else if (graphQLNamedType instanceof GraphQLEnumType && !isIntrospectionType) {
+                enumTypeNames.add(typeName);
+            } else if (graphQLNamedType instanceof GraphQLScalarType && !isIntrospectionType
+                    && !Utils.isPrimitiveScalarType(typeName)) {
+                customScalarTypeNames.add(typeName);
+            }
+        }
+        this.enumTypeNameSet = new HashSet<>(enumTypeNames);
+        this.customScalarTypeNameSet = new HashSet<>(customScalarTypeNames);
+
+        // Field types are resolved after bucketing the types, as resolving them requires the type kinds.
+        for (GraphQLObjectType objectType : objectTypes) {
+            Map<String, FieldType> fieldsMap = new HashMap<>();
+            for (GraphQLFieldDefinition field : objectType.getFields()) {
+                // Introspection types are built programmatically and have no SDL definitions.
+                if (field.getDefinition() != null) {
+                    fieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
+                            Utils.getFieldType(this, field.getDefinition().getType()));
+                }
+            }
+            objectTypeFieldsMaps.put(objectType.getName(), Collections.unmodifiableMap(fieldsMap));
+        }
+        for (GraphQLInputObjectType inputObjectType : inputObjectTypes) {
+            Map<String, FieldType> fieldsMap = new HashMap<>();
+            List<String> referencedTypeNames = new ArrayList<>();
+            for (GraphQLInputObjectField field : inputObjectType.getFields()) {
+                fieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
+                        Utils.getFieldType(this, field.getDefinition().getType()));
+                GraphQLNamedType fieldType = GraphQLTypeUtil.unwrapAll(field.getType());
+                if (fieldType instanceof GraphQLInputObjectType) {
+                    referencedTypeNames.add(fieldType.getName());
+                }
+            }
+            inputTypeFieldsMaps.put(inputObjectType.getName(), Collections.unmodifiableMap(fieldsMap));
+            inputTypeReferences.put(inputObjectType.getName(), Collections.unmodifiableList(referencedTypeNames));
+        }
+    }
+
+    /**
+     * Returns the index of a given GraphQL schema, building it on first access. The index is released along with
+     * the schema.
+     *
+     * @param graphQLSchema         the instance of the Graphql schema file
+     * @return                      the index of the schema
+     */
+    public static SchemaIndex of(GraphQLSchema graphQLSchema) {
+        return SCHEMA_INDEXES.computeIfAbsent(graphQLSchema, SchemaIndex::new);
+    }
+
+    public List<String> getObjectTypeNames() {
+        return Collections.unmodifiableList(objectTypeNames);
+    }
+
+    public List<String> getInputObjectTypeNames() {
+        return Collections.unmodifiableList(inputObjectTypeNames);
+    }
+
+    public List<String> getEnumTypeNames() {
+        return Collections.unmodifiableList(enumTypeNames);
+    }
+
+    public List<String> getCustomScalarTypeNames() {
+        return Collections.unmodifiableList(customScalarTypeNames);
+    }
+
+    public boolean isEnumType(String typeName) {
+        return enumTypeNameSet.contains(typeName);
+    }
+
+    public boolean isCustomScalarType(String typeName) {
+        return customScalarTypeNameSet.contains(typeName);
+    }
+
+    /**
+     * Gets the fields of a given object type.
+     *
+     * @param objectTypeName        the object type name
+     * @return                      the field types keyed by the escaped field names, an empty map if the schema has
+     *                              no object type with the given name
+     */
+    public Map<String, FieldType> getObjectTypeFieldsMap(String objectTypeName) {
+        return objectTypeFieldsMaps.getOrDefault(objectTypeName, Collections.emptyMap());
+    }
+
+    /**
+     * Gets the fields of a given input object type.
+     *
+     * @param inputObjectTypeName   the input object type name
+     * @return                      the field types keyed by the escaped field names, an empty map if the schema has
+     *                              no input object type with the given name
+     */
+    public Map<String, FieldType> getInputTypeFieldsMap(String inputObjectTypeName) {
+        return inputTypeFieldsMaps.getOrDefault(inputObjectTypeName, Collections.emptyMap());
+    }
+
+    /**
+     * Gets the input object types reachable from the given type names, i.e. the given input object types along with
+     * the input object types referenced by their fields, transitively.
+     *
+     * @param typeNames             the names of the types to start from, which may include types other than input
+     *                              object types
+     * @return                      the names of the reachable input object types, in the order of the schema
+     */
+    public List<String> getReachableInputObjectTypeNames(Collection<String> typeNames) {
+        Set<String> reachableTypeNames = new HashSet<>();
+        Deque<String> pendingTypeNames = new ArrayDeque<>(typeNames);
+        while (!pendingTypeNames.isEmpty()) {
+            String typeName = pendingTypeNames.pop();
+            List<String> referencedTypeNames = inputTypeReferences.get(typeName);
+            if (referencedTypeNames != null && reachableTypeNames.add(typeName)) {
+                pendingTypeNames.addAll(referencedTypeNames);
+            }
+        }
+        List<String> reachableInputObjectTypeNames = new ArrayList<>();
+        for (String inputObjectTypeName : inputObjectTypeNames) {
+            if (reachableTypeNames.contains(inputObjectTypeName)) {
+                reachableInputObjectTypeNames.add(inputObjectTypeName);
+            }
+        }
+        return reachableInputObjectTypeNames;
+    }
+}
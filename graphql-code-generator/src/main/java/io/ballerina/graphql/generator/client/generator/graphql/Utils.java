@@ -18,10 +18,12 @@
 
 package io.ballerina.graphql.generator.client.generator.graphql;
 
+import graphql.introspection.Introspection;
 import graphql.language.ListType;
 import graphql.language.NonNullType;
 import graphql.language.Type;
 import graphql.language.TypeName;
+import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
@@ -30,6 +32,7 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_FLOA
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_ID_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_INT_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_STRING_TYPE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.LAZY_DIRECTIVE_NAME;
 import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_ANYDATA_TYPE;
 import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_BOOLEAN_TYPE;
 import static io.ballerina.graphql.generator.client.generator.graphql.Constants.BALLERINA_FLOAT_TYPE;
@@ -40,6 +43,26 @@ import static io.ballerina.graphql.generator.client.generator.graphql.Constants.
  * Utility class for GraphQL schema (SDL) reader & GraphQL query reader.
  */
 public class Utils {
+    private static final GraphQLDirective LAZY_DIRECTIVE = GraphQLDirective.newDirective()
+            .name(LAZY_DIRECTIVE_NAME)
+            .description("Binds the items of a list field of the operation one at a time, when they are reached.")
+            .validLocation(Introspection.DirectiveLocation.FIELD)
+            .build();
+
+    /**
+     * Gets the given GraphQL schema along with the directives handled by the generated clients, e.g. `@lazy`, so that
+     * the documents using them pass the validation. These directives are removed from the documents sent to the
+     * GraphQL API.
+     *
+     * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
+     * @return                  the GraphQL schema with the client directives
+     */
+    public static GraphQLSchema getSchemaWithClientDirectives(GraphQLSchema graphQLSchema) {
+        if (graphQLSchema.getDirective(LAZY_DIRECTIVE_NAME) != null) {
+            return graphQLSchema;
+        }
+        return graphQLSchema.transform(builder -> builder.additionalDirective(LAZY_DIRECTIVE));
+    }
 
     /**
      * Gets the Ballerina type name for a given GraphQL type name.
@@ -49,10 +72,21 @@ public class Utils {
      * @return                  the Ballerina type name for a given GraphQL scalar type name
      */
     public static String getBallerinaTypeName(GraphQLSchema graphQLSchema, String graphqlTypeName) {
+        return getBallerinaTypeName(SchemaIndex.of(graphQLSchema), graphqlTypeName);
+    }
+
+    /**
+     * Gets the Ballerina type name for a given GraphQL type name.
+     *
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param graphqlTypeName   the GraphQL scalar type name
+     * @return                  the Ballerina type name for a given GraphQL scalar type name
+     */
+    public static String getBallerinaTypeName(SchemaIndex schemaIndex, String graphqlTypeName) {
         String ballerinaTypeName;
-        if (isCustomScalarType(graphQLSchema, graphqlTypeName)) {
+        if (schemaIndex.isCustomScalarType(graphqlTypeName)) {
             ballerinaTypeName = BALLERINA_ANYDATA_TYPE;
-        } else if (isEnumType(graphQLSchema, graphqlTypeName)) {
+        } else if (schemaIndex.isEnumType(graphqlTypeName)) {
             ballerinaTypeName = BALLERINA_STRING_TYPE;
         } else {
             switch (graphqlTypeName) {
@@ -84,47 +118,28 @@ public class Utils {
      * @return                  the string representation of Ballerina type for a given GraphQL field type
      */
     public static FieldType getFieldType(GraphQLSchema graphQLSchema, Type<?> type) {
+        return getFieldType(SchemaIndex.of(graphQLSchema), type);
+    }
+
+    /**
+     * Gets the representation of Ballerina field type for a given GraphQL field type.
+     *
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param type              the field type
+     * @return                  the string representation of Ballerina type for a given GraphQL field type
+     */
+    public static FieldType getFieldType(SchemaIndex schemaIndex, Type<?> type) {
         FieldType fieldType = new FieldType();
-        if (type instanceof TypeName) {
-            fieldType.setName(getBallerinaTypeName(graphQLSchema, ((TypeName) type).getName()));
-            fieldType.setTokens("?");
+        boolean nullable = !(type instanceof NonNullType);
+        Type<?> wrappedType = nullable ? type : ((NonNullType) type).getType();
+        if (wrappedType instanceof ListType) {
+            FieldType memberType = getFieldType(schemaIndex, ((ListType) wrappedType).getType());
+            fieldType.setName(memberType.getName());
+            fieldType.setTokens(memberType.getTokens() + "[]" + (nullable ? "?" : ""));
         }
-        if (type instanceof NonNullType) {
-            if (((NonNullType) type).getType() instanceof TypeName) {
-                fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                        ((TypeName) ((NonNullType) type).getType()).getName()));
-                fieldType.setTokens("");
-            }
-            if (((NonNullType) type).getType() instanceof ListType) {
-                if (((ListType) ((NonNullType) type).getType()).getType() instanceof TypeName) {
-                    fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                            ((TypeName) ((ListType) ((NonNullType) type).getType()).getType()).getName()));
-                    fieldType.setTokens("?[]");
-                }
-                if (((ListType) ((NonNullType) type).getType()).getType() instanceof NonNullType) {
-                    if (((NonNullType) ((ListType) ((NonNullType) type).getType()).getType())
-                            .getType() instanceof TypeName) {
-                        fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                                ((TypeName) ((NonNullType) ((ListType) ((NonNullType) type).getType()).getType())
-                                        .getType()).getName()));
-                        fieldType.setTokens("[]");
-                    }
-                }
-            }
-        }
-        if (type instanceof ListType) {
-            if (((ListType) type).getType() instanceof TypeName) {
-                fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                        ((TypeName) ((ListType) type).getType()).getName()));
-                fieldType.setTokens("?[]?");
-            }
-            if (((ListType) type).getType() instanceof NonNullType) {
-                if (((NonNullType) ((ListType) type).getType()).getType() instanceof TypeName) {
-                    fieldType.setName(getBallerinaTypeName(graphQLSchema,
-                            ((TypeName) ((NonNullType) ((ListType) type).getType()).getType()).getName()));
-                    fieldType.setTokens("[]?");
-                }
-            }
+        if (wrappedType instanceof TypeName) {
+            fieldType.setName(getBallerinaTypeName(schemaIndex, ((TypeName) wrappedType).getName()));
+            fieldType.setTokens(nullable ? "?" : "");
         }
         return fieldType;
     }
@@ -159,7 +174,7 @@ public class Utils {
      * @return                  whether a given GraphQL scalar type name is a primitive scalar type
      */
     public static Boolean isCustomScalarType(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        return SpecReader.getCustomScalarTypeNames(graphQLSchema).contains(graphqlTypeName);
+        return SchemaIndex.of(graphQLSchema).isCustomScalarType(graphqlTypeName);
     }
 
     /**
@@ -170,6 +185,6 @@ public class Utils {
      * @return                  whether a given GraphQL scalar type name is a primitive scalar type
      */
     public static Boolean isEnumType(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        return SpecReader.getEnumTypeNames(graphQLSchema).contains(graphqlTypeName);
+        return SchemaIndex.of(graphQLSchema).isEnumType(graphqlTypeName);
     }
 }
@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.graphql.generator.client.generator.graphql.components;
+
+import graphql.language.Argument;
+import graphql.language.Field;
+import graphql.language.NonNullType;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.VariableDefinition;
+import graphql.language.VariableReference;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * ExtendedConnectionDefinition class to extract the components of a query selecting a Relay-style connection, i.e.
+ * a field with the `first` and `after` arguments, whose type has the `edges { node }` and the
+ * `pageInfo { hasNextPage endCursor }` fields.
+ */
+public class ExtendedConnectionDefinition {
+    private static final String FIRST_ARGUMENT = "first";
+    private static final String AFTER_ARGUMENT = "after";
+    private static final String EDGES_FIELD = "edges";
+    private static final String NODE_FIELD = "node";
+    private static final String PAGE_INFO_FIELD = "pageInfo";
+    private static final String HAS_NEXT_PAGE_FIELD = "hasNextPage";
+    private static final String END_CURSOR_FIELD = "endCursor";
+
+    private final Field definition;
+    private final String nodeTypeName;
+    private final SelectionSet nodeSelectionSet;
+    private final String afterVariableName;
+
+    private ExtendedConnectionDefinition(Field definition, String nodeTypeName, SelectionSet nodeSelectionSet,
+                                         String afterVariableName) {
+        this.definition = definition;
+        this.nodeTypeName = nodeTypeName;
+        this.nodeSelectionSet = nodeSelectionSet;
+        this.afterVariableName = afterVariableName;
+    }
+
+    /**
+     * Gets the connection selected by a given query, if the query selects only a connection field, passes a
+     * nullable variable to its `after` argument, and selects the `edges { node }`, `pageInfo { hasNextPage }` and
+     * `pageInfo { endCursor }` fields of the connection without aliases.
+     *
+     * @param operationDefinition   the GraphQL operation definition
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the connection selected by the query, or {@code null} if it selects none
+     */
+    public static ExtendedConnectionDefinition from(OperationDefinition operationDefinition,
+                                                    GraphQLSchema graphQLSchema) {
+        if (operationDefinition.getOperation() != OperationDefinition.Operation.QUERY ||
+                graphQLSchema.getQueryType() == null ||
+                operationDefinition.getSelectionSet().getSelections().size() != 1 ||
+                !(operationDefinition.getSelectionSet().getSelections().get(0) instanceof Field)) {
+            return null;
+        }
+        Field field = (Field) operationDefinition.getSelectionSet().getSelections().get(0);
+        GraphQLFieldDefinition fieldDefinition = graphQLSchema.getQueryType().getFieldDefinition(field.getName());
+        if (fieldDefinition == null || fieldDefinition.getArgument(FIRST_ARGUMENT) == null ||
+                fieldDefinition.getArgument(AFTER_ARGUMENT) == null ||
+                GraphQLTypeUtil.unwrapNonNull(fieldDefinition.getType()) instanceof GraphQLList) {
+            return null;
+        }
+        GraphQLObjectType connectionType = getObjectType(fieldDefinition.getType());
+        GraphQLObjectType edgeType = getObjectType(getFieldType(connectionType, EDGES_FIELD));
+        GraphQLType nodeType = getFieldType(edgeType, NODE_FIELD);
+        GraphQLObjectType pageInfoType = getObjectType(getFieldType(connectionType, PAGE_INFO_FIELD));
+        if (nodeType == null || getFieldType(pageInfoType, HAS_NEXT_PAGE_FIELD) == null ||
+                getFieldType(pageInfoType, END_CURSOR_FIELD) == null) {
+            return null;
+        }
+
+        String afterVariableName = getAfterVariableName(operationDefinition, field);
+        Field nodeField = getSelectedField(getSelectedField(field.getSelectionSet(), EDGES_FIELD), NODE_FIELD);
+        Field pageInfoField = getSelectedField(field.getSelectionSet(), PAGE_INFO_FIELD);
+        if (afterVariableName == null || nodeField == null || nodeField.getSelectionSet() == null ||
+                getSelectedField(pageInfoField, HAS_NEXT_PAGE_FIELD) == null ||
+                getSelectedField(pageInfoField, END_CURSOR_FIELD) == null) {
+            return null;
+        }
+        return new ExtendedConnectionDefinition(field, GraphQLTypeUtil.unwrapAll(nodeType).getName(),
+                nodeField.getSelectionSet(), afterVariableName);
+    }
+
+    public ExtendedFieldDefinition getField() {
+        return new ExtendedFieldDefinition(this.definition);
+    }
+
+    /**
+     * Gets the key of the connection in the data of the response, i.e. the alias of the connection field, if any,
+     * or its name.
+     *
+     * @return                      the response key of the connection
+     */
+    public String getResponseKey() {
+        return this.definition.getResultKey();
+    }
+
+    public String getNodeTypeName() {
+        return this.nodeTypeName;
+    }
+
+    public SelectionSet getNodeSelectionSet() {
+        return this.nodeSelectionSet;
+    }
+
+    public String getAfterVariableName() {
+        return this.afterVariableName;
+    }
+
+    /**
+     * Gets the name of the nullable variable passed to the `after` argument of the connection field.
+     *
+     * @param operationDefinition   the GraphQL operation definition
+     * @param field                 the connection field
+     * @return                      the variable name, or {@code null} if the argument is not a nullable variable
+     */
+    private static String getAfterVariableName(OperationDefinition operationDefinition, Field field) {
+        for (Argument argument : field.getArguments()) {
+            if (AFTER_ARGUMENT.equals(argument.getName()) && argument.getValue() instanceof VariableReference) {
+                String variableName = ((VariableReference) argument.getValue()).getName();
+                for (VariableDefinition variableDefinition : operationDefinition.getVariableDefinitions()) {
+                    if (variableName.equals(variableDefinition.getName()) &&
+                            !(variableDefinition.getType() instanceof NonNullType)) {
+                        return variableName;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static GraphQLType getFieldType(GraphQLObjectType objectType, String fieldName) {
+        if (objectType == null || objectType.getFieldDefinition(fieldName) == null) {
+            return null;
+        }
+        return objectType.getFieldDefinition(fieldName).getType();
+    }
+
+    private static GraphQLObjectType getObjectType(GraphQLType type) {
+        if (type == null || !(GraphQLTypeUtil.unwrapAll(type) instanceof GraphQLObjectType)) {
+            return null;
+        }
+        return (GraphQLObjectType) GraphQLTypeUtil.unwrapAll(type);
+    }
+
+    private static Field getSelectedField(Field field, String fieldName) {
+        if (field == null) {
+            return null;
+        }
+        return getSelectedField(field.getSelectionSet(), fieldName);
+    }
+
+    private static Field getSelectedField(SelectionSet selectionSet, String fieldName) {
+        if (selectionSet == null) {
+            return null;
+        }
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof Field && fieldName.equals(((Field) selection).getName()) &&
+                    ((Field) selection).getAlias() == null) {
+                return (Field) selection;
+            }
+        }
+        return null;
+    }
+}
@@ -26,6 +26,8 @@ import graphql.language.SelectionSet;
 import java.util.ArrayList;
 import java.util.List;
 
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.LAZY_DIRECTIVE_NAME;
+
 /**
  * ExtendedFieldDefinition class to extract necessary components from an GraphQL FieldDefinition.
  */
@@ -53,6 +55,16 @@ public class ExtendedFieldDefinition {
         return extendedArgumentDefinitions;
     }
 
+    /**
+     * Returns `true` if the field has the `@lazy` client directive, i.e. the items of the list are bound one at a
+     * time when they are reached, instead of all at once along with the response.
+     *
+     * @return                      whether the items of the field are bound lazily
+     */
+    public boolean isLazy() {
+        return this.definition.hasDirective(LAZY_DIRECTIVE_NAME);
+    }
+
     public SelectionSet getSelectionSet() {
         return this.definition.getSelectionSet();
     }
@@ -20,25 +20,52 @@ package io.ballerina.graphql.generator.client.generator.graphql.components;
 
 import graphql.language.AstPrinter;
 import graphql.language.Definition;
+import graphql.language.Directive;
 import graphql.language.Document;
 import graphql.language.Field;
 import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
 import graphql.language.OperationDefinition;
 import graphql.language.Selection;
+import graphql.language.SelectionSet;
 import graphql.language.VariableDefinition;
+import graphql.schema.GraphQLAppliedDirective;
+import graphql.schema.GraphQLAppliedDirectiveArgument;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLDirectiveContainer;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import graphql.schema.idl.TypeUtil;
 import io.ballerina.graphql.generator.client.generator.graphql.Utils;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHE_CONTROL_DIRECTIVE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHE_CONTROL_MAX_AGE_ARG_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.LAZY_DIRECTIVE_NAME;
 
 /**
  * ExtendedOperationDefinition class to extract necessary components from an GraphQL OperationDefinition.
  */
 public class ExtendedOperationDefinition {
+    private static final String SHA_256 = "SHA-256";
+
     private final OperationDefinition definition;
     private final Document queryFileAst;
 
@@ -63,6 +90,19 @@ public class ExtendedOperationDefinition {
         return variableDefinitions;
     }
 
+    /**
+     * Gets the names of the types of the variables of the operation, without the list and non-null wrappers.
+     *
+     * @return                      the variable type names
+     */
+    public List<String> getVariableTypeNames() {
+        List<String> variableTypeNames = new ArrayList<>();
+        for (VariableDefinition variableDefinition:this.definition.getVariableDefinitions()) {
+            variableTypeNames.add(TypeUtil.unwrapAll(variableDefinition.getType()).getName());
+        }
+        return variableTypeNames;
+    }
+
     public Map<String, FieldType> getVariableDefinitionsMap(GraphQLSchema graphQLSchema) {
         Map<String, FieldType> variableDefinitionsMap = new HashMap<>();
         for (VariableDefinition variableDefinition:this.definition.getVariableDefinitions()) {
@@ -82,10 +122,234 @@ public class ExtendedOperationDefinition {
         return fieldDefinitionList;
     }
 
+    /**
+     * Returns `true` if any root field of the operation has the `@lazy` client directive. The fragments selected at
+     * the root of the operation have no lazily bound fields.
+     *
+     * @return                      whether the operation has lazily bound fields
+     */
+    public boolean hasLazyFields() {
+        for (Selection<?> selection : this.definition.getSelectionSet().getSelections()) {
+            if (selection instanceof Field && ((Field) selection).hasDirective(LAZY_DIRECTIVE_NAME)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the Relay-style connection selected by the operation, whose nodes can be iterated over page by page.
+     *
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the connection selected by the operation, or {@code null} if it selects none
+     */
+    public ExtendedConnectionDefinition getConnectionDefinition(GraphQLSchema graphQLSchema) {
+        return ExtendedConnectionDefinition.from(this.definition, graphQLSchema);
+    }
+
+    /**
+     * Gets the maximum age of the response of the query hinted with the `@cacheControl` directive in the schema, i.e.
+     * the lowest `maxAge` hinted on the selected fields, or on their types. As in the `@cacheControl` convention, a
+     * selected field of an object, interface or union type without a hint has a `maxAge` of 0, while a field of a
+     * scalar or enum type inherits the `maxAge` of its parent. The response has no hint unless each root selection
+     * of the query is a field which, or whose type, has a hint.
+     *
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the hinted maximum age in seconds, or {@code null} if the response has no hint
+     */
+    public Integer getCacheControlMaxAge(GraphQLSchema graphQLSchema) {
+        if (this.definition.getOperation() != OperationDefinition.Operation.QUERY) {
+            return null;
+        }
+        for (Selection<?> selection : this.definition.getSelectionSet().getSelections()) {
+            if (!(selection instanceof Field)) {
+                return null;
+            }
+            Field field = (Field) selection;
+            GraphQLFieldDefinition fieldDefinition = graphQLSchema.getQueryType().getFieldDefinition(field.getName());
+            if (!field.getName().startsWith("__") &&
+                    (fieldDefinition == null || getCacheControlMaxAge(fieldDefinition) == null)) {
+                return null;
+            }
+        }
+        Map<String, FragmentDefinition> fragmentDefinitionsMap = new HashMap<>();
+        for (FragmentDefinition fragmentDefinition : getReferencedFragmentDefinitions()) {
+            fragmentDefinitionsMap.put(fragmentDefinition.getName(), fragmentDefinition);
+        }
+        return getLowestCacheControlMaxAge(this.definition.getSelectionSet(), graphQLSchema.getQueryType(),
+                fragmentDefinitionsMap, graphQLSchema);
+    }
+
+    /**
+     * Gets the compact query string of the operation, which embeds only the fragments used by the operation.
+     *
+     * @return                      the compact query string
+     */
     public String getQueryString() {
+        return printQueryString(getReferencedFragmentDefinitions());
+    }
+
+    /**
+     * Gets the SHA-256 hash of the compact query string of the operation, which identifies the operation in the
+     * Automatic Persisted Queries protocol.
+     *
+     * @return                      the lowercase hex encoded hash of the UTF-8 bytes of the query string
+     */
+    public String getQueryStringHash() {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256)
+                    .digest(getQueryString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the compact query string of the operation along with all the fragments of its document file, regardless
+     * of whether they are used by the operation.
+     *
+     * @return                      the compact query string with all the fragments of the document
+     */
+    public String getQueryStringWithAllFragments() {
+        return printQueryString(this.queryFileAst.getDefinitionsOfType(FragmentDefinition.class));
+    }
+
+    /**
+     * Gets the fragments used by the operation, i.e. the fragments spread in its selection set, including the ones
+     * spread within inline fragments, and the fragments spread by them, transitively.
+     *
+     * @return                      the used fragment definitions, in the order of the document
+     */
+    public List<FragmentDefinition> getReferencedFragmentDefinitions() {
         List<FragmentDefinition> fragmentDefinitions = this.queryFileAst.getDefinitionsOfType(FragmentDefinition.class);
+        Map<String, FragmentDefinition> fragmentDefinitionsMap = new HashMap<>();
+        for (FragmentDefinition fragmentDefinition : fragmentDefinitions) {
+            fragmentDefinitionsMap.put(fragmentDefinition.getName(), fragmentDefinition);
+        }
+        Set<String> referencedFragmentNames = new HashSet<>();
+        Deque<SelectionSet> pendingSelectionSets = new ArrayDeque<>();
+        pendingSelectionSets.push(this.definition.getSelectionSet());
+        while (!pendingSelectionSets.isEmpty()) {
+            for (Selection<?> selection : pendingSelectionSets.pop().getSelections()) {
+                if (selection instanceof Field && ((Field) selection).getSelectionSet() != null) {
+                    pendingSelectionSets.push(((Field) selection).getSelectionSet());
+                } else if (selection instanceof InlineFragment) {
+                    pendingSelectionSets.push(((InlineFragment) selection).getSelectionSet());
+                } else if (selection instanceof FragmentSpread) {
+                    FragmentDefinition fragmentDefinition =
+                            fragmentDefinitionsMap.get(((FragmentSpread) selection).getName());
+                    if (fragmentDefinition != null && referencedFragmentNames.add(fragmentDefinition.getName())) {
+                        pendingSelectionSets.push(fragmentDefinition.getSelectionSet());
+                    }
+                }
+            }
+        }
+        List<FragmentDefinition> referencedFragmentDefinitions = new ArrayList<>();
+        for (FragmentDefinition fragmentDefinition : fragmentDefinitions) {
+            if (referencedFragmentNames.contains(fragmentDefinition.getName())) {
+                referencedFragmentDefinitions.add(fragmentDefinition);
+            }
+        }
+        return referencedFragmentDefinitions;
+    }
+
+    private static Integer getLowestCacheControlMaxAge(SelectionSet selectionSet, GraphQLType parentType,
+                                                       Map<String, FragmentDefinition> fragmentDefinitionsMap,
+                                                       GraphQLSchema graphQLSchema) {
+        Integer maxAge = null;
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof Field && parentType instanceof GraphQLFieldsContainer) {
+                Field field = (Field) selection;
+                GraphQLFieldDefinition fieldDefinition =
+                        ((GraphQLFieldsContainer) parentType).getFieldDefinition(field.getName());
+                if (fieldDefinition == null) {
+                    continue;
+                }
+                Integer fieldMaxAge = getCacheControlMaxAge(fieldDefinition);
+                if (fieldMaxAge == null &&
+                        GraphQLTypeUtil.unwrapAll(fieldDefinition.getType()) instanceof GraphQLCompositeType) {
+                    fieldMaxAge = 0;
+                }
+                maxAge = getLowerMaxAge(maxAge, fieldMaxAge);
+                if (field.getSelectionSet() != null) {
+                    maxAge = getLowerMaxAge(maxAge, getLowestCacheControlMaxAge(field.getSelectionSet(),
+                            GraphQLTypeUtil.unwrapAll(fieldDefinition.getType()), fragmentDefinitionsMap,
+                            graphQLSchema));
+                }
+            } else if (selection instanceof InlineFragment) {
+                InlineFragment inlineFragment = (InlineFragment) selection;
+                GraphQLType type = inlineFragment.getTypeCondition() != null ?
+                        graphQLSchema.getType(inlineFragment.getTypeCondition().getName()) : parentType;
+                maxAge = getLowerMaxAge(maxAge, getLowestCacheControlMaxAge(inlineFragment.getSelectionSet(), type,
+                        fragmentDefinitionsMap, graphQLSchema));
+            } else if (selection instanceof FragmentSpread) {
+                FragmentDefinition fragmentDefinition =
+                        fragmentDefinitionsMap.get(((FragmentSpread) selection).getName());
+                if (fragmentDefinition != null) {
+                    maxAge = getLowerMaxAge(maxAge, getLowestCacheControlMaxAge(fragmentDefinition.getSelectionSet(),
+                            graphQLSchema.getType(fragmentDefinition.getTypeCondition().getName()),
+                            fragmentDefinitionsMap, graphQLSchema));
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    /**
+     * Gets the `maxAge` hinted with the `@cacheControl` directive on a field, or else on the type of the field.
+     */
+    private static Integer getCacheControlMaxAge(GraphQLFieldDefinition fieldDefinition) {
+        GraphQLAppliedDirective directive = fieldDefinition.getAppliedDirective(CACHE_CONTROL_DIRECTIVE_NAME);
+        GraphQLType type = GraphQLTypeUtil.unwrapAll(fieldDefinition.getType());
+        if (directive == null && type instanceof GraphQLDirectiveContainer) {
+            directive = ((GraphQLDirectiveContainer) type).getAppliedDirective(CACHE_CONTROL_DIRECTIVE_NAME);
+        }
+        if (directive == null) {
+            return null;
+        }
+        GraphQLAppliedDirectiveArgument maxAgeArgument = directive.getArgument(CACHE_CONTROL_MAX_AGE_ARG_NAME);
+        Object maxAge = maxAgeArgument != null ? maxAgeArgument.getValue() : null;
+        return maxAge instanceof Number ? ((Number) maxAge).intValue() : null;
+    }
+
+    private static Integer getLowerMaxAge(Integer maxAge, Integer otherMaxAge) {
+        if (maxAge == null || otherMaxAge == null) {
+            return maxAge != null ? maxAge : otherMaxAge;
+        }
+        return Math.min(maxAge, otherMaxAge);
+    }
+
+    private String printQueryString(List<FragmentDefinition> fragmentDefinitions) {
         List<Definition> definitionArrayList = new ArrayList<>(fragmentDefinitions);
-        Document document = Document.newDocument().definitions(definitionArrayList).definition(this.definition).build();
+        Document document = Document.newDocument().definitions(definitionArrayList)
+                .definition(getDefinitionWithoutClientDirectives()).build();
         return AstPrinter.printAstCompact(document);
     }
+
+    /**
+     * Gets the operation definition without the client directives, which are handled by the generated client and
+     * are unknown to the GraphQL API. The client directives are allowed only on the fields of the operation itself.
+     */
+    private OperationDefinition getDefinitionWithoutClientDirectives() {
+        if (!hasLazyFields()) {
+            return this.definition;
+        }
+        List<Selection> selections = new ArrayList<>();
+        for (Selection<?> selection : this.definition.getSelectionSet().getSelections()) {
+            if (!(selection instanceof Field)) {
+                selections.add(selection);
+                continue;
+            }
+            Field field = (Field) selection;
+            List<Directive> directives = new ArrayList<>();
+            for (Directive directive : field.getDirectives()) {
+                if (!directive.getName().equals(LAZY_DIRECTIVE_NAME)) {
+                    directives.add(directive);
+                }
+            }
+            selections.add(field.transform(builder -> builder.directives(directives)));
+        }
+        return this.definition.transform(builder -> builder.selectionSet(
+                SelectionSet.newSelectionSet(selections).build()));
+    }
 }
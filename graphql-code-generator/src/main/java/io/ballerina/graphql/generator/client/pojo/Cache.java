@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.graphql.generator.client.pojo;
+
+import java.util.Map;
+
+/**
+ * POJO class representing the response cache configuration in the extensions of a project in GraphQL config file.
+ */
+public class Cache {
+    private Integer maxEntries;
+    private Integer defaultTtl;
+    private Map<String, Integer> operations;
+
+    /**
+     * Returns the maximum number of responses cached by a generated client.
+     *
+     * @return {@link Integer}    the maximum number of cached responses, `null` if not configured
+     */
+    public Integer getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(Integer maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the time-to-live in seconds of the responses of the queries which have neither a time-to-live of
+     * their own nor a `@cacheControl` hint in the schema.
+     *
+     * @return {@link Integer}    the default time-to-live in seconds, `null` if not configured
+     */
+    public Integer getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(Integer defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Returns the time-to-live in seconds of the responses of each query, by the name of the query.
+     *
+     * @return {@link Map}        the time-to-live of the queries, `null` if not configured
+     */
+    public Map<String, Integer> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(Map<String, Integer> operations) {
+        this.operations = operations;
+    }
+}
@@ -23,6 +23,9 @@ package io.ballerina.graphql.generator.client.pojo;
  */
 public class Extension {
     private Endpoints endpoints;
+    private String queryMethod;
+    private boolean responseExtensions;
+    private Cache cache;
 
     public Endpoints getEndpoints() {
         return endpoints;
@@ -31,4 +34,46 @@ public class Extension {
     public void setEndpoints(Endpoints endpoints) {
         this.endpoints = endpoints;
     }
+
+    /**
+     * Returns the HTTP method with which the generated client executes the query operations, i.e. `GET` or `POST`.
+     * Mutations are always executed with `POST`.
+     *
+     * @return {@link String}    the HTTP method of the query operations, `null` if not configured
+     */
+    public String getQueryMethod() {
+        return queryMethod;
+    }
+
+    public void setQueryMethod(String queryMethod) {
+        this.queryMethod = queryMethod;
+    }
+
+    /**
+     * Returns `true` if the `extensions` of the GraphQL responses are bound to the `__extensions` field of the
+     * response records of the operations.
+     *
+     * @return {@link boolean}    value of the flag responseExtensions
+     */
+    public boolean isResponseExtensions() {
+        return responseExtensions;
+    }
+
+    public void setResponseExtensions(boolean responseExtensions) {
+        this.responseExtensions = responseExtensions;
+    }
+
+    /**
+     * Returns the configuration of the response cache of the generated client, which caches the responses of the
+     * queries for their time-to-live.
+     *
+     * @return {@link Cache}    the response cache configuration, `null` if the responses are not cached
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
 }
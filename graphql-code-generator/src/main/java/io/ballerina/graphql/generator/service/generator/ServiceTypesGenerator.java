@@ -102,7 +102,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createCommentMinutiae;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEndOfLineMinutiae;
@@ -181,8 +180,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
 
     public String generateSrc(GraphQLSchema schema) throws ServiceGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schema)).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return Formatter.format(this.generateSyntaxTree(schema)).toString();
         } catch (FormatterException e) {
             throw new ServiceGenerationException(ServiceDiagnosticMessages.GRAPHQL_SERVICE_GEN_102, null,
                     e.getMessage());
@@ -545,7 +543,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
         MinutiaeList resourceLeadingMinutiaeList = createEmptyMinutiaeList();
         if (addAdditionalNewLine) {
             resourceLeadingMinutiaeList =
-                    resourceLeadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+                    resourceLeadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
         }
         NodeList<Token> qualifierResource = createNodeList(createToken(SyntaxKind.RESOURCE_KEYWORD,
                 resourceLeadingMinutiaeList,
@@ -718,7 +716,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
         List<Node> markdownDocumentationLines = new ArrayList<>();
         MinutiaeList leadingMinutiaeList = createEmptyMinutiaeList();
         if (addNewLineInFront) {
-            leadingMinutiaeList = leadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+            leadingMinutiaeList = leadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
             addNewLineInFront = false;
         }
         markdownDocumentationLines.add(
@@ -756,7 +754,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
             (String descriptionLine, String argumentName, boolean addNewLineInFront) {
         MinutiaeList leadingMinutiaeList = createEmptyMinutiaeList();
         if (addNewLineInFront) {
-            leadingMinutiaeList = leadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+            leadingMinutiaeList = leadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
         }
         LiteralValueToken parameterName =
                 createLiteralValueToken(SyntaxKind.PARAMETER_NAME, argumentName, createEmptyMinutiaeList(),
@@ -790,7 +788,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
                                                                             boolean addNewLineInFront) {
         MinutiaeList leadingMinutiaeList = createEmptyMinutiaeList();
         if (addNewLineInFront) {
-            leadingMinutiaeList = leadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+            leadingMinutiaeList = leadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
         }
         return createMarkdownDocumentationLineNode(SyntaxKind.MARKDOWN_DOCUMENTATION_LINE,
                 createToken(SyntaxKind.HASH_TOKEN, leadingMinutiaeList, createEmptyMinutiaeList()), createNodeList(
@@ -38,12 +38,20 @@ import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -57,13 +65,18 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOCUMENTATION_DESCRIP
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.HASH_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.MARKDOWN_DOCUMENTATION_LINE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.BAL_KEYWORDS;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATION_FUNCTION_SUFFIX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_CLASS_PREFIX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_NODE_TYPE_SUFFIX;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_STREAM_FUNCTION_SUFFIX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ESCAPE_PATTERN;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.IMPORT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.LINE_SEPARATOR;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODULES_PATH;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.OPERATION_DOCUMENT_CONST_SUFFIX;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.OPERATION_DOCUMENT_HASH_CONST_SUFFIX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SEMICOLON;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SLASH;
@@ -74,6 +87,10 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
  * Utility class for GraphQL code generation.
  */
 public class CodeGeneratorUtils {
+    private static final String SHA_256 = "SHA-256";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * Gets the document name for a given document.
      *
@@ -136,6 +153,63 @@ public class CodeGeneratorUtils {
         }
     }
 
+    /**
+     * Writes a file with content to specified {@code filePath}, unless the file already has the same content. An
+     * unchanged file keeps its modification time, so that the build caches depending on it remain valid. A changed
+     * file is replaced atomically, so that a reader never observes a partially written file.
+     *
+     * @param filePath valid file path to write the content
+     * @param content  content of the file
+     * @return {@code true} if the file was written, {@code false} if it already had the same content
+     * @throws IOException If an I/O error occurs
+     */
+    public static boolean writeFileIfChanged(Path filePath, String content) throws IOException {
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        if (hasContent(filePath, contentBytes)) {
+            return false;
+        }
+        Path tempFile = filePath.resolveSibling("." + filePath.getFileName() + "." + UUID.randomUUID() +
+                TEMP_FILE_EXTENSION);
+        try {
+            Files.write(tempFile, contentBytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            try {
+                Files.move(tempFile, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given file has the given content, comparing the file sizes first and then the SHA-256
+     * hashes, without reading the whole file into memory.
+     */
+    private static boolean hasContent(Path filePath, byte[] content) throws IOException {
+        if (!Files.isRegularFile(filePath) || Files.size(filePath) != content.length) {
+            return false;
+        }
+        MessageDigest fileDigest = getMessageDigest();
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                fileDigest.update(buffer, 0, count);
+            }
+        }
+        return MessageDigest.isEqual(fileDigest.digest(), getMessageDigest().digest(content));
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
 
     /**
@@ -201,10 +275,91 @@ public class CodeGeneratorUtils {
      * @return                 the remote function return type name
      */
     public static String getRemoteFunctionBodyReturnTypeName(String operationName) {
-        return "<" + operationName.substring(0, 1).toUpperCase() +
-                operationName.substring(1) + "Response> check " +
-                "performDataBinding(graphqlResponse, " + operationName.substring(0, 1).toUpperCase() +
-                operationName.substring(1) + "Response)";
+        return getRemoteFunctionBodyReturnTypeName(operationName, false);
+    }
+
+    /**
+     * Gets the remote function body return type name, which binds the {@code extensions} of the response as well
+     * if required.
+     *
+     * @param operationName    the name of the operation
+     * @param bindExtensions   whether the {@code extensions} of the response are bound to the response record
+     * @return                 the remote function return type name
+     */
+    public static String getRemoteFunctionBodyReturnTypeName(String operationName, boolean bindExtensions) {
+        String responseTypeName = getResponseTypeName(operationName);
+        return "<" + responseTypeName + "> check performDataBinding(graphqlResponse, " + responseTypeName +
+                (bindExtensions ? ", true)" : ")");
+    }
+
+    /**
+     * Gets the name of the response type of an operation, e.g. {@code CountryResponse} for the {@code country}
+     * operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the response type name
+     */
+    public static String getResponseTypeName(String operationName) {
+        return operationName.substring(0, 1).toUpperCase() + operationName.substring(1) + "Response";
+    }
+
+    /**
+     * Gets the name of the module-level function creating the operation of a batched request, e.g.
+     * {@code countryOperation} for the {@code country} operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the function name
+     */
+    public static String getBatchOperationFunctionName(String operationName) {
+        return operationName + BATCH_OPERATION_FUNCTION_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the remote function iterating over the nodes of the connection selected by an operation, e.g.
+     * {@code countriesStream} for the {@code countries} operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the function name
+     */
+    public static String getConnectionStreamFunctionName(String operationName) {
+        return operationName + CONNECTION_STREAM_FUNCTION_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the type of the nodes of the connection selected by an operation, e.g.
+     * {@code CountriesNode} for the {@code countries} operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the node type name
+     */
+    public static String getConnectionNodeTypeName(String operationName) {
+        return operationName.substring(0, 1).toUpperCase() + operationName.substring(1) + CONNECTION_NODE_TYPE_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the module-level constant holding the query document of an operation, e.g.
+     * {@code COUNTRY_BY_CODE_DOCUMENT} for the {@code countryByCode} operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the constant name
+     */
+    public static String getOperationDocumentConstantName(String operationName) {
+        return getOperationConstantPrefix(operationName) + OPERATION_DOCUMENT_CONST_SUFFIX;
+    }
+
+    /**
+     * Gets the name of the module-level constant holding the SHA-256 hash of the query document of an operation,
+     * e.g. {@code COUNTRY_BY_CODE_DOCUMENT_HASH} for the {@code countryByCode} operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the constant name
+     */
+    public static String getOperationDocumentHashConstantName(String operationName) {
+        return getOperationConstantPrefix(operationName) + OPERATION_DOCUMENT_HASH_CONST_SUFFIX;
+    }
+
+    private static String getOperationConstantPrefix(String operationName) {
+        return operationName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ENGLISH);
     }
 
     public static MetadataNode getMetadataNode(String comment) {
@@ -33,7 +33,7 @@ public final class NullLocation implements Location {
     private NullLocation() {
     }
 
-    public static NullLocation getInstance() {
+    public static synchronized NullLocation getInstance() {
         if (nullLocation == null) {
             nullLocation = new NullLocation();
         }